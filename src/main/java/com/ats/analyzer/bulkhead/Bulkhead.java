@@ -0,0 +1,238 @@
+package com.ats.analyzer.bulkhead;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrency limit with a bounded wait queue, for one execution lane.
+ *
+ * At most maxConcurrent callers hold a permit; up to maxQueued more wait
+ * for one, each for at most maxWait. Anyone beyond that, or waiting
+ * longer, is refused with a BulkheadFullException instead of tying up its
+ * thread, so a saturated lane sheds load rather than growing a backlog
+ * that starves the others. Permits are handed out in arrival order.
+ *
+ * Background workers (acquireBackground) take permits from the same limit
+ * but wait for as long as it takes; their own pool bounds how many do.
+ *
+ * Callers run on their own thread; the lane only bounds how many do so at
+ * once. Thread-safe.
+ */
+public final class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger queuedBackground = new AtomicInteger();
+
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder holdNanos = new LongAdder();
+    private final LongAccumulator peakActive = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator peakQueued = new LongAccumulator(Math::max, 0);
+
+    /**
+     * @param maxQueued    Callers that may wait for a permit; 0 refuses at
+     *                     once when all permits are taken
+     * @param maxWaitNanos Longest wait for a permit
+     */
+    public Bulkhead(String name, int maxConcurrent, int maxQueued, long maxWaitNanos) {
+        if (maxConcurrent < 1 || maxQueued < 0 || maxWaitNanos < 0) {
+            throw new IllegalArgumentException("Lane " + name
+                    + " needs concurrency >= 1, queue >= 0 and a non-negative max wait");
+        }
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+        this.maxWaitNanos = maxWaitNanos;
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getMaxQueued() {
+        return maxQueued;
+    }
+
+    /**
+     * Take a permit, waiting in the queue if there is room. Release it in a
+     * finally block.
+     *
+     * @throws BulkheadFullException if the queue is full or the wait ran
+     *                               out
+     */
+    public Permit acquire() {
+        long start = System.nanoTime();
+        try {
+            // The timed tryAcquire honors the fair order; the untimed one
+            // would barge past callers already waiting
+            if (!permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                waitForPermit(start);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejected.increment();
+            throw full("wait was interrupted");
+        }
+        return admit();
+    }
+
+    /**
+     * Take a permit for a background worker (bulk or async analysis),
+     * waiting in arrival order however long it takes. Such a caller has no
+     * client to answer with a 503 and would only turn a busy lane into a
+     * failed item, so it neither takes a queue slot nor times out.
+     *
+     * @throws BulkheadFullException only if the wait was interrupted
+     */
+    public Permit acquireBackground() {
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                queuedBackground.incrementAndGet();
+                try {
+                    permits.acquire();
+                } finally {
+                    queuedBackground.decrementAndGet();
+                }
+                waitNanos.add(System.nanoTime() - start);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejected.increment();
+            throw full("wait was interrupted");
+        }
+        return admit();
+    }
+
+    private Permit admit() {
+        admitted.increment();
+        peakActive.accumulate(active());
+        return new Permit(System.nanoTime());
+    }
+
+    private void waitForPermit(long start) throws InterruptedException {
+        int waiting = queued.incrementAndGet();
+        if (waiting > maxQueued) {
+            queued.decrementAndGet();
+            rejected.increment();
+            throw full("is full");
+        }
+        peakQueued.accumulate(waiting);
+        try {
+            if (!permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                timedOut.increment();
+                throw full("timed out");
+            }
+            waitNanos.add(System.nanoTime() - start);
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+
+    public int active() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int queued() {
+        return queued.get();
+    }
+
+    /**
+     * Background workers waiting for a permit (not limited by the queue).
+     */
+    public int queuedBackground() {
+        return queuedBackground.get();
+    }
+
+    /**
+     * Lane occupancy and counters: limit, queueCapacity, active, queued,
+     * queuedBackground, saturation (active / limit, in percent), peakActive,
+     * peakQueued, admitted, rejected, timedOut, meanWaitMicros,
+     * meanHoldMicros.
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        int active = active();
+        long admittedCount = admitted.sum();
+        stats.put("limit", maxConcurrent);
+        stats.put("queueCapacity", maxQueued);
+        stats.put("active", active);
+        stats.put("queued", queued());
+        stats.put("queuedBackground", queuedBackground());
+        stats.put("saturation", 100 * active / maxConcurrent);
+        stats.put("peakActive", peakActive.get());
+        stats.put("peakQueued", peakQueued.get());
+        stats.put("admitted", admittedCount);
+        stats.put("rejected", rejected.sum());
+        stats.put("timedOut", timedOut.sum());
+        stats.put("meanWaitMicros", admittedCount == 0 ? 0 : waitNanos.sum() / admittedCount / 1000);
+        stats.put("meanHoldMicros", admittedCount == 0 ? 0 : holdNanos.sum() / admittedCount / 1000);
+        return stats;
+    }
+
+    /**
+     * Zero the counters and peaks; permits held are not affected.
+     */
+    public void resetStats() {
+        admitted.reset();
+        rejected.reset();
+        timedOut.reset();
+        waitNanos.reset();
+        holdNanos.reset();
+        peakActive.reset();
+        peakQueued.reset();
+    }
+
+    /**
+     * Seconds until a refused caller is likely to get in: the queue ahead
+     * times the mean hold time, over the permits (at least one second).
+     */
+    private long retryAfterSeconds() {
+        long admittedCount = admitted.sum();
+        double meanHoldSeconds = admittedCount > 0 ? holdNanos.sum() / 1e9 / admittedCount : 1;
+        return Math.max(1, (long) Math.ceil((queued() + 1) * meanHoldSeconds / maxConcurrent));
+    }
+
+    private BulkheadFullException full(String reason) {
+        return new BulkheadFullException("The " + name + " lane " + reason + " (" + maxConcurrent
+                + " running, " + maxQueued + " queued). Please retry later.", name, retryAfterSeconds());
+    }
+
+    /**
+     * A held permit; releasing it more than once has no further effect.
+     */
+    public final class Permit {
+
+        private final long acquiredAt;
+        private boolean released;
+
+        private Permit(long acquiredAt) {
+            this.acquiredAt = acquiredAt;
+        }
+
+        public void release() {
+            if (!released) {
+                released = true;
+                holdNanos.add(System.nanoTime() - acquiredAt);
+                permits.release();
+            }
+        }
+    }
+}
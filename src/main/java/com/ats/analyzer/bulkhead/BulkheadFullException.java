@@ -0,0 +1,30 @@
+package com.ats.analyzer.bulkhead;
+
+/**
+ * An execution lane refused work: its permits and queue are taken, or the
+ * wait for a permit ran out.
+ */
+public class BulkheadFullException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String lane;
+    private final long retryAfterSeconds;
+
+    public BulkheadFullException(String message, String lane, long retryAfterSeconds) {
+        super(message);
+        this.lane = lane;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public String getLane() {
+        return lane;
+    }
+
+    /**
+     * Estimated seconds until the lane has room, for Retry-After.
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
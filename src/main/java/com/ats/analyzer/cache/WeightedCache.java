@@ -0,0 +1,163 @@
+package com.ats.analyzer.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * LRU cache bounded by total entry weight (approximate bytes), with a
+ * time-to-live per entry.
+ *
+ * An access-ordered LinkedHashMap under one lock: lookups and inserts are
+ * O(1) and values are computed by the caller outside the lock, so two
+ * concurrent misses on one key may both compute (the second put wins).
+ * Entries heavier than the whole budget are not stored. Expired entries are
+ * dropped when looked up or when they reach the LRU end.
+ */
+public final class WeightedCache<K, V> {
+
+    private final long maxWeight;
+    private final long ttlNanos;
+    private final ToLongFunction<V> weigher;
+    private final LongSupplier clock;
+
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    /**
+     * @param maxWeight Total weight budget
+     * @param ttlNanos  Entry lifetime from insertion; 0 or less never expires
+     * @param weigher   Weight of a value, at least 1
+     */
+    public WeightedCache(long maxWeight, long ttlNanos, ToLongFunction<V> weigher) {
+        this(maxWeight, ttlNanos, weigher, System::nanoTime);
+    }
+
+    WeightedCache(long maxWeight, long ttlNanos, ToLongFunction<V> weigher, LongSupplier clock) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("Cache weight budget must be positive");
+        }
+        this.maxWeight = maxWeight;
+        this.ttlNanos = ttlNanos;
+        this.weigher = weigher;
+        this.clock = clock;
+    }
+
+    /**
+     * Cached value, or null (counted as a miss).
+     */
+    public V get(K key) {
+        long now = clock.getAsLong();
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && expired(entry, now)) {
+                remove(key, entry);
+                expirations.increment();
+                entry = null;
+            }
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value;
+        }
+    }
+
+    public void put(K key, V value) {
+        long entryWeight = Math.max(1, weigher.applyAsLong(value));
+        if (entryWeight > maxWeight) {
+            return;
+        }
+        long now = clock.getAsLong();
+        synchronized (this) {
+            Entry<V> previous = entries.put(key, new Entry<>(value, entryWeight, now));
+            if (previous != null) {
+                weight -= previous.weight;
+            }
+            weight += entryWeight;
+
+            Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+            while (weight > maxWeight) {
+                Entry<V> evicted = eldest.next().getValue();
+                eldest.remove();
+                weight -= evicted.weight;
+                if (expired(evicted, now)) {
+                    expirations.increment();
+                } else {
+                    evictions.increment();
+                }
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        weight = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long weight() {
+        return weight;
+    }
+
+    /**
+     * Counters and occupancy: hits, misses, evictions (for weight),
+     * expirations, entries, weight, maxWeight.
+     */
+    public Map<String, Long> stats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("hits", hits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("evictions", evictions.sum());
+        stats.put("expirations", expirations.sum());
+        synchronized (this) {
+            stats.put("entries", (long) entries.size());
+            stats.put("weight", weight);
+        }
+        stats.put("maxWeight", maxWeight);
+        return stats;
+    }
+
+    /**
+     * Zero the counters; cached entries are kept.
+     */
+    public void resetStats() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+        expirations.reset();
+    }
+
+    private boolean expired(Entry<V> entry, long now) {
+        return ttlNanos > 0 && now - entry.insertedAt >= ttlNanos;
+    }
+
+    private void remove(K key, Entry<V> entry) {
+        entries.remove(key);
+        weight -= entry.weight;
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long weight;
+        private final long insertedAt;
+
+        Entry(V value, long weight, long insertedAt) {
+            this.value = value;
+            this.weight = weight;
+            this.insertedAt = insertedAt;
+        }
+    }
+}
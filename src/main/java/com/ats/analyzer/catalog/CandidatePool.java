@@ -0,0 +1,588 @@
+package com.ats.analyzer.catalog;
+
+import com.ats.analyzer.context.JobAnalysis;
+import com.ats.analyzer.dictionary.DictionaryRegistry;
+import com.ats.analyzer.dictionary.DictionarySnapshot;
+import com.ats.analyzer.dictionary.SkillBits;
+import com.ats.analyzer.dictionary.SkillDictionary;
+import com.ats.analyzer.dictionary.SkillTaxonomy;
+import com.ats.analyzer.extractor.SkillTokenizer;
+import com.ats.analyzer.logic.ResumeProfileDetector;
+import com.ats.analyzer.logic.SkillClassifier;
+import com.ats.analyzer.matcher.MatchResult;
+import com.ats.analyzer.matcher.SkillMatcher;
+import com.ats.analyzer.model.ResumeProfile;
+import com.ats.analyzer.scorer.MatchScorer;
+import com.ats.analyzer.scorer.ScoreRequest;
+import com.ats.analyzer.scorer.ScoringModel;
+import com.ats.analyzer.scorer.ScoringModelRegistry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory pool of analyzed resumes, ranked against one JD at a time.
+ *
+ * Each candidate is stored as its canonical skill bitset and ResumeProfile;
+ * an inverted index maps skill ids to candidates, each posting list sorted
+ * by ordinal. Ranking is document-at-a-time with MaxScore pruning:
+ * 1. Every skill that can earn credit (a JD skill, or with partial credit
+ * a descendant of one) is a term with a maximum contribution to the
+ * matched and core counts. Terms are sorted by that contribution, and
+ * MatchScorer on each prefix gives the best score a candidate holding only
+ * those terms could reach.
+ * 2. Posting lists are merged in ordinal order. Once the top-k heap is full,
+ * the longest prefix whose bound is not above the heap's worst score
+ * becomes non-essential: its lists are no longer walked, so candidates
+ * found only there are never visited. A visited candidate probes its own
+ * bitset for the non-essential terms and is scored on those counts - exact
+ * unless it holds a descendant of a JD skill, in which case that bound
+ * must beat the heap before the taxonomy is consulted.
+ * The walk stops when every term is non-essential. Ties go to the
+ * earlier-added candidate, which the ordinal-order walk meets first, so a
+ * bound equal to the heap's worst score is enough to skip.
+ *
+ * Ordinals freed by remove() are compacted away (keeping insertion order)
+ * once they make up half of the table.
+ *
+ * Dictionary reloads re-encode candidates by skill name (resume text is not
+ * kept), so skills only a newer whitelist would recognize are not picked up
+ * until the candidate is re-submitted.
+ */
+public class CandidatePool {
+
+    // Freed ordinals tolerated before remove() compacts the table
+    private static final int MIN_COMPACT = 64;
+
+    // Worst match at the head of the heap; ties prefer the earlier-added candidate
+    private static final Comparator<Match> WORST_FIRST = Comparator
+            .comparingDouble(Match::getScore)
+            .thenComparing(Comparator.comparingInt((Match match) -> match.getCandidate().ordinal).reversed());
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private DictionarySnapshot snapshot = DictionaryRegistry.current();
+    private final List<Candidate> candidates = new ArrayList<>();
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private int freed;
+
+    // skill id → ordinals of the candidates holding it, ascending
+    private int[][] postings = new int[snapshot.getSkills().size()][];
+    private int[] postingSizes = new int[snapshot.getSkills().size()];
+
+    /**
+     * A pooled resume.
+     */
+    public static final class Candidate {
+
+        private final String id;
+        private final SkillBits skills;
+        private final ResumeProfile profile;
+        private final DictionarySnapshot snapshot;
+        private final int ordinal;
+
+        private Candidate(String id, SkillBits skills, ResumeProfile profile, DictionarySnapshot snapshot,
+                int ordinal) {
+            this.id = id;
+            this.skills = skills;
+            this.profile = profile;
+            this.snapshot = snapshot;
+            this.ordinal = ordinal;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        /**
+         * Canonical skill ids, encoded with getSnapshot().getSkills().
+         */
+        public SkillBits getSkills() {
+            return skills;
+        }
+
+        public ResumeProfile getProfile() {
+            return profile;
+        }
+
+        public DictionarySnapshot getSnapshot() {
+            return snapshot;
+        }
+    }
+
+    /**
+     * A scored candidate.
+     */
+    public static final class Match {
+
+        private final Candidate candidate;
+        private final double score;
+        private MatchResult matchResult;
+
+        private Match(Candidate candidate, double score) {
+            this.candidate = candidate;
+            this.score = score;
+        }
+
+        public Candidate getCandidate() {
+            return candidate;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public MatchResult getMatchResult() {
+            return matchResult;
+        }
+    }
+
+    /**
+     * Outcome of a ranking.
+     */
+    public static final class Ranking {
+
+        private final List<Match> matches;
+        private final int considered;
+        private final int scored;
+        private final int poolSize;
+
+        private Ranking(List<Match> matches, int considered, int scored, int poolSize) {
+            this.matches = matches;
+            this.considered = considered;
+            this.scored = scored;
+            this.poolSize = poolSize;
+        }
+
+        public List<Match> getMatches() {
+            return matches;
+        }
+
+        /**
+         * Candidates visited through an essential posting list. Candidates
+         * found only in lists whose bound could not beat the k-th score are not
+         * counted.
+         */
+        public int getConsidered() {
+            return considered;
+        }
+
+        /**
+         * MatchScorer evaluations for candidates: one per visited candidate,
+         * plus one for each whose partial-credit bound beat the heap and
+         * needed the exact taxonomy check.
+         */
+        public int getScored() {
+            return scored;
+        }
+
+        public int getPoolSize() {
+            return poolSize;
+        }
+    }
+
+    /**
+     * Add or replace a candidate from resume text.
+     */
+    public Candidate put(String id, String resumeText) {
+        DictionarySnapshot current = DictionaryRegistry.current();
+        SkillBits skills = SkillTokenizer.extract(resumeText, current);
+        ResumeProfile profile = ResumeProfileDetector.detect(resumeText);
+
+        lock.writeLock().lock();
+        try {
+            refreshLocked();
+            if (current != snapshot) {
+                skills = reencode(skills, current, snapshot);
+            }
+
+            Integer existing = ordinals.get(id);
+            int ordinal = existing != null ? existing : candidates.size();
+            if (existing != null) {
+                unindex(candidates.get(ordinal));
+            } else {
+                candidates.add(null);
+                ordinals.put(id, ordinal);
+            }
+            Candidate candidate = new Candidate(id, skills, profile, snapshot, ordinal);
+            candidates.set(ordinal, candidate);
+            index(candidate);
+            return candidate;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return false if no candidate has this id
+     */
+    public boolean remove(String id) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.remove(id);
+            if (ordinal == null) {
+                return false;
+            }
+            unindex(candidates.get(ordinal));
+            candidates.set(ordinal, null);
+            if (++freed >= MIN_COMPACT && freed * 2 >= candidates.size()) {
+                compactLocked();
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Candidate get(String id) {
+        lock.readLock().lock();
+        try {
+            Integer ordinal = ordinals.get(id);
+            return ordinal == null ? null : candidates.get(ordinal);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Best k candidates for a job description.
+     *
+     * @param partialCredit Taxonomy partial-credit weight (see MatchScorer)
+     */
+    public Ranking topCandidates(String jobDescription, int k, double partialCredit) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be at least 1");
+        }
+        JobAnalysis job = JobAnalysis.analyze(jobDescription, DictionaryRegistry.current());
+        refresh();
+
+        lock.readLock().lock();
+        try {
+            return rank(job.reencode(snapshot), k, partialCredit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Ranking rank(JobAnalysis job, int k, double partialCredit) {
+        SkillDictionary dictionary = snapshot.getSkills();
+        SkillTaxonomy taxonomy = snapshot.getTaxonomy();
+        SkillBits jdSkills = job.getSkills();
+        SkillBits jdCore = jdSkills.and(SkillClassifier.coreMask(job.getRoleIntent(), dictionary));
+        int total = jdSkills.cardinality();
+        int coreTotal = jdCore.cardinality();
+        boolean withPartial = partialCredit > 0;
+        double credit = withPartial ? partialCredit : 0;
+        // One model for every bound and score of this query
+        ScoringModel model = ScoringModelRegistry.current();
+
+        Term[] terms = terms(jdSkills, jdCore, credit, taxonomy, dictionary);
+
+        // Best score a candidate holding only terms[0..t] could reach, over every profile. Each JD
+        // skill earns at most once: fully if it is in the prefix, else partially if a descendant is
+        int[] prefixBound = new int[terms.length];
+        SkillBits exactSeen = dictionary.newSet();
+        SkillBits partialSeen = dictionary.newSet();
+        for (int t = 0; t < terms.length; t++) {
+            if (terms[t].exact > 0) {
+                exactSeen.set(terms[t].skill);
+            }
+            if (withPartial) {
+                partialSeen.setAll(taxonomy.ancestors(terms[t].skill, dictionary));
+            }
+            SkillBits partialOnly = partialSeen.and(jdSkills).andNot(exactSeen);
+            double matched = exactSeen.cardinality() + credit * partialOnly.cardinality();
+            double coreMatched = exactSeen.andCardinality(jdCore) + credit * partialOnly.andCardinality(jdCore);
+            for (ResumeProfile profile : ResumeProfile.values()) {
+                prefixBound[t] = Math.max(prefixBound[t],
+                        (int) score(matched, coreMatched, total, coreTotal, job, profile, model));
+            }
+        }
+
+        // Each term's posting list, position in it and the ordinal there (MAX_VALUE once done)
+        int[][] lists = new int[terms.length][];
+        int[] sizes = new int[terms.length];
+        int[] cursor = new int[terms.length];
+        int[] head = new int[terms.length];
+        for (int t = 0; t < terms.length; t++) {
+            lists[t] = postings[terms[t].skill];
+            sizes[t] = postingSizes[terms[t].skill];
+            head[t] = lists[t][0];
+        }
+        PriorityQueue<Match> heap = new PriorityQueue<>(k + 1, WORST_FIRST);
+        // terms[0..essential) are non-essential: probed per candidate, never walked
+        int essential = 0;
+        int considered = 0;
+        int scored = 0;
+
+        // Next candidate: the lowest ordinal under an essential cursor
+        int next = lowest(head, 0);
+        while (next != Integer.MAX_VALUE) {
+            int c = next;
+            next = Integer.MAX_VALUE;
+            considered++;
+
+            // Exact hits count fully, partial hits optimistically (capped by what is missing)
+            Candidate candidate = candidates.get(c);
+            double exact = 0;
+            double exactCore = 0;
+            double partial = 0;
+            double partialCore = 0;
+            for (int t = 0; t < terms.length; t++) {
+                Term term = terms[t];
+                boolean held;
+                if (t < essential) {
+                    held = candidate.skills.get(term.skill);
+                } else {
+                    held = head[t] == c;
+                    if (held) {
+                        head[t] = ++cursor[t] < sizes[t] ? lists[t][cursor[t]] : Integer.MAX_VALUE;
+                    }
+                    next = Math.min(next, head[t]);
+                }
+                if (held) {
+                    exact += term.exact;
+                    exactCore += term.exactCore;
+                    partial += term.partial;
+                    partialCore += term.partialCore;
+                }
+            }
+            double score = score(exact + Math.min(partial, credit * (total - exact)),
+                    exactCore + Math.min(partialCore, credit * (coreTotal - exactCore)),
+                    total, coreTotal, job, candidate.profile, model);
+            scored++;
+            boolean full = heap.size() == k;
+            if (full && score <= heap.peek().score) {
+                continue;
+            }
+            if (partial > 0) {
+                // The bound assumed every descendant covered a distinct missing skill
+                SkillBits partialSkills = taxonomy.partialMatches(jdSkills.andNot(candidate.skills),
+                        candidate.skills, dictionary);
+                score = score(exact + credit * partialSkills.cardinality(),
+                        exactCore + credit * partialSkills.andCardinality(jdCore),
+                        total, coreTotal, job, candidate.profile, model);
+                scored++;
+                if (full && score <= heap.peek().score) {
+                    continue;
+                }
+            }
+
+            if (full) {
+                heap.poll();
+            }
+            heap.add(new Match(candidate, score));
+            if (heap.size() == k) {
+                double worst = heap.peek().score;
+                if (prefixBound[essential] <= worst) {
+                    while (essential < terms.length && prefixBound[essential] <= worst) {
+                        essential++;
+                    }
+                    next = lowest(head, essential);
+                }
+            }
+        }
+
+        // Skill breakdown only for the winners
+        List<Match> matches = new ArrayList<>(heap);
+        matches.sort(WORST_FIRST.reversed());
+        for (Match match : matches) {
+            match.matchResult = SkillMatcher.match(match.candidate.skills, jdSkills, dictionary, taxonomy);
+        }
+        return new Ranking(matches, considered, scored, ordinals.size());
+    }
+
+    private static int lowest(int[] values, int from) {
+        int lowest = Integer.MAX_VALUE;
+        for (int i = from; i < values.length; i++) {
+            lowest = Math.min(lowest, values[i]);
+        }
+        return lowest;
+    }
+
+    private static double score(double matched, double coreMatched, int total, int coreTotal, JobAnalysis job,
+            ResumeProfile profile, ScoringModel model) {
+        return MatchScorer.calculateScore(ScoreRequest.ofCounts(matched, total - matched, coreMatched,
+                coreTotal - coreMatched, job.getRoleIntent(), job.isDesignRole(), profile).model(model));
+    }
+
+    /**
+     * A query term: a skill that earns credit when held. exact/exactCore
+     * are its credit as a JD skill; partial/partialCore the most partial
+     * credit it can add (one share per JD skill it descends from).
+     */
+    private static final class Term {
+
+        // Core credit first, then overall credit; among equals the longest
+        // posting list sorts first, so it is the first to stop being walked
+        private static final Comparator<Term> BY_CONTRIBUTION = Comparator
+                .comparingDouble((Term term) -> term.exactCore + term.partialCore)
+                .thenComparingDouble(term -> term.exact + term.partial)
+                .thenComparing(Comparator.comparingInt((Term term) -> term.postingSize).reversed());
+
+        private final int skill;
+        private final int postingSize;
+        private final double exact;
+        private final double exactCore;
+        private final double partial;
+        private final double partialCore;
+
+        private Term(int skill, int postingSize, double exact, double exactCore, double partial,
+                double partialCore) {
+            this.skill = skill;
+            this.postingSize = postingSize;
+            this.exact = exact;
+            this.exactCore = exactCore;
+            this.partial = partial;
+            this.partialCore = partialCore;
+        }
+    }
+
+    /**
+     * Terms of one ranking that some candidate holds, in ascending order of
+     * contribution.
+     */
+    private Term[] terms(SkillBits jdSkills, SkillBits jdCore, double partialCredit, SkillTaxonomy taxonomy,
+            SkillDictionary dictionary) {
+        SkillBits skills = dictionary.newSet();
+        skills.setAll(jdSkills);
+        if (partialCredit > 0) {
+            jdSkills.forEach(skill -> skills.setAll(taxonomy.descendants(skill, dictionary)));
+        }
+        List<Term> terms = new ArrayList<>();
+        for (int skill = skills.nextSetBit(0); skill >= 0; skill = skills.nextSetBit(skill + 1)) {
+            if (postingSizes[skill] == 0) {
+                continue;
+            }
+            boolean required = jdSkills.get(skill);
+            double partial = 0;
+            double partialCore = 0;
+            if (partialCredit > 0) {
+                SkillBits ancestors = taxonomy.ancestors(skill, dictionary);
+                partial = partialCredit * ancestors.andCardinality(jdSkills);
+                partialCore = partialCredit * ancestors.andCardinality(jdCore);
+            }
+            terms.add(new Term(skill, postingSizes[skill], required ? 1 : 0,
+                    required && jdCore.get(skill) ? 1 : 0, partial, partialCore));
+        }
+        terms.sort(Term.BY_CONTRIBUTION);
+        return terms.toArray(new Term[0]);
+    }
+
+    /**
+     * Re-encode every candidate if the dictionary has been reloaded.
+     */
+    private void refresh() {
+        lock.readLock().lock();
+        try {
+            if (DictionaryRegistry.current() == snapshot) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        lock.writeLock().lock();
+        try {
+            refreshLocked();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void refreshLocked() {
+        DictionarySnapshot current = DictionaryRegistry.current();
+        if (current == snapshot) {
+            return;
+        }
+        DictionarySnapshot previous = snapshot;
+        snapshot = current;
+        rebuildLocked(previous);
+    }
+
+    /**
+     * Drop the slots of removed candidates; the rest keep their order.
+     */
+    private void compactLocked() {
+        rebuildLocked(snapshot);
+    }
+
+    /**
+     * Renumber the live candidates in order, re-encoding them from the
+     * previous snapshot if it differs, and rebuild the index.
+     */
+    private void rebuildLocked(DictionarySnapshot previous) {
+        List<Candidate> live = new ArrayList<>(ordinals.size());
+        for (Candidate candidate : candidates) {
+            if (candidate != null) {
+                SkillBits skills = previous == snapshot
+                        ? candidate.skills
+                        : reencode(candidate.skills, previous, snapshot);
+                live.add(new Candidate(candidate.id, skills, candidate.profile, snapshot, live.size()));
+            }
+        }
+        candidates.clear();
+        candidates.addAll(live);
+        freed = 0;
+        postings = new int[snapshot.getSkills().size()][];
+        postingSizes = new int[snapshot.getSkills().size()];
+        for (Candidate candidate : live) {
+            ordinals.put(candidate.id, candidate.ordinal);
+            index(candidate);
+        }
+    }
+
+    private static SkillBits reencode(SkillBits skills, DictionarySnapshot from, DictionarySnapshot to) {
+        return to.getSkills().toBits(from.getSkills().toNames(skills));
+    }
+
+    private void index(Candidate candidate) {
+        SkillBits skills = candidate.skills;
+        for (int skill = skills.nextSetBit(0); skill >= 0; skill = skills.nextSetBit(skill + 1)) {
+            int[] posting = postings[skill];
+            int size = postingSizes[skill];
+            if (posting == null) {
+                posting = new int[4];
+            } else if (size == posting.length) {
+                posting = Arrays.copyOf(posting, posting.length * 2);
+            }
+            // New candidates take the highest ordinal; only a replaced one lands mid-list
+            int at = size == 0 || posting[size - 1] < candidate.ordinal
+                    ? size
+                    : -Arrays.binarySearch(posting, 0, size, candidate.ordinal) - 1;
+            System.arraycopy(posting, at, posting, at + 1, size - at);
+            posting[at] = candidate.ordinal;
+            postings[skill] = posting;
+            postingSizes[skill] = size + 1;
+        }
+    }
+
+    private void unindex(Candidate candidate) {
+        SkillBits skills = candidate.skills;
+        for (int skill = skills.nextSetBit(0); skill >= 0; skill = skills.nextSetBit(skill + 1)) {
+            int[] posting = postings[skill];
+            int size = postingSizes[skill];
+            int at = Arrays.binarySearch(posting, 0, size, candidate.ordinal);
+            if (at >= 0) {
+                // Shift down to keep the list in ordinal order
+                System.arraycopy(posting, at + 1, posting, at, size - at - 1);
+                postingSizes[skill] = size - 1;
+            }
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package com.ats.analyzer.catalog;
+
+import com.ats.analyzer.context.AnalysisContext;
+import com.ats.analyzer.context.JobAnalysis;
+import com.ats.analyzer.dictionary.DictionaryRegistry;
+import com.ats.analyzer.dictionary.DictionarySnapshot;
+import com.ats.analyzer.dictionary.SkillBits;
+import com.ats.analyzer.dictionary.SkillDictionary;
+import com.ats.analyzer.dictionary.SkillTaxonomy;
+import com.ats.analyzer.extractor.SkillTokenizer;
+import com.ats.analyzer.matcher.MatchResult;
+import com.ats.analyzer.matcher.SkillMatcher;
+import com.ats.analyzer.model.ResumeProfile;
+import com.ats.analyzer.scorer.MatchScorer;
+import com.ats.analyzer.scorer.ScoreRequest;
+import com.ats.analyzer.scorer.ScoringModel;
+import com.ats.analyzer.scorer.ScoringModelRegistry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Catalog of pre-analyzed job descriptions with an inverted skill index.
+ *
+ * Each JD is analyzed once when added (JobAnalysis). Ranking a resume walks
+ * only the posting lists of the resume's skills (plus the skills they imply
+ * through the taxonomy), so JDs sharing nothing with the resume are never
+ * scored; candidates are scored with MatchScorer and kept in a bounded
+ * min-heap of size k.
+ *
+ * Ordinals freed by remove() are reused by the next put(), so the job table
+ * and the per-ranking scratch stay sized to the live catalog.
+ *
+ * Thread-safe: rankings share a read lock, changes take the write lock.
+ * When the dictionary is reloaded, the catalog re-encodes its JDs on next
+ * use.
+ */
+public class JobCatalog {
+
+    // Worst match at the head of the heap; ties prefer the earlier-added job
+    private static final Comparator<Match> WORST_FIRST = Comparator
+            .comparingDouble(Match::getScore)
+            .thenComparing(Comparator.comparingLong((Match match) -> match.getJob().sequence).reversed());
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private DictionarySnapshot snapshot = DictionaryRegistry.current();
+    private final List<Job> jobs = new ArrayList<>();
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    // Ordinals of removed jobs, reused before the table grows
+    private int[] freeOrdinals = new int[0];
+    private int freeCount;
+    private long nextSequence;
+
+    // skill id → ordinals of the jobs requiring it
+    private int[][] postings = new int[snapshot.getSkills().size()][];
+    private int[] postingSizes = new int[snapshot.getSkills().size()];
+
+    /**
+     * A catalog entry.
+     */
+    public static final class Job {
+
+        private final String id;
+        private final String title;
+        private final JobAnalysis analysis;
+        private final int ordinal;
+        // Insertion order, for ties; ordinals are reused so cannot serve
+        private final long sequence;
+
+        private Job(String id, String title, JobAnalysis analysis, int ordinal, long sequence) {
+            this.id = id;
+            this.title = title;
+            this.analysis = analysis;
+            this.ordinal = ordinal;
+            this.sequence = sequence;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public JobAnalysis getAnalysis() {
+            return analysis;
+        }
+    }
+
+    /**
+     * A scored job.
+     */
+    public static final class Match {
+
+        private final Job job;
+        private final double score;
+        private final MatchResult matchResult;
+
+        private Match(Job job, double score, MatchResult matchResult) {
+            this.job = job;
+            this.score = score;
+            this.matchResult = matchResult;
+        }
+
+        public Job getJob() {
+            return job;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public MatchResult getMatchResult() {
+            return matchResult;
+        }
+    }
+
+    /**
+     * Outcome of a ranking: the top matches and how many JDs were scored.
+     */
+    public static final class Ranking {
+
+        private final List<Match> matches;
+        private final int scored;
+        private final int catalogSize;
+
+        private Ranking(List<Match> matches, int scored, int catalogSize) {
+            this.matches = matches;
+            this.scored = scored;
+            this.catalogSize = catalogSize;
+        }
+
+        public List<Match> getMatches() {
+            return matches;
+        }
+
+        public int getScored() {
+            return scored;
+        }
+
+        public int getCatalogSize() {
+            return catalogSize;
+        }
+    }
+
+    /**
+     * Add or replace a job. The JD is analyzed before the write lock is taken.
+     */
+    public Job put(String id, String title, String jobDescription) {
+        JobAnalysis analysis = JobAnalysis.analyze(jobDescription, DictionaryRegistry.current());
+
+        lock.writeLock().lock();
+        try {
+            refreshLocked();
+            analysis = analysis.reencode(snapshot);
+
+            Integer existing = ordinals.get(id);
+            int ordinal;
+            long sequence;
+            if (existing != null) {
+                ordinal = existing;
+                sequence = jobs.get(ordinal).sequence;
+                unindex(jobs.get(ordinal));
+            } else {
+                if (freeCount > 0) {
+                    ordinal = freeOrdinals[--freeCount];
+                } else {
+                    ordinal = jobs.size();
+                    jobs.add(null);
+                }
+                sequence = nextSequence++;
+                ordinals.put(id, ordinal);
+            }
+            Job job = new Job(id, title, analysis, ordinal, sequence);
+            jobs.set(ordinal, job);
+            index(job);
+            return job;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return false if no job has this id
+     */
+    public boolean remove(String id) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.remove(id);
+            if (ordinal == null) {
+                return false;
+            }
+            unindex(jobs.get(ordinal));
+            jobs.set(ordinal, null);
+            if (freeCount == freeOrdinals.length) {
+                freeOrdinals = Arrays.copyOf(freeOrdinals, Math.max(4, freeCount * 2));
+            }
+            freeOrdinals[freeCount++] = ordinal;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Job get(String id) {
+        lock.readLock().lock();
+        try {
+            Integer ordinal = ordinals.get(id);
+            return ordinal == null ? null : jobs.get(ordinal);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rank the catalog for one resume.
+     *
+     * @param resumeText    Raw or cleaned resume text
+     * @param resumeProfile Profile detected from the resume
+     * @param k             Number of matches to return
+     * @param partialCredit Taxonomy partial-credit weight (see MatchScorer)
+     */
+    public Ranking topMatches(CharSequence resumeText, ResumeProfile resumeProfile, int k, double partialCredit) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be at least 1");
+        }
+        refresh();
+
+        lock.readLock().lock();
+        try {
+            SkillDictionary dictionary = snapshot.getSkills();
+            SkillTaxonomy taxonomy = snapshot.getTaxonomy();
+            SkillBits resume = SkillTokenizer.extract(resumeText, snapshot);
+            ScoringModel model = ScoringModelRegistry.current();
+
+            // Query terms: the resume's skills and every skill they imply
+            SkillBits terms = taxonomy.impliedBy(resume, dictionary);
+            terms.setAll(resume);
+
+            boolean[] seen = new boolean[jobs.size()];
+            PriorityQueue<Match> heap = new PriorityQueue<>(k + 1, WORST_FIRST);
+            int scored = 0;
+
+            for (int skill = terms.nextSetBit(0); skill >= 0; skill = terms.nextSetBit(skill + 1)) {
+                int[] posting = postings[skill];
+                for (int i = 0; i < postingSizes[skill]; i++) {
+                    int ordinal = posting[i];
+                    if (seen[ordinal]) {
+                        continue;
+                    }
+                    seen[ordinal] = true;
+                    scored++;
+
+                    Job job = jobs.get(ordinal);
+                    JobAnalysis analysis = job.analysis;
+                    MatchResult result = SkillMatcher.match(resume, analysis.getSkills(), dictionary, taxonomy);
+                    double score = MatchScorer.calculateScore(ScoreRequest.of(
+                            AnalysisContext.of(analysis, resumeProfile, result), partialCredit).model(model));
+
+                    Match match = new Match(job, score, result);
+                    if (heap.size() < k) {
+                        heap.add(match);
+                    } else if (WORST_FIRST.compare(match, heap.peek()) > 0) {
+                        heap.poll();
+                        heap.add(match);
+                    }
+                }
+            }
+
+            List<Match> matches = new ArrayList<>(heap);
+            matches.sort(WORST_FIRST.reversed());
+            return new Ranking(matches, scored, ordinals.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Re-encode every job if the dictionary has been reloaded.
+     */
+    private void refresh() {
+        if (DictionaryRegistry.current() == snapshotUnderReadLock()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            refreshLocked();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private DictionarySnapshot snapshotUnderReadLock() {
+        lock.readLock().lock();
+        try {
+            return snapshot;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void refreshLocked() {
+        DictionarySnapshot current = DictionaryRegistry.current();
+        if (current == snapshot) {
+            return;
+        }
+        snapshot = current;
+        postings = new int[current.getSkills().size()][];
+        postingSizes = new int[current.getSkills().size()];
+        for (int ordinal = 0; ordinal < jobs.size(); ordinal++) {
+            Job job = jobs.get(ordinal);
+            if (job != null) {
+                Job reencoded = new Job(job.id, job.title, job.analysis.reencode(current), ordinal,
+                        job.sequence);
+                jobs.set(ordinal, reencoded);
+                index(reencoded);
+            }
+        }
+    }
+
+    private void index(Job job) {
+        SkillBits skills = job.analysis.getSkills();
+        for (int skill = skills.nextSetBit(0); skill >= 0; skill = skills.nextSetBit(skill + 1)) {
+            int[] posting = postings[skill];
+            if (posting == null) {
+                posting = new int[4];
+            } else if (postingSizes[skill] == posting.length) {
+                posting = Arrays.copyOf(posting, posting.length * 2);
+            }
+            posting[postingSizes[skill]++] = job.ordinal;
+            postings[skill] = posting;
+        }
+    }
+
+    private void unindex(Job job) {
+        SkillBits skills = job.analysis.getSkills();
+        for (int skill = skills.nextSetBit(0); skill >= 0; skill = skills.nextSetBit(skill + 1)) {
+            int[] posting = postings[skill];
+            int size = postingSizes[skill];
+            for (int i = 0; i < size; i++) {
+                if (posting[i] == job.ordinal) {
+                    // Order within a posting list does not matter
+                    posting[i] = posting[size - 1];
+                    postingSizes[skill] = size - 1;
+                    break;
+                }
+            }
+        }
+    }
+}
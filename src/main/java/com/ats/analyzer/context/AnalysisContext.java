@@ -0,0 +1,175 @@
+package com.ats.analyzer.context;
+
+import com.ats.analyzer.dictionary.SkillBits;
+import com.ats.analyzer.dictionary.SkillDictionary;
+import com.ats.analyzer.logic.DocumentSignals;
+import com.ats.analyzer.logic.ResumeProfileDetector;
+import com.ats.analyzer.logic.RoleIntentDetector;
+import com.ats.analyzer.logic.SkillClassifier;
+import com.ats.analyzer.matcher.MatchResult;
+import com.ats.analyzer.matcher.SkillMatcher;
+import com.ats.analyzer.model.ResumeProfile;
+import com.ats.analyzer.model.RoleIntent;
+
+/**
+ * Per-request facts shared by MatchScorer and SuggestionEngine: role intent,
+ * design flag, resume profile, the match and its core partitions.
+ *
+ * The JD half (intent, design flag) comes from a JobAnalysis, so batch
+ * callers reuse it across resumes. Core partitions and counts are derived
+ * on first use and then kept, so each is computed at most once however
+ * many consumers ask. Not thread-safe; one context per scored pair.
+ *
+ * The domain similarity is only present when the domain stage ran.
+ */
+public final class AnalysisContext {
+
+    private final RoleIntent roleIntent;
+    private final boolean designRole;
+    private final ResumeProfile resumeProfile;
+    private final MatchResult matchResult;
+
+    private SkillBits coreMatched;
+    private SkillBits coreMissing;
+    private SkillBits corePartial;
+    private int coreMatchedCount = -1;
+    private int coreMissingCount = -1;
+    private int corePartialCount = -1;
+    private Double domainSimilarity;
+
+    private AnalysisContext(RoleIntent roleIntent, boolean designRole, ResumeProfile resumeProfile,
+            MatchResult matchResult) {
+        this.roleIntent = roleIntent;
+        this.designRole = designRole;
+        this.resumeProfile = resumeProfile;
+        this.matchResult = matchResult;
+    }
+
+    /**
+     * Match a resume against an analyzed JD.
+     *
+     * @param resumeSkills Encoded with job.getSnapshot().getSkills()
+     */
+    public static AnalysisContext of(JobAnalysis job, String resumeText, SkillBits resumeSkills) {
+        MatchResult match = SkillMatcher.match(resumeSkills, job.getSkills(),
+                job.getSnapshot().getSkills(), job.getSnapshot().getTaxonomy());
+        return of(job, ResumeProfileDetector.detect(resumeText), match);
+    }
+
+    /**
+     * Context for a match already computed against an analyzed JD.
+     */
+    public static AnalysisContext of(JobAnalysis job, ResumeProfile resumeProfile, MatchResult matchResult) {
+        return new AnalysisContext(job.getRoleIntent(), job.isDesignRole(), resumeProfile, matchResult);
+    }
+
+    /**
+     * Context from raw texts; the JD is scanned once for both detectors.
+     */
+    public static AnalysisContext of(String jobDescription, String resumeText, MatchResult matchResult) {
+        DocumentSignals jd = DocumentSignals.scan(jobDescription);
+        return new AnalysisContext(
+                RoleIntentDetector.detect(jd),
+                RoleIntentDetector.isDesignRole(jd),
+                ResumeProfileDetector.detect(resumeText),
+                matchResult);
+    }
+
+    public static AnalysisContext of(RoleIntent roleIntent, boolean designRole, ResumeProfile resumeProfile,
+            MatchResult matchResult) {
+        return new AnalysisContext(roleIntent, designRole, resumeProfile, matchResult);
+    }
+
+    public RoleIntent getRoleIntent() {
+        return roleIntent;
+    }
+
+    public boolean isDesignRole() {
+        return designRole;
+    }
+
+    public ResumeProfile getResumeProfile() {
+        return resumeProfile;
+    }
+
+    public MatchResult getMatchResult() {
+        return matchResult;
+    }
+
+    /**
+     * Resume/JD domain similarity in [0, 1] (DomainCompatibility), or null
+     * when the domain stage did not run.
+     */
+    public Double getDomainSimilarity() {
+        return domainSimilarity;
+    }
+
+    public void setDomainSimilarity(double domainSimilarity) {
+        this.domainSimilarity = domainSimilarity;
+    }
+
+    public SkillDictionary getDictionary() {
+        return matchResult.getDictionary();
+    }
+
+    /**
+     * Matched skills that are CORE for the role intent.
+     */
+    public SkillBits getCoreMatched() {
+        if (coreMatched == null) {
+            coreMatched = SkillClassifier.coreSkills(matchResult.getMatchedBits(), roleIntent, getDictionary());
+        }
+        return coreMatched;
+    }
+
+    /**
+     * Missing skills that are CORE for the role intent (partially covered
+     * ones included).
+     */
+    public SkillBits getCoreMissing() {
+        if (coreMissing == null) {
+            coreMissing = SkillClassifier.coreSkills(matchResult.getMissingBits(), roleIntent, getDictionary());
+        }
+        return coreMissing;
+    }
+
+    /**
+     * Partially covered skills that are CORE for the role intent.
+     */
+    public SkillBits getCorePartial() {
+        if (corePartial == null) {
+            corePartial = SkillClassifier.coreSkills(matchResult.getPartialBits(), roleIntent, getDictionary());
+        }
+        return corePartial;
+    }
+
+    // Counts are popcounts against the core mask; no partition is built
+    // unless a consumer asked for it already
+
+    public int coreMatchedCount() {
+        if (coreMatchedCount < 0) {
+            coreMatchedCount = count(coreMatched, matchResult.getMatchedBits());
+        }
+        return coreMatchedCount;
+    }
+
+    public int coreMissingCount() {
+        if (coreMissingCount < 0) {
+            coreMissingCount = count(coreMissing, matchResult.getMissingBits());
+        }
+        return coreMissingCount;
+    }
+
+    public int corePartialCount() {
+        if (corePartialCount < 0) {
+            corePartialCount = count(corePartial, matchResult.getPartialBits());
+        }
+        return corePartialCount;
+    }
+
+    private int count(SkillBits partition, SkillBits skills) {
+        return partition != null
+                ? partition.cardinality()
+                : SkillClassifier.countCore(skills, roleIntent, getDictionary());
+    }
+}
@@ -0,0 +1,103 @@
+package com.ats.analyzer.context;
+
+import com.ats.analyzer.dictionary.DictionarySnapshot;
+import com.ats.analyzer.dictionary.SkillBits;
+import com.ats.analyzer.domain.DomainClassifier;
+import com.ats.analyzer.domain.DomainVector;
+import com.ats.analyzer.extractor.SkillTokenizer;
+import com.ats.analyzer.logic.DocumentSignals;
+import com.ats.analyzer.logic.RoleIntentDetector;
+import com.ats.analyzer.model.RoleIntent;
+import com.ats.analyzer.parser.TextCleaner;
+
+/**
+ * Everything scoring needs from a job description, computed once:
+ * cleaned text, canonical skills, role intent and design flag, and (on
+ * first use) its domain vector.
+ * Immutable; lets one JD be scored against many resumes without re-reading
+ * its text.
+ */
+public final class JobAnalysis {
+
+    private final String cleanedText;
+    private final SkillBits skills;
+    private final RoleIntent roleIntent;
+    private final boolean designRole;
+    private final DictionarySnapshot snapshot;
+
+    // Racy single-check: computing it twice is harmless, DomainVector is immutable
+    private volatile DomainVector domainVector;
+
+    private JobAnalysis(String cleanedText, SkillBits skills, RoleIntent roleIntent, boolean designRole,
+            DictionarySnapshot snapshot) {
+        this.cleanedText = cleanedText;
+        this.skills = skills;
+        this.roleIntent = roleIntent;
+        this.designRole = designRole;
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Analyze a raw job description against a dictionary snapshot.
+     */
+    public static JobAnalysis analyze(String jobDescription, DictionarySnapshot snapshot) {
+        String cleaned = TextCleaner.clean(jobDescription);
+        DocumentSignals signals = DocumentSignals.scan(jobDescription);
+        return new JobAnalysis(
+                cleaned,
+                SkillTokenizer.extract(cleaned, snapshot),
+                RoleIntentDetector.detect(signals),
+                RoleIntentDetector.isDesignRole(signals),
+                snapshot);
+    }
+
+    /**
+     * Same JD with its skills re-extracted for another dictionary snapshot.
+     * Role intent and design flag do not depend on the dictionary and are
+     * kept.
+     */
+    public JobAnalysis reencode(DictionarySnapshot newSnapshot) {
+        if (newSnapshot == snapshot) {
+            return this;
+        }
+        JobAnalysis reencoded = new JobAnalysis(cleanedText, SkillTokenizer.extract(cleanedText, newSnapshot),
+                roleIntent, designRole, newSnapshot);
+        reencoded.domainVector = domainVector;
+        return reencoded;
+    }
+
+    public String getCleanedText() {
+        return cleanedText;
+    }
+
+    /**
+     * Canonical skill ids, encoded with getSnapshot().getSkills().
+     */
+    public SkillBits getSkills() {
+        return skills;
+    }
+
+    public RoleIntent getRoleIntent() {
+        return roleIntent;
+    }
+
+    public boolean isDesignRole() {
+        return designRole;
+    }
+
+    /**
+     * Domain vector of the JD, computed on first use and kept.
+     */
+    public DomainVector getDomainVector() {
+        DomainVector vector = domainVector;
+        if (vector == null) {
+            vector = DomainClassifier.vectorize(cleanedText);
+            domainVector = vector;
+        }
+        return vector;
+    }
+
+    public DictionarySnapshot getSnapshot() {
+        return snapshot;
+    }
+}
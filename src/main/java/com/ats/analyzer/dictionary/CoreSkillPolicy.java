@@ -0,0 +1,163 @@
+package com.ats.analyzer.dictionary;
+
+import com.ats.analyzer.model.RoleIntent;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Which skills are CORE for each role intent.
+ *
+ * The policy file is compiled into one intent bitmask per listed skill
+ * (bit = RoleIntent ordinal), with never-core and per-intent exclusions
+ * already subtracted, so a name lookup is a single hash probe. Per
+ * SkillDictionary, the same table is compiled into one SkillBits mask per
+ * intent; DictionarySnapshot does this when it is built, so requests only
+ * ever read finished masks.
+ *
+ * File format (see core-skills.txt):
+ * - "INTENT = a, b" lists core skills (repeated lines accumulate)
+ * - "never = a, b" and "exclude.INTENT = a, b" remove skills
+ * - blank lines and lines starting with '#' are ignored
+ * Malformed lines and unknown intents are skipped with a warning.
+ */
+public final class CoreSkillPolicy {
+
+    private static final String NEVER = "never";
+    private static final String EXCLUDE = "exclude.";
+
+    // skill name → bitmask of intents it is core for
+    private final Map<String, Integer> intents;
+
+    private CoreSkillPolicy(Map<String, Integer> intents) {
+        this.intents = intents;
+    }
+
+    /**
+     * Build from policy file lines.
+     */
+    public static CoreSkillPolicy parse(List<String> lines) {
+        Map<String, Integer> listed = new HashMap<>();
+        Map<String, Integer> removed = new HashMap<>();
+        int allIntents = (1 << RoleIntent.values().length) - 1;
+
+        for (String rawLine : lines) {
+            String line = rawLine.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            int equals = line.indexOf('=');
+            if (equals <= 0) {
+                System.err.println("Warning: ignoring malformed core skill line: " + line);
+                continue;
+            }
+            String key = line.substring(0, equals).trim();
+
+            Map<String, Integer> target;
+            int mask;
+            if (key.equals(NEVER)) {
+                target = removed;
+                mask = allIntents;
+            } else if (key.startsWith(EXCLUDE)) {
+                target = removed;
+                mask = intentBit(key.substring(EXCLUDE.length()));
+            } else {
+                target = listed;
+                mask = intentBit(key);
+            }
+            if (mask == 0) {
+                System.err.println("Warning: ignoring core skill line with unknown intent: " + line);
+                continue;
+            }
+
+            for (String name : line.substring(equals + 1).split(",")) {
+                String skill = name.trim().toLowerCase();
+                if (!skill.isEmpty()) {
+                    target.merge(skill, mask, (a, b) -> a | b);
+                }
+            }
+        }
+
+        Map<String, Integer> intents = new HashMap<>();
+        listed.forEach((skill, mask) -> {
+            int core = mask & ~removed.getOrDefault(skill, 0);
+            if (core != 0) {
+                intents.put(skill, core);
+            }
+        });
+        return new CoreSkillPolicy(intents);
+    }
+
+    /**
+     * Whether a skill name is CORE for a role intent. Names are matched
+     * case-insensitively; lowercase names skip the lowercasing.
+     */
+    public boolean isCore(String skill, RoleIntent roleIntent) {
+        Integer mask = intents.get(skill);
+        if (mask == null && hasUpperCase(skill)) {
+            mask = intents.get(skill.toLowerCase());
+        }
+        return mask != null && (mask & (1 << roleIntent.ordinal())) != 0;
+    }
+
+    /**
+     * Bitset of every dictionary skill that is CORE for a role intent.
+     * Compiled once per dictionary and policy.
+     */
+    public SkillBits coreMask(SkillDictionary dictionary, RoleIntent roleIntent) {
+        return dictionary.derived(this, this::compile)[roleIntent.ordinal()];
+    }
+
+    /**
+     * Names that are CORE for a role intent.
+     */
+    public Set<String> coreSkills(RoleIntent roleIntent) {
+        Set<String> skills = new HashSet<>();
+        intents.forEach((skill, mask) -> {
+            if ((mask & (1 << roleIntent.ordinal())) != 0) {
+                skills.add(skill);
+            }
+        });
+        return skills;
+    }
+
+    private SkillBits[] compile(SkillDictionary dictionary) {
+        SkillBits[] masks = new SkillBits[RoleIntent.values().length];
+        for (int i = 0; i < masks.length; i++) {
+            masks[i] = dictionary.newSet();
+        }
+        intents.forEach((skill, mask) -> {
+            int id = dictionary.idOf(skill);
+            if (id < 0) {
+                return;
+            }
+            for (RoleIntent intent : RoleIntent.values()) {
+                if ((mask & (1 << intent.ordinal())) != 0) {
+                    masks[intent.ordinal()].set(id);
+                }
+            }
+        });
+        return masks;
+    }
+
+    private static int intentBit(String name) {
+        for (RoleIntent intent : RoleIntent.values()) {
+            if (intent.name().equals(name)) {
+                return 1 << intent.ordinal();
+            }
+        }
+        return 0;
+    }
+
+    private static boolean hasUpperCase(String skill) {
+        for (int i = 0; i < skill.length(); i++) {
+            if (Character.isUpperCase(skill.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
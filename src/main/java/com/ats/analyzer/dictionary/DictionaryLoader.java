@@ -0,0 +1,121 @@
+package com.ats.analyzer.dictionary;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Loads dictionary files into a DictionarySnapshot.
+ * Files: skills.txt (whitelist), stopwords.txt, fuzzy-exclusions.txt,
+ * synonyms.txt, taxonomy.txt, core-skills.txt (core skill policy).
+ * A directory may override any subset; missing files fall back to the
+ * bundled copy.
+ */
+public class DictionaryLoader {
+
+    public static final String SKILLS_FILE = "skills.txt";
+    public static final String STOP_WORDS_FILE = "stopwords.txt";
+    public static final String FUZZY_EXCLUSIONS_FILE = "fuzzy-exclusions.txt";
+    public static final String SYNONYMS_FILE = "synonyms.txt";
+    public static final String TAXONOMY_FILE = "taxonomy.txt";
+    public static final String CORE_SKILLS_FILE = "core-skills.txt";
+
+    /**
+     * Load the dictionary bundled in the application resources.
+     */
+    public static DictionarySnapshot loadBundled(long version) {
+        SynonymGraph synonyms = SynonymGraph.parse(bundledLines(SYNONYMS_FILE));
+        return DictionarySnapshot.build(version, "classpath",
+                toWordSet(bundledLines(SKILLS_FILE)),
+                toWordSet(bundledLines(STOP_WORDS_FILE)),
+                toWordSet(bundledLines(FUZZY_EXCLUSIONS_FILE)),
+                synonyms,
+                SkillTaxonomy.parse(bundledLines(TAXONOMY_FILE), synonyms),
+                CoreSkillPolicy.parse(bundledLines(CORE_SKILLS_FILE)));
+    }
+
+    /**
+     * Load from a directory, falling back to bundled files it does not contain.
+     *
+     * @throws IOException if a file exists but cannot be read
+     */
+    public static DictionarySnapshot loadDirectory(Path directory, long version) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            throw new IOException("Dictionary directory not found: " + directory);
+        }
+        SynonymGraph synonyms = SynonymGraph.parse(lines(directory, SYNONYMS_FILE));
+        return DictionarySnapshot.build(version, directory.toString(),
+                toWordSet(lines(directory, SKILLS_FILE)),
+                toWordSet(lines(directory, STOP_WORDS_FILE)),
+                toWordSet(lines(directory, FUZZY_EXCLUSIONS_FILE)),
+                synonyms,
+                SkillTaxonomy.parse(lines(directory, TAXONOMY_FILE), synonyms),
+                CoreSkillPolicy.parse(lines(directory, CORE_SKILLS_FILE)));
+    }
+
+    /**
+     * Latest modification time of the dictionary files in a directory.
+     */
+    public static long lastModified(Path directory) throws IOException {
+        long latest = 0;
+        for (String file : List.of(SKILLS_FILE, STOP_WORDS_FILE, FUZZY_EXCLUSIONS_FILE, SYNONYMS_FILE,
+                TAXONOMY_FILE, CORE_SKILLS_FILE)) {
+            Path path = directory.resolve(file);
+            if (Files.exists(path)) {
+                latest = Math.max(latest, Files.getLastModifiedTime(path).toMillis());
+            }
+        }
+        return latest;
+    }
+
+    private static List<String> lines(Path directory, String file) throws IOException {
+        Path path = directory.resolve(file);
+        if (Files.exists(path)) {
+            return Files.readAllLines(path, StandardCharsets.UTF_8);
+        }
+        return bundledLines(file);
+    }
+
+    private static List<String> bundledLines(String file) {
+        List<String> lines = new ArrayList<>();
+
+        try (InputStream is = DictionaryLoader.class.getResourceAsStream("/" + file)) {
+            if (is == null) {
+                System.err.println("Warning: " + file + " not found in resources, using empty list");
+                return lines;
+            }
+
+            BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        } catch (IOException e) {
+            System.err.println("Error loading " + file + ": " + e.getMessage());
+        }
+
+        return lines;
+    }
+
+    /**
+     * One lowercase entry per line; blank lines and '#' comments skipped.
+     */
+    private static Set<String> toWordSet(List<String> lines) {
+        Set<String> words = new HashSet<>();
+        for (String line : lines) {
+            String word = line.trim().toLowerCase();
+            if (!word.isEmpty() && !word.startsWith("#")) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+}
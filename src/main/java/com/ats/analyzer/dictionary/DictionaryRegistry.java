@@ -0,0 +1,38 @@
+package com.ats.analyzer.dictionary;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the active DictionarySnapshot.
+ * Readers take current() once per request; a reload builds the next
+ * snapshot elsewhere and publishes it with a single atomic reference write,
+ * so in-flight requests finish on the snapshot they started with.
+ */
+public class DictionaryRegistry {
+
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    private static final AtomicReference<DictionarySnapshot> CURRENT = new AtomicReference<>(
+            DictionaryLoader.loadBundled(nextVersion()));
+
+    public static DictionarySnapshot current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Publish a fully built snapshot.
+     *
+     * @return The snapshot it replaced
+     */
+    public static DictionarySnapshot install(DictionarySnapshot snapshot) {
+        return CURRENT.getAndSet(snapshot);
+    }
+
+    /**
+     * Version number for the next snapshot to be built.
+     */
+    public static long nextVersion() {
+        return VERSIONS.incrementAndGet();
+    }
+}
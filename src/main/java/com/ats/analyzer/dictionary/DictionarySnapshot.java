@@ -0,0 +1,175 @@
+package com.ats.analyzer.dictionary;
+
+import com.ats.analyzer.extractor.FuzzySkillIndex;
+import com.ats.analyzer.extractor.SkillAutomaton;
+import com.ats.analyzer.model.RoleIntent;
+import com.ats.analyzer.parser.TextCleaner;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Immutable, versioned skill dictionary.
+ * Bundles everything extraction and matching read - whitelist, stop words,
+ * synonyms, taxonomy, core skill policy - together with the structures compiled
+ * from them (automaton, canonical ids, core masks). A request takes one snapshot at its start and uses it
+ * throughout, so a concurrent reload never mixes two dictionaries.
+ */
+public final class DictionarySnapshot {
+
+    private final long version;
+    private final String source;
+    private final Instant loadedAt;
+    private final Set<String> whitelist;
+    private final Set<String> stopWords;
+    private final Set<String> fuzzyExclusions;
+    private final SynonymGraph synonyms;
+    private final SkillTaxonomy taxonomy;
+    private final CoreSkillPolicy corePolicy;
+    private final SkillAutomaton automaton;
+    private final SkillDictionary skills;
+    private final int[] patternSkills;
+    private final FuzzySkillIndex fuzzyIndex;
+
+    private DictionarySnapshot(long version, String source, Set<String> whitelist, Set<String> stopWords,
+            Set<String> fuzzyExclusions, SynonymGraph synonyms, SkillTaxonomy taxonomy,
+            CoreSkillPolicy corePolicy) {
+        this.version = version;
+        this.source = source;
+        this.loadedAt = Instant.now();
+        this.whitelist = Collections.unmodifiableSet(whitelist);
+        this.stopWords = Collections.unmodifiableSet(stopWords);
+        this.fuzzyExclusions = Collections.unmodifiableSet(fuzzyExclusions);
+        this.synonyms = synonyms;
+        this.taxonomy = taxonomy;
+        this.corePolicy = corePolicy;
+        this.automaton = compileAutomaton(whitelist, stopWords, synonyms);
+
+        // Dense ids for the canonical form of every recognizable phrase
+        Set<String> canonical = new TreeSet<>();
+        for (int id = 0; id < automaton.patternCount(); id++) {
+            canonical.add(synonyms.canonical(automaton.label(id)));
+        }
+        this.skills = SkillDictionary.of(canonical);
+
+        // Automaton pattern id → canonical skill id (synonyms resolved up front)
+        this.patternSkills = new int[automaton.patternCount()];
+        for (int id = 0; id < patternSkills.length; id++) {
+            patternSkills[id] = skills.idOf(synonyms.canonical(automaton.label(id)));
+        }
+
+        // Typo-tolerant lookup over the same phrases (single words only)
+        List<String> labels = new ArrayList<>(patternSkills.length);
+        for (int id = 0; id < patternSkills.length; id++) {
+            labels.add(automaton.label(id));
+        }
+        this.fuzzyIndex = FuzzySkillIndex.build(labels, patternSkills, fuzzyExclusions);
+
+        // Core masks per role intent, compiled before the snapshot is published
+        corePolicy.coreMask(skills, RoleIntent.TECH_CORE);
+    }
+
+    /**
+     * Compile a snapshot. Expensive (milliseconds); never call on the request
+     * path.
+     */
+    public static DictionarySnapshot build(long version, String source, Set<String> whitelist,
+            Set<String> stopWords, Set<String> fuzzyExclusions, SynonymGraph synonyms, SkillTaxonomy taxonomy,
+            CoreSkillPolicy corePolicy) {
+        return new DictionarySnapshot(version, source, whitelist, stopWords, fuzzyExclusions, synonyms, taxonomy,
+                corePolicy);
+    }
+
+    /**
+     * Phrases recognized by the automaton:
+     * - every whitelist entry that is not a stop word (hyphenated entries
+     * such as "ci-cd" match "CI-CD", "ci cd", "CI/CD")
+     * - multi-word synonym aliases ("machine learning"); single-word aliases
+     * stay governed by the whitelist to avoid matching common words
+     */
+    private static SkillAutomaton compileAutomaton(Set<String> whitelist, Set<String> stopWords,
+            SynonymGraph synonyms) {
+        Set<String> phrases = new LinkedHashSet<>();
+        whitelist.stream()
+                .filter(skill -> !stopWords.contains(skill))
+                .sorted()
+                .forEach(phrases::add);
+        synonyms.aliases().stream()
+                .filter(alias -> TextCleaner.clean(alias).indexOf(' ') >= 0)
+                .sorted()
+                .forEach(phrases::add);
+        return SkillAutomaton.compile(phrases);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Where the snapshot was loaded from ("classpath" or a directory).
+     */
+    public String getSource() {
+        return source;
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    public Set<String> getWhitelist() {
+        return whitelist;
+    }
+
+    public Set<String> getStopWords() {
+        return stopWords;
+    }
+
+    /**
+     * Words the fuzzy pass never corrects to a skill.
+     */
+    public Set<String> getFuzzyExclusions() {
+        return fuzzyExclusions;
+    }
+
+    public SynonymGraph getSynonyms() {
+        return synonyms;
+    }
+
+    public SkillTaxonomy getTaxonomy() {
+        return taxonomy;
+    }
+
+    public CoreSkillPolicy getCorePolicy() {
+        return corePolicy;
+    }
+
+    public SkillAutomaton getAutomaton() {
+        return automaton;
+    }
+
+    /**
+     * Canonical skill ids for this snapshot.
+     */
+    public SkillDictionary getSkills() {
+        return skills;
+    }
+
+    /**
+     * Deletion index for typo-tolerant extraction.
+     */
+    public FuzzySkillIndex getFuzzyIndex() {
+        return fuzzyIndex;
+    }
+
+    /**
+     * Canonical skill id for an automaton pattern.
+     */
+    public int skillOfPattern(int patternId) {
+        return patternSkills[patternId];
+    }
+}
@@ -0,0 +1,162 @@
+package com.ats.analyzer.dictionary;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Primitive bitset over SkillDictionary ids.
+ * Set algebra (AND / ANDNOT / popcount) works a 64-bit word at a time, so
+ * matching and core-skill counting never hash a String.
+ *
+ * Mutable only while being filled (set, setAll); the combining operations always
+ * return a new instance and never modify their operands.
+ */
+public final class SkillBits {
+
+    private final long[] words;
+
+    public SkillBits(int capacity) {
+        this.words = new long[(capacity + 63) >>> 6];
+    }
+
+    private SkillBits(long[] words) {
+        this.words = words;
+    }
+
+    public void set(int id) {
+        words[id >>> 6] |= 1L << id;
+    }
+
+    /**
+     * Add every id of other (this ∪= other).
+     */
+    public void setAll(SkillBits other) {
+        int length = Math.min(words.length, other.words.length);
+        for (int i = 0; i < length; i++) {
+            words[i] |= other.words[i];
+        }
+    }
+
+    public boolean get(int id) {
+        int word = id >>> 6;
+        return word < words.length && (words[word] & (1L << id)) != 0;
+    }
+
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Approximate heap footprint: array header plus the words.
+     */
+    public long sizeInBytes() {
+        return 16 + 8L * words.length;
+    }
+
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * this ∩ other
+     */
+    public SkillBits and(SkillBits other) {
+        int length = Math.min(words.length, other.words.length);
+        long[] result = new long[words.length];
+        for (int i = 0; i < length; i++) {
+            result[i] = words[i] & other.words[i];
+        }
+        return new SkillBits(result);
+    }
+
+    /**
+     * this - other
+     */
+    public SkillBits andNot(SkillBits other) {
+        long[] result = Arrays.copyOf(words, words.length);
+        int length = Math.min(words.length, other.words.length);
+        for (int i = 0; i < length; i++) {
+            result[i] &= ~other.words[i];
+        }
+        return new SkillBits(result);
+    }
+
+    /**
+     * |this ∩ other| without allocating the intersection.
+     */
+    public int andCardinality(SkillBits other) {
+        int length = Math.min(words.length, other.words.length);
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            count += Long.bitCount(words[i] & other.words[i]);
+        }
+        return count;
+    }
+
+    /**
+     * @return Next set id at or after fromId, or -1
+     */
+    public int nextSetBit(int fromId) {
+        int index = fromId >>> 6;
+        if (index >= words.length) {
+            return -1;
+        }
+        long word = words[index] & (-1L << fromId);
+        while (true) {
+            if (word != 0) {
+                return (index << 6) + Long.numberOfTrailingZeros(word);
+            }
+            if (++index == words.length) {
+                return -1;
+            }
+            word = words[index];
+        }
+    }
+
+    /**
+     * Visit set ids in ascending order.
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+            while (word != 0) {
+                action.accept((i << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof SkillBits other)) {
+            return false;
+        }
+        int length = Math.max(words.length, other.words.length);
+        for (int i = 0; i < length; i++) {
+            long a = i < words.length ? words[i] : 0;
+            long b = i < other.words.length ? other.words[i] : 0;
+            if (a != b) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int last = words.length;
+        while (last > 0 && words[last - 1] == 0) {
+            last--;
+        }
+        return Arrays.hashCode(Arrays.copyOf(words, last));
+    }
+}
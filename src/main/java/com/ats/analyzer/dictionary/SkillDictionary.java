@@ -0,0 +1,138 @@
+package com.ats.analyzer.dictionary;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Dense integer ids for canonical skill names.
+ * Ids are assigned in the given order (sorted order for the standard
+ * dictionary), so iterating a SkillBits yields names alphabetically.
+ * Immutable and safe to share between threads.
+ */
+public final class SkillDictionary {
+
+    // Cap on names an extension may add beyond this dictionary
+    private static final int MAX_EXTRA_NAMES = 4096;
+
+    private final String[] names;
+    private final Map<String, Integer> ids;
+
+    // Latest withNames extension, reused (with its derived tables) while
+    // it covers the names asked for
+    private final AtomicReference<SkillDictionary> extension = new AtomicReference<>();
+
+    // Tables computed from this dictionary (e.g. core-skill masks)
+    private final ConcurrentMap<Object, Object> derived = new ConcurrentHashMap<>();
+
+    private SkillDictionary(String[] names, Map<String, Integer> ids) {
+        this.names = names;
+        this.ids = ids;
+    }
+
+    /**
+     * Build a dictionary; duplicate names share one id.
+     */
+    public static SkillDictionary of(Collection<String> canonicalNames) {
+        Set<String> unique = new LinkedHashSet<>(canonicalNames);
+        String[] names = unique.toArray(new String[0]);
+        Map<String, Integer> ids = new HashMap<>(names.length * 2);
+        for (int id = 0; id < names.length; id++) {
+            ids.put(names[id], id);
+        }
+        return new SkillDictionary(names, ids);
+    }
+
+    /**
+     * Derive a dictionary that also knows the given names.
+     * Existing ids are preserved; unknown names are appended. Used at the
+     * String API edge, where callers may pass skills outside the whitelist.
+     *
+     * Extensions grow: unknown names accumulate in one cached extension, so
+     * callers repeating the same names get the same dictionary (and its
+     * derived tables) back. Past MAX_EXTRA_NAMES extra names a one-off
+     * dictionary is built instead, so arbitrary input cannot grow the cache.
+     */
+    public SkillDictionary withNames(Collection<String> extraNames) {
+        if (ids.keySet().containsAll(extraNames)) {
+            return this;
+        }
+        SkillDictionary cached = extension.get();
+        if (cached != null && cached.ids.keySet().containsAll(extraNames)) {
+            return cached;
+        }
+        String[] known = cached != null ? cached.names : names;
+        Set<String> all = new LinkedHashSet<>(known.length + extraNames.size());
+        Collections.addAll(all, known);
+        all.addAll(extraNames);
+        SkillDictionary extended = of(all);
+        if (all.size() - names.length <= MAX_EXTRA_NAMES) {
+            extension.compareAndSet(cached, extended);
+        }
+        return extended;
+    }
+
+    /**
+     * Table derived from this dictionary, computed on first use and kept for
+     * the dictionary's lifetime. Lets each dictionary snapshot carry its own
+     * lookup tables, so a reload never invalidates tables of the snapshot
+     * in-flight requests are still using.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T derived(Object key, Function<SkillDictionary, T> compute) {
+        return (T) derived.computeIfAbsent(key, k -> compute.apply(this));
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * @return Id of a canonical name, or -1 if unknown
+     */
+    public int idOf(String name) {
+        Integer id = ids.get(name);
+        return id == null ? -1 : id;
+    }
+
+    public String nameOf(int id) {
+        return names[id];
+    }
+
+    /**
+     * Empty set sized for this dictionary.
+     */
+    public SkillBits newSet() {
+        return new SkillBits(names.length);
+    }
+
+    /**
+     * Encode names; unknown names are ignored.
+     */
+    public SkillBits toBits(Collection<String> skillNames) {
+        SkillBits bits = newSet();
+        for (String name : skillNames) {
+            int id = idOf(name);
+            if (id >= 0) {
+                bits.set(id);
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * Decode to names (in id order). Only called at the response edge.
+     */
+    public Set<String> toNames(SkillBits bits) {
+        Set<String> result = new LinkedHashSet<>();
+        bits.forEach(id -> result.add(names[id]));
+        return result;
+    }
+}
@@ -0,0 +1,221 @@
+package com.ats.analyzer.dictionary;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Parent/child skill hierarchy ("springboot > spring > java").
+ * Knowing a child implies partial knowledge of its ancestors: a resume that
+ * lists spring partially covers a JD that asks for java.
+ *
+ * The transitive closure is compiled once per SkillDictionary into ancestor
+ * and descendant bitsets, so a partial-credit lookup is the same word-wise
+ * AND as an exact match - no graph walk at scoring time.
+ *
+ * File format (see taxonomy.txt):
+ * - "child > parent [> grandparent ...]" declares edges
+ * - blank lines and lines starting with '#' are ignored
+ * Names are resolved through the synonym graph; an edge that would close a
+ * cycle is dropped with a warning.
+ */
+public final class SkillTaxonomy {
+
+    private static final SkillTaxonomy EMPTY = new SkillTaxonomy(Map.of());
+
+    // child → parents (canonical names)
+    private final Map<String, Set<String>> parents;
+
+    private SkillTaxonomy(Map<String, Set<String>> parents) {
+        this.parents = parents;
+    }
+
+    /**
+     * Taxonomy without any edges (exact matching only).
+     */
+    public static SkillTaxonomy empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Build from taxonomy file lines.
+     */
+    public static SkillTaxonomy parse(List<String> lines, SynonymGraph synonyms) {
+        Map<String, Set<String>> parents = new LinkedHashMap<>();
+
+        for (String rawLine : lines) {
+            String line = rawLine.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] chain = line.split(">");
+            if (chain.length < 2) {
+                System.err.println("Warning: ignoring malformed taxonomy line: " + line);
+                continue;
+            }
+            for (int i = 0; i + 1 < chain.length; i++) {
+                String child = synonyms.canonical(chain[i].trim().toLowerCase());
+                String parent = synonyms.canonical(chain[i + 1].trim().toLowerCase());
+                if (child.isEmpty() || parent.isEmpty() || child.equals(parent)) {
+                    continue;
+                }
+                parents.computeIfAbsent(child, k -> new LinkedHashSet<>()).add(parent);
+            }
+        }
+
+        return new SkillTaxonomy(parents);
+    }
+
+    /**
+     * Number of declared child → parent edges.
+     */
+    public int edgeCount() {
+        int count = 0;
+        for (Set<String> edges : parents.values()) {
+            count += edges.size();
+        }
+        return count;
+    }
+
+    /**
+     * Every ancestor of a skill (transitively), excluding the skill itself.
+     */
+    public SkillBits ancestors(int id, SkillDictionary dictionary) {
+        return closure(dictionary).ancestors(id);
+    }
+
+    /**
+     * Every descendant of a skill (transitively), excluding the skill itself.
+     */
+    public SkillBits descendants(int id, SkillDictionary dictionary) {
+        return closure(dictionary).descendants(id);
+    }
+
+    /**
+     * Skills that are implied by, but not in, the given set: the union of
+     * the ancestors of every member.
+     */
+    public SkillBits impliedBy(SkillBits skills, SkillDictionary dictionary) {
+        Closure closure = closure(dictionary);
+        SkillBits implied = dictionary.newSet();
+        skills.forEach(id -> implied.setAll(closure.ancestors(id)));
+        return implied;
+    }
+
+    /**
+     * Required skills not held exactly but covered by a more specific one
+     * (e.g. JD "java", resume "springboot").
+     */
+    public SkillBits partialMatches(SkillBits missing, SkillBits held, SkillDictionary dictionary) {
+        if (parents.isEmpty()) {
+            return dictionary.newSet();
+        }
+        return missing.and(impliedBy(held, dictionary));
+    }
+
+    private Closure closure(SkillDictionary dictionary) {
+        return dictionary.derived(this, Closure::new);
+    }
+
+    /**
+     * Ancestor/descendant bitsets for one dictionary. Names the dictionary
+     * does not know are skipped (they can never be extracted).
+     */
+    private final class Closure {
+
+        private static final int UNVISITED = 0;
+        private static final int VISITING = 1;
+        private static final int DONE = 2;
+
+        private final SkillDictionary dictionary;
+        private final SkillBits none;
+        private final int[][] parentIds;
+        private final SkillBits[] ancestors;
+        private final SkillBits[] descendants;
+        private final int[] state;
+
+        Closure(SkillDictionary dictionary) {
+            this.dictionary = dictionary;
+            this.none = dictionary.newSet();
+            int size = dictionary.size();
+            this.parentIds = new int[size][];
+            this.ancestors = new SkillBits[size];
+            this.descendants = new SkillBits[size];
+            this.state = new int[size];
+
+            parents.forEach((child, names) -> {
+                int childId = dictionary.idOf(child);
+                if (childId < 0) {
+                    return;
+                }
+                List<Integer> ids = new ArrayList<>();
+                for (String name : names) {
+                    int parentId = dictionary.idOf(name);
+                    if (parentId >= 0) {
+                        ids.add(parentId);
+                    }
+                }
+                parentIds[childId] = ids.stream().mapToInt(Integer::intValue).toArray();
+            });
+
+            for (int id = 0; id < size; id++) {
+                if (parentIds[id] != null) {
+                    resolve(id);
+                }
+            }
+
+            // Transpose: every ancestor a of id gains id as a descendant
+            for (int id = 0; id < size; id++) {
+                if (ancestors[id] == null) {
+                    continue;
+                }
+                int child = id;
+                ancestors[id].forEach(ancestor -> {
+                    if (descendants[ancestor] == null) {
+                        descendants[ancestor] = dictionary.newSet();
+                    }
+                    descendants[ancestor].set(child);
+                });
+            }
+        }
+
+        SkillBits ancestors(int id) {
+            return id < ancestors.length && ancestors[id] != null ? ancestors[id] : none;
+        }
+
+        SkillBits descendants(int id) {
+            return id < descendants.length && descendants[id] != null ? descendants[id] : none;
+        }
+
+        /**
+         * Depth-first closure with memoization; a parent still on the stack
+         * would close a cycle and is skipped.
+         */
+        private SkillBits resolve(int id) {
+            if (state[id] == DONE) {
+                return ancestors(id);
+            }
+            state[id] = VISITING;
+            SkillBits result = dictionary.newSet();
+            if (parentIds[id] != null) {
+                for (int parent : parentIds[id]) {
+                    if (state[parent] == VISITING) {
+                        System.err.println("Warning: taxonomy cycle, ignoring \"" + dictionary.nameOf(id)
+                                + " > " + dictionary.nameOf(parent) + "\"");
+                        continue;
+                    }
+                    result.set(parent);
+                    result.setAll(resolve(parent));
+                }
+            }
+            state[id] = DONE;
+            if (!result.isEmpty()) {
+                ancestors[id] = result;
+            }
+            return ancestors(id);
+        }
+    }
+}
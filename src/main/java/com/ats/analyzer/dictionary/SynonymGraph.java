@@ -0,0 +1,265 @@
+package com.ats.analyzer.dictionary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Transitively closed synonym graph.
+ * Synonym groups are merged with union-find, so overlapping groups collapse
+ * into one component, then flattened into a single alias → canonical map.
+ * Every lookup is one hash probe, however many groups are loaded.
+ *
+ * Exclusion rules ("! a, b | c, d") name two sides that must never end up in
+ * the same component; a union that would connect them is skipped.
+ *
+ * File format (see synonyms.txt):
+ * - "canonical = alias, alias, ..." declares a group
+ * - "! side | side" declares an exclusion
+ * - blank lines and lines starting with '#' are ignored
+ */
+public final class SynonymGraph {
+
+    private final Map<String, String> canonical;
+
+    private SynonymGraph(Map<String, String> canonical) {
+        this.canonical = canonical;
+    }
+
+    /**
+     * Build from synonym file lines.
+     */
+    public static SynonymGraph parse(List<String> lines) {
+        List<List<String>> groups = new ArrayList<>();
+        List<Exclusion> exclusions = new ArrayList<>();
+
+        for (String rawLine : lines) {
+            String line = rawLine.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            if (line.startsWith("!")) {
+                String[] sides = line.substring(1).split("\\|");
+                if (sides.length != 2) {
+                    System.err.println("Warning: ignoring malformed synonym exclusion: " + line);
+                    continue;
+                }
+                exclusions.add(new Exclusion(splitNames(sides[0]), splitNames(sides[1])));
+                continue;
+            }
+            int equals = line.indexOf('=');
+            if (equals <= 0) {
+                System.err.println("Warning: ignoring malformed synonym group: " + line);
+                continue;
+            }
+            List<String> group = new ArrayList<>();
+            group.add(line.substring(0, equals).trim().toLowerCase());
+            group.addAll(splitNames(line.substring(equals + 1)));
+            groups.add(group);
+        }
+
+        return build(groups, exclusions);
+    }
+
+    /**
+     * Canonical form of a (lowercase) skill; unknown skills map to themselves.
+     */
+    public String canonical(String skill) {
+        return canonical.getOrDefault(skill, skill);
+    }
+
+    /**
+     * Whether two (lowercase) skills resolve to the same canonical form.
+     */
+    public boolean related(String skill1, String skill2) {
+        return canonical(skill1).equals(canonical(skill2));
+    }
+
+    /**
+     * Every name that appears in some synonym group.
+     */
+    public Set<String> aliases() {
+        return Collections.unmodifiableSet(canonical.keySet());
+    }
+
+    public int size() {
+        return canonical.size();
+    }
+
+    private static SynonymGraph build(List<List<String>> groups, List<Exclusion> exclusions) {
+        UnionFind sets = new UnionFind();
+
+        // Exclusion members are tagged with bit 2*rule (left) or 2*rule+1 (right)
+        for (int rule = 0; rule < exclusions.size(); rule++) {
+            for (String name : exclusions.get(rule).left()) {
+                sets.tag(sets.node(name), 2 * rule);
+            }
+            for (String name : exclusions.get(rule).right()) {
+                sets.tag(sets.node(name), 2 * rule + 1);
+            }
+        }
+
+        Set<String> grouped = new HashSet<>();
+        for (int groupIndex = 0; groupIndex < groups.size(); groupIndex++) {
+            List<String> group = groups.get(groupIndex);
+            grouped.addAll(group);
+            int head = sets.node(group.get(0));
+            sets.claim(head, groupIndex);
+            for (int i = 1; i < group.size(); i++) {
+                int alias = sets.node(group.get(i));
+                if (!sets.union(head, alias)) {
+                    System.err.println("Warning: synonym exclusion keeps \"" + group.get(i)
+                            + "\" out of group \"" + group.get(0) + "\"");
+                }
+            }
+        }
+
+        // Flatten: only group members need an entry (others map to themselves)
+        Map<String, String> canonical = new HashMap<>(grouped.size() * 2);
+        for (String name : grouped) {
+            int root = sets.find(sets.node(name));
+            canonical.put(name, sets.canonicalNode[root] >= 0 ? sets.names.get(sets.canonicalNode[root]) : name);
+        }
+        return new SynonymGraph(canonical);
+    }
+
+    private static List<String> splitNames(String list) {
+        List<String> names = new ArrayList<>();
+        for (String name : list.split(",")) {
+            String trimmed = name.trim().toLowerCase();
+            if (!trimmed.isEmpty()) {
+                names.add(trimmed);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * "!left|right": no name on the left may share a group with one on the right.
+     */
+    private record Exclusion(List<String> left, List<String> right) {
+    }
+
+    /**
+     * Union-find with path halving and union by size. Each root tracks the
+     * exclusion tags of its component and the earliest group that named a
+     * canonical inside it.
+     */
+    private static final class UnionFind {
+
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> names = new ArrayList<>();
+        private int[] parent = new int[16];
+        private int[] size = new int[16];
+        private int[] canonicalNode = new int[16];
+        private int[] canonicalGroup = new int[16];
+        private BitSet[] tags = new BitSet[16];
+
+        int node(String name) {
+            Integer existing = ids.get(name);
+            if (existing != null) {
+                return existing;
+            }
+            int id = names.size();
+            if (id == parent.length) {
+                int capacity = id * 2;
+                parent = Arrays.copyOf(parent, capacity);
+                size = Arrays.copyOf(size, capacity);
+                canonicalNode = Arrays.copyOf(canonicalNode, capacity);
+                canonicalGroup = Arrays.copyOf(canonicalGroup, capacity);
+                tags = Arrays.copyOf(tags, capacity);
+            }
+            ids.put(name, id);
+            names.add(name);
+            parent[id] = id;
+            size[id] = 1;
+            canonicalNode[id] = -1;
+            canonicalGroup[id] = Integer.MAX_VALUE;
+            return id;
+        }
+
+        void tag(int node, int bit) {
+            int root = find(node);
+            if (tags[root] == null) {
+                tags[root] = new BitSet();
+            }
+            tags[root].set(bit);
+        }
+
+        /**
+         * Record that a group (by declaration order) names this node canonical.
+         */
+        void claim(int node, int groupIndex) {
+            int root = find(node);
+            if (groupIndex < canonicalGroup[root]) {
+                canonicalGroup[root] = groupIndex;
+                canonicalNode[root] = node;
+            }
+        }
+
+        int find(int node) {
+            while (parent[node] != node) {
+                parent[node] = parent[parent[node]];
+                node = parent[node];
+            }
+            return node;
+        }
+
+        /**
+         * Merge two components unless an exclusion rule forbids it.
+         *
+         * @return false if the merge was refused
+         */
+        boolean union(int a, int b) {
+            int rootA = find(a);
+            int rootB = find(b);
+            if (rootA == rootB) {
+                return true;
+            }
+            if (conflicts(tags[rootA], tags[rootB])) {
+                return false;
+            }
+            if (size[rootA] < size[rootB]) {
+                int swap = rootA;
+                rootA = rootB;
+                rootB = swap;
+            }
+            parent[rootB] = rootA;
+            size[rootA] += size[rootB];
+            if (canonicalGroup[rootB] < canonicalGroup[rootA]) {
+                canonicalGroup[rootA] = canonicalGroup[rootB];
+                canonicalNode[rootA] = canonicalNode[rootB];
+            }
+            if (tags[rootB] != null) {
+                if (tags[rootA] == null) {
+                    tags[rootA] = new BitSet();
+                }
+                tags[rootA].or(tags[rootB]);
+            }
+            return true;
+        }
+
+        /**
+         * Two components conflict if together they hold both sides of a rule.
+         */
+        private static boolean conflicts(BitSet a, BitSet b) {
+            if (a == null || b == null) {
+                return false;
+            }
+            BitSet combined = (BitSet) a.clone();
+            combined.or(b);
+            for (int bit = combined.nextSetBit(0); bit >= 0; bit = combined.nextSetBit(bit + 1)) {
+                if ((bit & 1) == 0 && combined.get(bit + 1)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -1,5 +1,12 @@
 package com.ats.analyzer.domain;
 
+import com.ats.analyzer.extractor.SkillAutomaton;
+import com.ats.analyzer.parser.TextNormalizer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -7,6 +14,8 @@ import java.util.Set;
  */
 public class DomainClassifier {
 
+    private static final Vocabulary VOCABULARY = new Vocabulary();
+
     /**
      * Detects the primary domain of a document based on keyword hits.
      * 
@@ -32,4 +41,56 @@ public class DomainClassifier {
 
         return bestMatch;
     }
+
+    /**
+     * Domain vector of a raw document, in one automaton pass over the text.
+     * Each keyword found adds 1 + ln(occurrences) to its domain, so a
+     * keyword repeated throughout a document cannot outweigh several
+     * distinct ones.
+     */
+    public static DomainVector vectorize(CharSequence text) {
+        float[] weights = new float[Domain.values().length];
+        if (text == null) {
+            return new DomainVector(weights);
+        }
+        int[] occurrences = new int[VOCABULARY.patternDomain.length];
+        VOCABULARY.automaton.scan(text, patternId -> occurrences[patternId]++);
+
+        for (int pattern = 0; pattern < occurrences.length; pattern++) {
+            if (occurrences[pattern] > 0) {
+                weights[VOCABULARY.patternDomain[pattern]] += 1 + (float) Math.log(occurrences[pattern]);
+            }
+        }
+        return new DomainVector(weights);
+    }
+
+    /**
+     * Every DomainKeywords entry compiled into one automaton (whole words,
+     * normalized like skills); pattern id → domain ordinal.
+     */
+    private static final class Vocabulary {
+
+        private final SkillAutomaton automaton;
+        private final int[] patternDomain;
+
+        Vocabulary() {
+            Map<String, Integer> domainBySpelling = new LinkedHashMap<>();
+            for (Domain domain : Domain.values()) {
+                for (String keyword : DomainKeywords.MAP.getOrDefault(domain, Set.of())) {
+                    String normalized = TextNormalizer.normalize(keyword, TextNormalizer.Mode.COMPATIBLE);
+                    if (domainBySpelling.putIfAbsent(normalized, domain.ordinal()) != null) {
+                        throw new IllegalStateException("Domain keyword listed twice: " + keyword);
+                    }
+                }
+            }
+
+            // Spellings are distinct, so pattern ids follow insertion order
+            automaton = SkillAutomaton.compile(domainBySpelling.keySet());
+            if (automaton.patternCount() != domainBySpelling.size()) {
+                throw new IllegalStateException("Domain keywords must be at least two letters");
+            }
+            List<Integer> domains = new ArrayList<>(domainBySpelling.values());
+            patternDomain = domains.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
 }
@@ -33,4 +33,26 @@ public class DomainCompatibility {
         // Weakly related (prevents 0% scores)
         return 0.25;
     }
+
+    /**
+     * Graded similarity of two domain vectors: their cosine, or 1.0 when
+     * either document has no domain keyword (no evidence of a mismatch,
+     * like GENERAL vs GENERAL above).
+     */
+    public static double similarity(DomainVector resume, DomainVector jd) {
+        if (resume.isEmpty() || jd.isEmpty()) {
+            return 1.0;
+        }
+        return resume.cosine(jd);
+    }
+
+    /**
+     * Multiplier for a similarity: floor at 0, 1.0 at a perfect match,
+     * linear in between.
+     *
+     * @param floor Lowest multiplier (prevents 0% scores)
+     */
+    public static double factor(double similarity, double floor) {
+        return floor + (1 - floor) * similarity;
+    }
 }
@@ -0,0 +1,65 @@
+package com.ats.analyzer.domain;
+
+/**
+ * Dense domain profile of one document: one float weight per Domain,
+ * built by DomainClassifier.vectorize from the domain vocabularies.
+ *
+ * Immutable, with its norm computed up front, so a vector can be cached
+ * with its document (e.g. a JD scored against many resumes) and a
+ * similarity is a single dot product.
+ */
+public final class DomainVector {
+
+    private final float[] weights;
+    private final float norm;
+
+    DomainVector(float[] weights) {
+        this.weights = weights;
+        double sum = 0;
+        for (float weight : weights) {
+            sum += weight * weight;
+        }
+        this.norm = (float) Math.sqrt(sum);
+    }
+
+    public float get(Domain domain) {
+        return weights[domain.ordinal()];
+    }
+
+    /**
+     * True when the document contains no domain keyword at all.
+     */
+    public boolean isEmpty() {
+        return norm == 0;
+    }
+
+    /**
+     * Cosine similarity in [0, 1] (weights are non-negative); 0 if either
+     * vector is empty.
+     */
+    public double cosine(DomainVector other) {
+        if (isEmpty() || other.isEmpty()) {
+            return 0;
+        }
+        double dot = 0;
+        for (int i = 0; i < weights.length; i++) {
+            dot += weights[i] * other.weights[i];
+        }
+        return Math.min(1.0, dot / ((double) norm * other.norm));
+    }
+
+    /**
+     * Domain with the highest weight; GENERAL for an empty vector.
+     */
+    public Domain primary() {
+        Domain best = Domain.GENERAL;
+        float max = 0;
+        for (Domain domain : Domain.values()) {
+            if (weights[domain.ordinal()] > max) {
+                max = weights[domain.ordinal()];
+                best = domain;
+            }
+        }
+        return best;
+    }
+}
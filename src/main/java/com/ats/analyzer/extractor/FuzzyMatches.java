@@ -0,0 +1,32 @@
+package com.ats.analyzer.extractor;
+
+import com.ats.analyzer.dictionary.SkillBits;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Skills found only through typo-tolerant lookup, with the spelling seen in
+ * the document ("kubernetes" → "kubernets").
+ */
+public final class FuzzyMatches {
+
+    private final SkillBits skills;
+    private final Map<String, String> spellings;
+
+    FuzzyMatches(SkillBits skills, Map<String, String> spellings) {
+        this.skills = skills;
+        this.spellings = Collections.unmodifiableMap(spellings);
+    }
+
+    public SkillBits getSkills() {
+        return skills;
+    }
+
+    /**
+     * Canonical skill name → first misspelling it was recognized from.
+     */
+    public Map<String, String> getSpellings() {
+        return spellings;
+    }
+}
@@ -0,0 +1,382 @@
+package com.ats.analyzer.extractor;
+
+import com.ats.analyzer.parser.TextNormalizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * SymSpell-style deletion index for typo-tolerant skill lookup
+ * ("kubernets" → kubernetes, "pyhton" → python).
+ *
+ * Every single-word skill is indexed under all strings obtained by deleting
+ * up to maxDistance characters. A misspelled token is looked up by
+ * generating its own deletes and probing the index, so a lookup costs a few
+ * dozen hash probes regardless of dictionary size - no comparison against
+ * every skill. Candidates are confirmed with optimal string alignment
+ * distance (edits plus adjacent transpositions).
+ *
+ * Deletes are hashed (64-bit FNV-1a) into an open-addressing table and
+ * generated in scratch buffers, so lookups do not allocate. Hash collisions
+ * only add candidates, which verification rejects.
+ *
+ * To keep false positives down:
+ * - skills and tokens shorter than 5 letters are never fuzzy-matched
+ * - skills of 5-6 letters only match an adjacent transposition ("pyhton");
+ *   one substitution there already reaches ordinary words (scale → scala,
+ *   sprint → spring)
+ * - a skill plus an inflection suffix, or the skill minus one, is another
+ *   form of the word, not a typo (reacts, swifty, pipelines, algorithm);
+ *   a doubled last letter still is ("kubernetess")
+ * - distance 2 is allowed only for words of 8+ letters
+ * - the first letter must match
+ * - excluded words (fuzzy-exclusions.txt, ordinary English words near a
+ *   skill) are never corrected
+ */
+public final class FuzzySkillIndex {
+
+    public static final int MIN_LENGTH = 5;
+    public static final int MAX_LENGTH = 32;
+    private static final int MEDIUM_WORD = 7;
+    private static final int LONG_WORD = 8;
+
+    private static final char[][] SUFFIXES = Stream.of("s", "es", "d", "ed", "ing", "er", "ers", "y", "ly")
+            .map(String::toCharArray)
+            .toArray(char[][]::new);
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final char[][] words;
+    private final int[] skillIds;
+    // Sorted hashes of the excluded words
+    private final long[] excluded;
+
+    // Open addressing: delete hash → head of a chain of word indexes
+    private final long[] keys;
+    private final int[] heads;
+    private final int[] next;
+    private final int[] entryWord;
+    private final int mask;
+
+    private FuzzySkillIndex(char[][] words, int[] skillIds, long[] excluded, long[] keys, int[] heads, int[] next,
+            int[] entryWord) {
+        this.words = words;
+        this.skillIds = skillIds;
+        this.excluded = excluded;
+        this.keys = keys;
+        this.heads = heads;
+        this.next = next;
+        this.entryWord = entryWord;
+        this.mask = keys.length - 1;
+    }
+
+    /**
+     * Index single-word skills.
+     *
+     * @param spellings Skill spellings (normalized here; multi-word and short
+     *                  entries are skipped)
+     * @param skillIds  Canonical skill id reported for each spelling
+     * @param excluded  Words never corrected to a skill (normalized here)
+     */
+    public static FuzzySkillIndex build(List<String> spellings, int[] skillIds, Set<String> excluded) {
+        List<char[]> words = new ArrayList<>();
+        List<Integer> ids = new ArrayList<>();
+        List<long[]> entries = new ArrayList<>();
+        Set<String> seenWords = new HashSet<>();
+
+        for (int i = 0; i < spellings.size(); i++) {
+            String word = TextNormalizer.normalize(spellings.get(i), TextNormalizer.Mode.COMPATIBLE);
+            if (word.length() < MIN_LENGTH || word.length() > MAX_LENGTH || word.indexOf(' ') >= 0
+                    || !seenWords.add(word)) {
+                continue;
+            }
+            int wordIndex = words.size();
+            words.add(word.toCharArray());
+            ids.add(skillIds[i]);
+
+            Set<String> deletes = new HashSet<>();
+            deletes.add(word);
+            collectDeletes(word, maxDistance(word.length()), deletes);
+            for (String delete : deletes) {
+                entries.add(new long[] { hash(delete.toCharArray(), delete.length()), wordIndex });
+            }
+        }
+
+        int capacity = Integer.highestOneBit(Math.max(16, entries.size() * 2 - 1)) << 1;
+        long[] keys = new long[capacity];
+        int[] heads = new int[capacity];
+        Arrays.fill(heads, -1);
+        int[] next = new int[entries.size()];
+        int[] entryWord = new int[entries.size()];
+
+        for (int e = 0; e < entries.size(); e++) {
+            long key = entries.get(e)[0];
+            entryWord[e] = (int) entries.get(e)[1];
+            int slot = (int) mix(key) & (capacity - 1);
+            while (heads[slot] != -1 && keys[slot] != key) {
+                slot = (slot + 1) & (capacity - 1);
+            }
+            keys[slot] = key;
+            next[e] = heads[slot];
+            heads[slot] = e;
+        }
+
+        long[] excludedHashes = excluded.stream()
+                .map(word -> TextNormalizer.normalize(word, TextNormalizer.Mode.COMPATIBLE).toCharArray())
+                .mapToLong(word -> hash(word, word.length))
+                .sorted()
+                .distinct()
+                .toArray();
+
+        return new FuzzySkillIndex(words.toArray(new char[0][]), ids.stream().mapToInt(Integer::intValue).toArray(),
+                excludedHashes, keys, heads, next, entryWord);
+    }
+
+    /**
+     * Number of indexed words.
+     */
+    public int size() {
+        return words.length;
+    }
+
+    /**
+     * Look up a token (lowercase a-z).
+     *
+     * @return Canonical skill id of the closest skill within the allowed
+     *         distance, or -1 if there is none or the token is spelled
+     *         exactly (exact matches belong to the automaton)
+     */
+    public int lookup(CharSequence token) {
+        int length = token.length();
+        if (length > MAX_LENGTH) {
+            return -1;
+        }
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = token.charAt(i);
+        }
+        return newLookup().find(chars, length);
+    }
+
+    /**
+     * Reusable lookup state (scratch buffers). Not thread-safe; one per scan.
+     */
+    Lookup newLookup() {
+        return new Lookup();
+    }
+
+    final class Lookup {
+
+        private final char[][] levels = new char[3][MAX_LENGTH];
+        private final int[][] distanceRows = new int[3][MAX_LENGTH + 1];
+        // A word reachable through several deletes is verified once per lookup
+        private final int[] visited = new int[words.length];
+        private int stamp;
+        private char first;
+        private int tokenLength;
+        private int maxDistance;
+        private int bestWord;
+        private int bestDistance;
+
+        /**
+         * @see FuzzySkillIndex#lookup(CharSequence)
+         */
+        int find(char[] token, int length) {
+            if (length < MIN_LENGTH || length > MAX_LENGTH) {
+                return -1;
+            }
+            if (Arrays.binarySearch(excluded, hash(token, length)) >= 0) {
+                return -1;
+            }
+            System.arraycopy(token, 0, levels[0], 0, length);
+            first = token[0];
+            tokenLength = length;
+            maxDistance = maxDistance(length);
+            bestWord = -1;
+            bestDistance = Integer.MAX_VALUE;
+            if (++stamp == 0) {
+                Arrays.fill(visited, 0);
+                stamp = 1;
+            }
+
+            probe(levels[0], length);
+            if (bestDistance == 0) {
+                return -1;
+            }
+            deletes(0, length, 0);
+            return bestWord < 0 || bestDistance == 0 ? -1 : skillIds[bestWord];
+        }
+
+        private void deletes(int level, int length, int from) {
+            if (level == maxDistance || length <= 1) {
+                return;
+            }
+            char[] source = levels[level];
+            char[] target = levels[level + 1];
+            for (int skip = from; skip < length; skip++) {
+                System.arraycopy(source, 0, target, 0, skip);
+                System.arraycopy(source, skip + 1, target, skip, length - skip - 1);
+                probe(target, length - 1);
+                deletes(level + 1, length - 1, skip);
+            }
+        }
+
+        private void probe(char[] chars, int length) {
+            long key = hash(chars, length);
+            int slot = (int) mix(key) & mask;
+            while (heads[slot] != -1) {
+                if (keys[slot] == key) {
+                    for (int e = heads[slot]; e != -1; e = next[e]) {
+                        consider(entryWord[e]);
+                    }
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        private void consider(int wordIndex) {
+            if (visited[wordIndex] == stamp) {
+                return;
+            }
+            visited[wordIndex] = stamp;
+            char[] word = words[wordIndex];
+            if (word[0] != first) {
+                return;
+            }
+            int limit = Math.min(maxDistance, maxDistance(word.length));
+            if (Math.abs(word.length - tokenLength) > limit) {
+                return;
+            }
+            if (isInflection(levels[0], tokenLength, word, word.length)
+                    || isInflection(word, word.length, levels[0], tokenLength)) {
+                return;
+            }
+            int distance = word.length < MEDIUM_WORD ? (isTransposition(word) ? 1 : limit + 1)
+                    : distance(word, limit);
+            if (distance <= limit && (distance < bestDistance
+                    || (distance == bestDistance && wordIndex < bestWord))) {
+                bestDistance = distance;
+                bestWord = wordIndex;
+            }
+        }
+
+        /**
+         * One word is the other plus an inflection suffix ("reacts" for
+         * react), other than a repeat of its last letter.
+         */
+        private boolean isInflection(char[] longer, int longerLength, char[] shorter, int shorterLength) {
+            int suffixLength = longerLength - shorterLength;
+            if (suffixLength < 1) {
+                return false;
+            }
+            for (int i = 0; i < shorterLength; i++) {
+                if (longer[i] != shorter[i]) {
+                    return false;
+                }
+            }
+            if (suffixLength == 1 && longer[shorterLength] == shorter[shorterLength - 1]) {
+                return false;
+            }
+            for (char[] suffix : SUFFIXES) {
+                if (suffix.length == suffixLength
+                        && Arrays.equals(longer, shorterLength, longerLength, suffix, 0, suffixLength)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * The token is the word with two adjacent letters swapped.
+         */
+        private boolean isTransposition(char[] word) {
+            if (tokenLength != word.length) {
+                return false;
+            }
+            char[] token = levels[0];
+            int i = 0;
+            while (i < word.length && token[i] == word[i]) {
+                i++;
+            }
+            if (i + 1 >= word.length || token[i] != word[i + 1] || token[i + 1] != word[i]) {
+                return false;
+            }
+            for (int j = i + 2; j < word.length; j++) {
+                if (token[j] != word[j]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Optimal string alignment distance between the token and a word,
+         * or limit + 1 once it is known to exceed the limit.
+         */
+        private int distance(char[] word, int limit) {
+            char[] token = levels[0];
+            int[] previous2 = distanceRows[0];
+            int[] previous = distanceRows[1];
+            int[] current = distanceRows[2];
+            for (int j = 0; j <= word.length; j++) {
+                previous[j] = j;
+            }
+            for (int i = 1; i <= tokenLength; i++) {
+                current[0] = i;
+                int rowMin = current[0];
+                for (int j = 1; j <= word.length; j++) {
+                    int cost = token[i - 1] == word[j - 1] ? 0 : 1;
+                    int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                    if (i > 1 && j > 1 && token[i - 1] == word[j - 2] && token[i - 2] == word[j - 1]) {
+                        value = Math.min(value, previous2[j - 2] + 1);
+                    }
+                    current[j] = value;
+                    rowMin = Math.min(rowMin, value);
+                }
+                if (rowMin > limit) {
+                    return limit + 1;
+                }
+                int[] rotate = previous2;
+                previous2 = previous;
+                previous = current;
+                current = rotate;
+            }
+            return previous[word.length];
+        }
+    }
+
+    private static int maxDistance(int length) {
+        return length >= LONG_WORD ? 2 : 1;
+    }
+
+    private static void collectDeletes(String word, int depth, Set<String> deletes) {
+        if (depth == 0 || word.length() <= 1) {
+            return;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            String delete = word.substring(0, i) + word.substring(i + 1);
+            if (deletes.add(delete)) {
+                collectDeletes(delete, depth - 1, deletes);
+            }
+        }
+    }
+
+    private static long hash(char[] chars, int length) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < length; i++) {
+            hash ^= chars[i];
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long mix(long key) {
+        return key ^ (key >>> 29) ^ (key >>> 47);
+    }
+}
@@ -0,0 +1,264 @@
+package com.ats.analyzer.extractor;
+
+import com.ats.analyzer.parser.TextNormalizer;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Aho-Corasick automaton over skill phrases.
+ * Recognizes single words and multi-word/hyphenated phrases ("ci-cd",
+ * "machine learning") in one linear pass over the text, independent of how
+ * many phrases the dictionary holds.
+ *
+ * Phrases and text share the TextNormalizer alphabet: lowercase a-z with any
+ * run of other characters collapsed to one space. Every phrase is compiled
+ * as " phrase " and the text is read as if padded with spaces, so a match
+ * always starts and ends on a word boundary ("ai" never matches "maintain").
+ *
+ * Compiled into a dense transition table (27 symbols per state) once; the
+ * automaton is immutable and safe to share between threads.
+ */
+public final class SkillAutomaton {
+
+    private static final int ALPHABET = 27;
+    private static final int SPACE = 26;
+    private static final int NONE = -1;
+
+    private final String[] labels;
+    private final int[] transitions;
+    private final int[] output;
+    private final int[] outputLink;
+    private final int stateCount;
+
+    /**
+     * Receives the id of every phrase that ends at the current position.
+     */
+    @FunctionalInterface
+    public interface MatchListener {
+        void onMatch(int patternId);
+    }
+
+    private SkillAutomaton(String[] labels, int[] transitions, int[] output, int[] outputLink, int stateCount) {
+        this.labels = labels;
+        this.transitions = transitions;
+        this.output = output;
+        this.outputLink = outputLink;
+        this.stateCount = stateCount;
+    }
+
+    /**
+     * Compile phrases into an automaton.
+     * Pattern ids follow iteration order; a phrase that normalizes to the same
+     * text as an earlier one (e.g. "ci/cd" after "ci-cd") is dropped, as are
+     * phrases shorter than two characters.
+     *
+     * @param phrases Skill phrases in their dictionary spelling
+     * @return Compiled automaton whose labels are the original spellings
+     */
+    public static SkillAutomaton compile(Collection<String> phrases) {
+        Set<String> seen = new HashSet<>();
+        String[] labels = new String[phrases.size()];
+        Builder builder = new Builder(phrases.size() * 4 + 2);
+
+        int count = 0;
+        for (String phrase : phrases) {
+            String normalized = TextNormalizer.normalize(phrase, TextNormalizer.Mode.COMPATIBLE);
+            if (normalized.length() < 2 || !seen.add(normalized)) {
+                continue;
+            }
+            labels[count] = phrase;
+            builder.insert(" " + normalized + " ", count);
+            count++;
+        }
+
+        return builder.link(Arrays.copyOf(labels, count));
+    }
+
+    public int patternCount() {
+        return labels.length;
+    }
+
+    public int stateCount() {
+        return stateCount;
+    }
+
+    /**
+     * Dictionary spelling of a pattern.
+     */
+    public String label(int patternId) {
+        return labels[patternId];
+    }
+
+    /**
+     * Scan in-memory text, reporting every phrase occurrence.
+     */
+    public void scan(CharSequence text, MatchListener listener) {
+        Scanner scanner = newScanner(listener);
+        for (int i = 0, length = text.length(); i < length; i++) {
+            scanner.feed(text.charAt(i));
+        }
+        scanner.finish();
+    }
+
+    /**
+     * Create a scanner for incremental (streaming) input.
+     */
+    public Scanner newScanner(MatchListener listener) {
+        return new Scanner(listener);
+    }
+
+    /**
+     * Incremental matcher over raw characters. Not thread-safe; use one per
+     * document.
+     */
+    public final class Scanner {
+
+        private final MatchListener listener;
+        private int state;
+        private boolean atSeparator;
+
+        private Scanner(MatchListener listener) {
+            this.listener = listener;
+            reset();
+        }
+
+        /**
+         * Feed one raw character (normalized on the fly).
+         */
+        public void feed(char c) {
+            char folded = TextNormalizer.fold(c);
+            if (folded == 0) {
+                separator();
+                return;
+            }
+            step(folded - 'a');
+            atSeparator = false;
+            if (TextNormalizer.endsToken(c)) {
+                separator();
+            }
+        }
+
+        /**
+         * Flush the trailing word boundary and reset for the next document.
+         */
+        public void finish() {
+            separator();
+            reset();
+        }
+
+        private void separator() {
+            if (!atSeparator) {
+                step(SPACE);
+                atSeparator = true;
+            }
+        }
+
+        private void reset() {
+            state = 0;
+            atSeparator = false;
+            separator();
+        }
+
+        private void step(int symbol) {
+            int next = transitions[state * ALPHABET + symbol];
+            state = next;
+            if (output[next] != NONE) {
+                listener.onMatch(output[next]);
+            }
+            for (int link = outputLink[next]; link != NONE; link = outputLink[link]) {
+                listener.onMatch(output[link]);
+            }
+        }
+    }
+
+    /**
+     * Trie construction followed by breadth-first failure linking, which
+     * turns the trie into a complete DFA.
+     */
+    private static final class Builder {
+
+        private int[] transitions;
+        private int[] output;
+        private int states = 1;
+
+        Builder(int expectedStates) {
+            transitions = new int[expectedStates * ALPHABET];
+            output = new int[expectedStates];
+            Arrays.fill(output, NONE);
+        }
+
+        void insert(String pattern, int patternId) {
+            int state = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                int symbol = symbol(pattern.charAt(i));
+                int index = state * ALPHABET + symbol;
+                if (transitions[index] == 0) {
+                    // newState() may reallocate the table, so write after it returns
+                    int created = newState();
+                    transitions[index] = created;
+                }
+                state = transitions[index];
+            }
+            output[state] = patternId;
+        }
+
+        SkillAutomaton link(String[] labels) {
+            int[] fail = new int[states];
+            int[] outputLink = new int[states];
+            Arrays.fill(outputLink, NONE);
+            int[] queue = new int[states];
+            int head = 0;
+            int tail = 0;
+
+            // Depth 1: fail to root; missing root edges loop back to root
+            for (int symbol = 0; symbol < ALPHABET; symbol++) {
+                int child = transitions[symbol];
+                if (child != 0) {
+                    queue[tail++] = child;
+                }
+            }
+
+            while (head < tail) {
+                int state = queue[head++];
+                int base = state * ALPHABET;
+                int failBase = fail[state] * ALPHABET;
+
+                for (int symbol = 0; symbol < ALPHABET; symbol++) {
+                    int child = transitions[base + symbol];
+                    if (child == 0) {
+                        // Complete the DFA: borrow the failure state's edge
+                        transitions[base + symbol] = transitions[failBase + symbol];
+                        continue;
+                    }
+                    int childFail = transitions[failBase + symbol];
+                    fail[child] = childFail;
+                    outputLink[child] = output[childFail] != NONE ? childFail : outputLink[childFail];
+                    queue[tail++] = child;
+                }
+            }
+
+            return new SkillAutomaton(labels,
+                    Arrays.copyOf(transitions, states * ALPHABET),
+                    Arrays.copyOf(output, states),
+                    outputLink,
+                    states);
+        }
+
+        private int newState() {
+            if (states == output.length) {
+                int capacity = states * 2;
+                transitions = Arrays.copyOf(transitions, capacity * ALPHABET);
+                output = Arrays.copyOf(output, capacity);
+                Arrays.fill(output, states, capacity, NONE);
+            }
+            return states++;
+        }
+
+        private static int symbol(char c) {
+            return c == ' ' ? SPACE : c - 'a';
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.ats.analyzer.extractor;
+
+/**
+ * Receives skills as they are recognized by SkillTokenizer.
+ * Skills are canonical dictionary strings, so sinks can keep them without
+ * copying.
+ */
+@FunctionalInterface
+public interface SkillSink {
+
+    void accept(String skill);
+}
@@ -0,0 +1,134 @@
+package com.ats.analyzer.extractor;
+
+import com.ats.analyzer.dictionary.DictionaryRegistry;
+import com.ats.analyzer.dictionary.DictionarySnapshot;
+import com.ats.analyzer.dictionary.SkillBits;
+import com.ats.analyzer.parser.TextNormalizer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Streaming skill tokenizer.
+ * Fuses TextCleaner and KeywordExtractor: characters are normalized on the
+ * fly and fed straight into the SkillAutomaton, so neither a cleaned copy of
+ * the document nor a token array is ever built. Memory use is bounded by the
+ * number of distinct skills found.
+ *
+ * Recognizes single-word skills as well as multi-word and hyphenated
+ * phrases ("ci-cd", "unit testing", "machine learning").
+ */
+public class SkillTokenizer {
+
+    private static final int READ_CHUNK = 8192;
+
+    /**
+     * Stream skills from in-memory text (raw or already cleaned).
+     */
+    public static void scan(CharSequence text, SkillSink sink) {
+        if (text == null) {
+            return;
+        }
+        SkillAutomaton automaton = DictionaryRegistry.current().getAutomaton();
+        automaton.scan(text, patternId -> sink.accept(automaton.label(patternId)));
+    }
+
+    /**
+     * Stream skills from a character stream without buffering it whole.
+     */
+    public static void scan(Reader reader, SkillSink sink) throws IOException {
+        SkillAutomaton automaton = DictionaryRegistry.current().getAutomaton();
+        SkillAutomaton.Scanner scanner = automaton.newScanner(
+                patternId -> sink.accept(automaton.label(patternId)));
+
+        char[] chunk = new char[READ_CHUNK];
+        int read;
+        while ((read = reader.read(chunk)) != -1) {
+            for (int i = 0; i < read; i++) {
+                scanner.feed(chunk[i]);
+            }
+        }
+        scanner.finish();
+    }
+
+    /**
+     * Extract the canonical skill ids of a document.
+     * Synonyms are resolved during the scan (pattern → canonical id), so the
+     * result can go straight into SkillMatcher.
+     */
+    public static SkillBits extract(CharSequence text) {
+        return extract(text, DictionaryRegistry.current());
+    }
+
+    /**
+     * Extract against a specific snapshot. Callers that extract several
+     * documents for one request pass the same snapshot to each, so the ids
+     * stay comparable even if the dictionary is reloaded mid-request.
+     */
+    public static SkillBits extract(CharSequence text, DictionarySnapshot snapshot) {
+        SkillBits skills = snapshot.getSkills().newSet();
+        if (text == null) {
+            return skills;
+        }
+        snapshot.getAutomaton().scan(text, patternId -> skills.set(snapshot.skillOfPattern(patternId)));
+        return skills;
+    }
+
+    /**
+     * Typo-tolerant pass: look up every word the exact scan could not place
+     * in the snapshot's FuzzySkillIndex.
+     *
+     * @param exact Skills already found exactly (not reported again)
+     * @return Skills recognized only through a misspelling
+     */
+    public static FuzzyMatches extractFuzzy(CharSequence text, DictionarySnapshot snapshot, SkillBits exact) {
+        SkillBits skills = snapshot.getSkills().newSet();
+        Map<String, String> spellings = new TreeMap<>();
+        if (text == null) {
+            return new FuzzyMatches(skills, spellings);
+        }
+
+        FuzzySkillIndex.Lookup lookup = snapshot.getFuzzyIndex().newLookup();
+        char[] token = new char[FuzzySkillIndex.MAX_LENGTH];
+        int length = 0;
+        boolean overflow = false;
+
+        for (int i = 0, end = text.length(); i <= end; i++) {
+            char c = i < end ? text.charAt(i) : ' ';
+            char folded = TextNormalizer.fold(c);
+            if (folded != 0) {
+                if (length < token.length) {
+                    token[length++] = folded;
+                } else {
+                    overflow = true;
+                }
+                if (!TextNormalizer.endsToken(c)) {
+                    continue;
+                }
+            }
+            if (length >= FuzzySkillIndex.MIN_LENGTH && !overflow) {
+                int skill = lookup.find(token, length);
+                if (skill >= 0 && !exact.get(skill) && !skills.get(skill)) {
+                    skills.set(skill);
+                    spellings.put(snapshot.getSkills().nameOf(skill), new String(token, 0, length));
+                }
+            }
+            length = 0;
+            overflow = false;
+        }
+        return new FuzzyMatches(skills, spellings);
+    }
+
+    /**
+     * Collect the distinct skills of a document (dictionary spellings).
+     */
+    public static Set<String> collect(CharSequence text) {
+        Set<String> skills = new HashSet<>();
+        scan(text, skills::add);
+        return skills;
+    }
+}
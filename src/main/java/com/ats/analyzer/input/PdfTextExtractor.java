@@ -0,0 +1,289 @@
+package com.ats.analyzer.input;
+
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PDF text extraction with a configurable memory mode.
+ *
+ * PDFBox copies the PDF into a scratch buffer before parsing. In HEAP mode
+ * (PDFBox's default) that buffer lives entirely on the heap, so every
+ * upload in flight holds its whole file there. MIXED keeps up to
+ * maxMainMemoryBytes per document on the heap and pages the rest to a temp
+ * file; TEMP_FILE keeps none. Temp files are deleted when the document is
+ * closed.
+ *
+ * Long documents (at least parallelMinPages pages) can be stripped in
+ * page-range chunks on a bounded pool. A PDDocument is not thread-safe, so
+ * each chunk opens its own document over the same bytes (a byte array in
+ * HEAP mode, otherwise a temp file read in place); objects are parsed
+ * lazily, so a chunk only parses its own pages. Given a re-readable
+ * StreamSource, the page count is read first and the temp file is only
+ * written for a document that will be split. The calling thread strips
+ * the first chunk itself, and when the pool is saturated further chunks run
+ * on the caller too, so a busy pool degrades to sequential extraction
+ * instead of queueing requests behind each other. Chunks are joined in page
+ * order. Thread-safe; close() stops the pool.
+ */
+public final class PdfTextExtractor implements AutoCloseable {
+
+    private static final int QUEUE_PER_THREAD = 4;
+
+    public enum Mode {
+        HEAP, MIXED, TEMP_FILE;
+
+        /**
+         * Parse a mode name ("heap", "mixed", "temp-file"), case-insensitively.
+         */
+        public static Mode parse(String name) {
+            try {
+                return valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown PDF memory mode: " + name
+                        + " (expected heap, mixed or temp-file)");
+            }
+        }
+    }
+
+    private final Mode mode;
+    private final long maxMainMemoryBytes;
+    private final File tempDir;
+
+    private final int parallelMinPages;
+    private final int pagesPerChunk;
+    private final ThreadPoolExecutor pool;
+
+    /**
+     * @param maxMainMemoryBytes Heap budget per document (MIXED only)
+     * @param tempDir            Directory for scratch files; null uses
+     *                           java.io.tmpdir
+     */
+    public PdfTextExtractor(Mode mode, long maxMainMemoryBytes, File tempDir) {
+        this(mode, maxMainMemoryBytes, tempDir, 0, 0, 0);
+    }
+
+    /**
+     * @param parallelThreads  Extraction pool size; 0 extracts every
+     *                         document on the calling thread
+     * @param parallelMinPages Page count from which a document is split
+     * @param pagesPerChunk    Pages stripped per task
+     */
+    public PdfTextExtractor(Mode mode, long maxMainMemoryBytes, File tempDir,
+            int parallelThreads, int parallelMinPages, int pagesPerChunk) {
+        if (mode == Mode.MIXED && maxMainMemoryBytes <= 0) {
+            throw new IllegalArgumentException("PDF heap budget must be positive in mixed mode");
+        }
+        if (parallelThreads < 0) {
+            throw new IllegalArgumentException("PDF extraction threads must not be negative");
+        }
+        if (parallelThreads > 0 && (parallelMinPages < 2 || pagesPerChunk < 1
+                || pagesPerChunk >= parallelMinPages)) {
+            throw new IllegalArgumentException(
+                    "PDF parallel extraction needs min-pages >= 2 and 1 <= pages-per-chunk < min-pages");
+        }
+        this.mode = mode;
+        this.maxMainMemoryBytes = maxMainMemoryBytes;
+        this.tempDir = tempDir;
+        this.parallelMinPages = parallelMinPages;
+        this.pagesPerChunk = pagesPerChunk;
+        this.pool = parallelThreads == 0 ? null : new ThreadPoolExecutor(parallelThreads, parallelThreads,
+                0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(parallelThreads * QUEUE_PER_THREAD),
+                new ThreadFactory() {
+                    private final AtomicInteger count = new AtomicInteger();
+
+                    @Override
+                    public Thread newThread(Runnable runnable) {
+                        Thread thread = new Thread(runnable, "pdf-extract-" + count.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * PDFBox defaults: everything on the heap.
+     */
+    public static PdfTextExtractor heap() {
+        return new PdfTextExtractor(Mode.HEAP, -1, null);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public long getMaxMainMemoryBytes() {
+        return maxMainMemoryBytes;
+    }
+
+    public boolean isParallel() {
+        return pool != null;
+    }
+
+    /**
+     * A PDF that can be read more than once (an upload, a file).
+     */
+    @FunctionalInterface
+    public interface StreamSource {
+        InputStream open() throws IOException;
+    }
+
+    /**
+     * Extract the text of a PDF stream. The stream is read fully but not
+     * closed. In MIXED and TEMP_FILE mode with a pool, a one-shot stream is
+     * spooled before its page count is known; use extract(StreamSource)
+     * when the PDF can be re-read.
+     */
+    public String extract(InputStream pdf) throws IOException {
+        if (pool == null) {
+            try (PDDocument document = PDDocument.load(pdf, memoryUsage())) {
+                return new PDFTextStripper().getText(document);
+            }
+        }
+        // Chunks need to reopen the document, so keep the bytes re-readable
+        if (mode == Mode.HEAP) {
+            byte[] bytes = pdf.readAllBytes();
+            return extract(() -> PDDocument.load(bytes, "", null, null, memoryUsage()));
+        }
+        Path spooled = Files.createTempFile(tempDir != null ? tempDir.toPath() : null, "resume", ".pdf");
+        try {
+            Files.copy(pdf, spooled, StandardCopyOption.REPLACE_EXISTING);
+            return extract(spooled.toFile());
+        } finally {
+            Files.deleteIfExists(spooled);
+        }
+    }
+
+    /**
+     * Extract the text of a re-readable PDF. In MIXED and TEMP_FILE mode
+     * with a pool it is opened once to count its pages, and spooled to a
+     * temp file for the chunks only when it will be split.
+     */
+    public String extract(StreamSource pdf) throws IOException {
+        if (pool == null || mode == Mode.HEAP) {
+            try (InputStream in = pdf.open()) {
+                return extract(in);
+            }
+        }
+        try (InputStream in = pdf.open();
+                PDDocument document = PDDocument.load(in, memoryUsage())) {
+            if (document.getNumberOfPages() < parallelMinPages) {
+                return new PDFTextStripper().getText(document);
+            }
+            Path spooled = Files.createTempFile(tempDir != null ? tempDir.toPath() : null, "resume", ".pdf");
+            try {
+                try (InputStream again = pdf.open()) {
+                    Files.copy(again, spooled, StandardCopyOption.REPLACE_EXISTING);
+                }
+                File file = spooled.toFile();
+                return split(document, () -> PDDocument.load(file, memoryUsage()));
+            } finally {
+                Files.deleteIfExists(spooled);
+            }
+        }
+    }
+
+    /**
+     * Extract the text of a PDF file (read in place, never copied).
+     */
+    public String extract(File pdf) throws IOException {
+        return extract(() -> PDDocument.load(pdf, memoryUsage()));
+    }
+
+    private String extract(Source source) throws IOException {
+        try (PDDocument document = source.open()) {
+            if (pool == null || document.getNumberOfPages() < parallelMinPages) {
+                return new PDFTextStripper().getText(document);
+            }
+            return split(document, source);
+        }
+    }
+
+    /**
+     * Strip the first chunk from an open document and the rest from copies
+     * opened on the pool.
+     */
+    private String split(PDDocument document, Source source) throws IOException {
+        int pages = document.getNumberOfPages();
+        List<Future<String>> chunks = new ArrayList<>();
+        try {
+            for (int start = 1 + pagesPerChunk; start <= pages; start += pagesPerChunk) {
+                int first = start;
+                int last = Math.min(pages, start + pagesPerChunk - 1);
+                chunks.add(pool.submit(() -> {
+                    try (PDDocument copy = source.open()) {
+                        return strip(copy, first, last);
+                    }
+                }));
+            }
+            StringBuilder text = new StringBuilder(strip(document, 1, pagesPerChunk));
+            for (Future<String> chunk : chunks) {
+                text.append(chunk.get());
+            }
+            return text.toString();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted during PDF extraction");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IOException("PDF extraction failed", e.getCause());
+        } finally {
+            chunks.forEach(chunk -> chunk.cancel(true));
+        }
+    }
+
+    private static String strip(PDDocument document, int firstPage, int lastPage) throws IOException {
+        PDFTextStripper stripper = new PDFTextStripper();
+        stripper.setStartPage(firstPage);
+        stripper.setEndPage(lastPage);
+        return stripper.getText(document);
+    }
+
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Opens a fresh PDDocument over the same PDF bytes.
+     */
+    @FunctionalInterface
+    private interface Source {
+        PDDocument open() throws IOException;
+    }
+
+    /**
+     * A new setting per document: a budget is per document, not shared.
+     */
+    private MemoryUsageSetting memoryUsage() {
+        MemoryUsageSetting setting = switch (mode) {
+            case HEAP -> MemoryUsageSetting.setupMainMemoryOnly();
+            case MIXED -> MemoryUsageSetting.setupMixed(maxMainMemoryBytes);
+            case TEMP_FILE -> MemoryUsageSetting.setupTempFileOnly();
+        };
+        return tempDir != null ? setting.setTempDir(tempDir) : setting;
+    }
+}
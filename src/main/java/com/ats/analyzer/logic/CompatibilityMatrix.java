@@ -2,15 +2,18 @@ package com.ats.analyzer.logic;
 
 import com.ats.analyzer.model.RoleIntent;
 import com.ats.analyzer.model.ResumeProfile;
+import com.ats.analyzer.scorer.ScoringModelRegistry;
 
 /**
  * Role×Resume compatibility matrix.
- * Adjusted values after emergency testing.
+ * The multipliers live in the scoring model (compatibility.* keys of
+ * scoring-model.txt) so they can be tuned without a redeploy.
  */
 public class CompatibilityMatrix {
 
     /**
-     * Calculate compatibility multiplier based on role-resume alignment.
+     * Calculate compatibility multiplier based on role-resume alignment,
+     * using the active scoring model.
      * 
      * @param role    Job role intent
      * @param profile Resume background profile
@@ -19,26 +22,7 @@ public class CompatibilityMatrix {
     public static double compatibilityMultiplier(
             RoleIntent role,
             ResumeProfile profile) {
-
-        return switch (role) {
-            case TECH_CORE -> switch (profile) {
-                case TECHNICAL -> 0.95; // Increased back from 0.88
-                case MIXED -> 0.70; // Increased from 0.63
-                case NON_TECH -> 0.30; // Increased from 0.26
-            };
-
-            case TECH_ADJACENT -> switch (profile) {
-                case TECHNICAL -> 0.52; // Increased from 0.48
-                case MIXED -> 0.75; // Increased from 0.70
-                case NON_TECH -> 0.50; // Increased from 0.46
-            };
-
-            case NON_TECH -> switch (profile) {
-                case TECHNICAL -> 0.38; // Increased from 0.35
-                case MIXED -> 0.68; // Increased from 0.65
-                case NON_TECH -> 0.95; // Increased from 0.92
-            };
-        };
+        return ScoringModelRegistry.current().compatibility(role, profile);
     }
 
     /**
@@ -0,0 +1,99 @@
+package com.ats.analyzer.logic;
+
+import com.ats.analyzer.extractor.SkillAutomaton;
+import com.ats.analyzer.parser.TextNormalizer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-document signal counts: for every SignalGroup, how many of its
+ * entries occur in the text.
+ *
+ * Every group's keywords are compiled once into a single SkillAutomaton
+ * (shared normalized alphabet, whole-word matching), so computing the
+ * counts for all groups is one linear pass over the document instead of a
+ * substring search per keyword. Immutable once scanned.
+ */
+public final class DocumentSignals {
+
+    private static final Vocabulary VOCABULARY = new Vocabulary();
+
+    private final int[] counts;
+
+    private DocumentSignals(int[] counts) {
+        this.counts = counts;
+    }
+
+    /**
+     * Scan a raw document (JD or resume) once.
+     */
+    public static DocumentSignals scan(CharSequence text) {
+        int[] counts = new int[SignalGroup.values().length];
+        if (text == null) {
+            return new DocumentSignals(counts);
+        }
+        boolean[] seen = new boolean[VOCABULARY.slotGroup.length];
+        VOCABULARY.automaton.scan(text, patternId -> {
+            for (int slot : VOCABULARY.patternSlots[patternId]) {
+                if (!seen[slot]) {
+                    seen[slot] = true;
+                    counts[VOCABULARY.slotGroup[slot]]++;
+                }
+            }
+        });
+        return new DocumentSignals(counts);
+    }
+
+    /**
+     * Number of distinct entries of a group found in the document.
+     */
+    public int count(SignalGroup group) {
+        return counts[group.ordinal()];
+    }
+
+    public boolean any(SignalGroup group) {
+        return counts[group.ordinal()] > 0;
+    }
+
+    /**
+     * All groups' entries flattened into slots (one per group entry); every
+     * distinct normalized spelling becomes one automaton pattern that maps
+     * to the slots it fires.
+     */
+    private static final class Vocabulary {
+
+        private final SkillAutomaton automaton;
+        private final int[][] patternSlots;
+        private final int[] slotGroup;
+
+        Vocabulary() {
+            Map<String, List<Integer>> slotsBySpelling = new LinkedHashMap<>();
+            List<Integer> groups = new ArrayList<>();
+
+            for (SignalGroup group : SignalGroup.values()) {
+                for (String entry : group.entries()) {
+                    int slot = groups.size();
+                    groups.add(group.ordinal());
+                    for (String spelling : entry.split("\\|")) {
+                        String normalized = TextNormalizer.normalize(spelling, TextNormalizer.Mode.COMPATIBLE);
+                        slotsBySpelling.computeIfAbsent(normalized, key -> new ArrayList<>()).add(slot);
+                    }
+                }
+            }
+
+            // Spellings are already normalized and distinct, so pattern ids
+            // follow insertion order
+            automaton = SkillAutomaton.compile(slotsBySpelling.keySet());
+            if (automaton.patternCount() != slotsBySpelling.size()) {
+                throw new IllegalStateException("Signal keywords must be at least two letters");
+            }
+            patternSlots = slotsBySpelling.values().stream()
+                    .map(slots -> slots.stream().mapToInt(Integer::intValue).toArray())
+                    .toArray(int[][]::new);
+            slotGroup = groups.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+}
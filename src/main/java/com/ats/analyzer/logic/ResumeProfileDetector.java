@@ -4,16 +4,11 @@ import com.ats.analyzer.model.ResumeProfile;
 
 /**
  * Detects resume background profile based on technical signal count.
- * Used for role compatibility scoring.
+ * Used for role compatibility scoring. Signals are the RESUME_TECH
+ * vocabulary of SignalGroup, counted in one whole-word pass.
  */
 public class ResumeProfileDetector {
 
-    private static final String[] TECH_SIGNALS = {
-            "python", "java", "ml", "ai", "sql", "api", "github",
-            "project", "javascript", "programming", "code", "software",
-            "algorithm", "data structure", "backend", "frontend", "devops"
-    };
-
     /**
      * Detects resume profile from resume text.
      * 
@@ -21,9 +16,14 @@ public class ResumeProfileDetector {
      * @return Detected ResumeProfile
      */
     public static ResumeProfile detect(String resumeText) {
-        String text = resumeText.toLowerCase();
+        return detect(DocumentSignals.scan(resumeText));
+    }
 
-        int techSignals = count(text, TECH_SIGNALS);
+    /**
+     * Resume profile from an already scanned resume.
+     */
+    public static ResumeProfile detect(DocumentSignals signals) {
+        int techSignals = signals.count(SignalGroup.RESUME_TECH);
 
         // High technical signal count = technical profile
         if (techSignals >= 5) {
@@ -38,14 +38,4 @@ public class ResumeProfileDetector {
         // Minimal technical signals = non-tech profile
         return ResumeProfile.NON_TECH;
     }
-
-    private static int count(String text, String[] keywords) {
-        int count = 0;
-        for (String keyword : keywords) {
-            if (text.contains(keyword)) {
-                count++;
-            }
-        }
-        return count;
-    }
 }
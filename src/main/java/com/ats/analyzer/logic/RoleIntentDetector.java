@@ -2,31 +2,14 @@ package com.ats.analyzer.logic;
 
 import com.ats.analyzer.model.RoleIntent;
 
-import java.util.Set;
-
 /**
  * Detects job role intent from job description text.
  * Uses keyword matching with threshold-based classification and design role
- * detection.
+ * detection. Keywords are the SignalGroup vocabularies, counted in one
+ * whole-word pass by DocumentSignals.
  */
 public class RoleIntentDetector {
 
-    private static final Set<String> TECH_CORE_KEYWORDS = Set.of(
-            "software", "developer", "engineer", "ai", "machine learning",
-            "data scientist", "devops", "backend", "frontend", "sde",
-            "programming", "coding", "algorithm", "infrastructure",
-            "cloud engineer", "ml engineer", "full stack");
-
-    private static final Set<String> TECH_ADJACENT_KEYWORDS = Set.of(
-            "marketing", "business", "growth", "analyst", "operations",
-            "strategy", "content", "seo", "digital marketing", "product manager",
-            "business development", "sales engineer", "technical writer",
-            // Design roles
-            "ui/ux", "ux", "ui", "designer", "design", "figma",
-            "user experience", "user interface", "wireframe", "prototype",
-            // Data/Analytics roles
-            "data analyst", "business analyst");
-
     /**
      * Detects role intent from job description text.
      * Uses prioritized keyword matching with conflict resolution.
@@ -35,11 +18,17 @@ public class RoleIntentDetector {
      * @return Detected RoleIntent
      */
     public static RoleIntent detect(String jobDescription) {
-        String jd = jobDescription.toLowerCase();
+        return detect(DocumentSignals.scan(jobDescription));
+    }
 
+    /**
+     * Role intent from an already scanned JD, so callers that also need
+     * isDesignRole scan the text once.
+     */
+    public static RoleIntent detect(DocumentSignals signals) {
         // Count matches for each category
-        int techCoreCount = countMatches(jd, TECH_CORE_KEYWORDS);
-        int techAdjacentCount = countMatches(jd, TECH_ADJACENT_KEYWORDS);
+        int techCoreCount = signals.count(SignalGroup.TECH_CORE);
+        int techAdjacentCount = signals.count(SignalGroup.TECH_ADJACENT);
 
         // Decision logic with threshold
         // If primarily tech keywords → TECH_CORE
@@ -74,34 +63,35 @@ public class RoleIntentDetector {
      * @return true if this is a pure design role
      */
     public static boolean isDesignRole(String jobDescription) {
-        String jd = jobDescription.toLowerCase();
+        return isDesignRole(DocumentSignals.scan(jobDescription));
+    }
 
+    /**
+     * isDesignRole() on an already scanned JD.
+     */
+    public static boolean isDesignRole(DocumentSignals signals) {
         // Design role indicators
         int designScore = 0;
-        if (jd.contains("ui/ux") || jd.contains("ux designer") || jd.contains("ui designer")) {
+        if (signals.any(SignalGroup.DESIGN_TITLE)) {
             designScore += 3;
         }
-        if (jd.contains("figma") || jd.contains("adobe xd") || jd.contains("sketch")) {
+        if (signals.any(SignalGroup.DESIGN_TOOL)) {
             designScore += 2;
         }
-        if (jd.contains("wireframe") || jd.contains("prototype") || jd.contains("user research")) {
+        if (signals.any(SignalGroup.DESIGN_PRACTICE)) {
             designScore += 1;
         }
 
         // Development indicators (these override design classification)
         int devScore = 0;
-        if (jd.contains("react") || jd.contains("vue") || jd.contains("angular")) {
+        if (signals.any(SignalGroup.DEV_FRAMEWORK)) {
             devScore += 2;
         }
-        if (jd.contains("frontend development") || jd.contains("javascript framework")) {
+        if (signals.any(SignalGroup.DEV_PRACTICE)) {
             devScore += 2;
         }
 
         // It's a design role if design score is high and dev score is low
         return designScore >= 3 && devScore < 2;
     }
-
-    private static int countMatches(String text, Set<String> keywords) {
-        return (int) keywords.stream().filter(text::contains).count();
-    }
 }
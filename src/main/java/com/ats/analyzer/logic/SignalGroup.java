@@ -0,0 +1,58 @@
+package com.ats.analyzer.logic;
+
+/**
+ * Keyword vocabularies read by RoleIntentDetector and ResumeProfileDetector.
+ * All groups are compiled into one DocumentSignals automaton, so a document
+ * is scanned once however many groups are consulted.
+ *
+ * Each entry is one signal; "a|b" lists alternative spellings (plural or
+ * inflected forms) that count as the same signal. Keywords match whole
+ * words only: "ai" does not fire on "maintain", "design" not on "designer".
+ */
+public enum SignalGroup {
+
+    // Job description: core technical role
+    TECH_CORE(
+            "software", "developer|developers", "engineer|engineers", "ai", "machine learning",
+            "data scientist|data scientists", "devops", "backend|back end", "frontend|front end", "sde",
+            "programming", "coding", "algorithm|algorithms", "infrastructure",
+            "cloud engineer", "ml engineer", "full stack|fullstack"),
+
+    // Job description: technical-adjacent role
+    TECH_ADJACENT(
+            "marketing", "business", "growth", "analyst|analysts", "operations",
+            "strategy", "content", "seo", "digital marketing", "product manager",
+            "business development", "sales engineer", "technical writer",
+            // Design roles
+            "ui/ux", "ux", "ui", "designer|designers", "design", "figma",
+            "user experience", "user interface", "wireframe|wireframes|wireframing",
+            "prototype|prototypes|prototyping",
+            // Data/Analytics roles
+            "data analyst", "business analyst"),
+
+    // Design role indicators (weights in RoleIntentDetector.isDesignRole)
+    DESIGN_TITLE("ui/ux", "ux designer", "ui designer"),
+    DESIGN_TOOL("figma", "adobe xd", "sketch"),
+    DESIGN_PRACTICE("wireframe|wireframes|wireframing", "prototype|prototypes|prototyping", "user research"),
+
+    // Development indicators (override design classification)
+    DEV_FRAMEWORK("react", "vue", "angular"),
+    DEV_PRACTICE("frontend development", "javascript framework|javascript frameworks"),
+
+    // Resume: technical background
+    RESUME_TECH(
+            "python", "java", "ml", "ai", "sql", "api|apis", "github",
+            "project|projects", "javascript", "programming", "code|coding", "software",
+            "algorithm|algorithms", "data structure|data structures", "backend|back end",
+            "frontend|front end", "devops");
+
+    private final String[] entries;
+
+    SignalGroup(String... entries) {
+        this.entries = entries;
+    }
+
+    String[] entries() {
+        return entries;
+    }
+}
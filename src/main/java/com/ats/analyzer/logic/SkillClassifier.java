@@ -1,5 +1,9 @@
 package com.ats.analyzer.logic;
 
+import com.ats.analyzer.dictionary.CoreSkillPolicy;
+import com.ats.analyzer.dictionary.DictionaryRegistry;
+import com.ats.analyzer.dictionary.SkillBits;
+import com.ats.analyzer.dictionary.SkillDictionary;
 import com.ats.analyzer.model.RoleIntent;
 
 import java.util.HashSet;
@@ -8,57 +12,43 @@ import java.util.Set;
 /**
  * Classifies skills as CORE (critical) vs SECONDARY (nice-to-have).
  * CRITICAL: Core = programming fundamentals, NOT frameworks/tools.
+ *
+ * Which skills are core for each role intent is set by the core skill
+ * policy (core-skills.txt) of the active dictionary snapshot.
  */
 public class SkillClassifier {
 
-    // Core skills for technical roles = FUNDAMENTALS ONLY
-    // Frameworks/tools (Spring, Docker, AWS) are NOT core
-    private static final Set<String> CORE_TECH_SKILLS = Set.of(
-            // Programming languages (fundamentals)
-            "python", "java", "javascript", "typescript", "c", "cpp",
-            "csharp", "go", "ruby", "php", "rust", "kotlin", "scala",
-
-            // CS fundamentals
-            "dsa", "data-structures", "algorithms", "programming", "coding",
-
-            // Database fundamentals
-            "sql", "database",
-
-            // Version control
-            "git",
-
-            // API fundamentals
-            "api", "rest");
-
-    // Core skills for AI/ML roles = fundamentals + key libraries
-    private static final Set<String> CORE_AI_SKILLS = Set.of(
-            "python", "ml", "ai", "sql", "tensorflow", "pytorch",
-            "pandas", "numpy", "algorithms", "data");
-
-    // Core skills for business roles
-    private static final Set<String> CORE_BUSINESS_SKILLS = Set.of(
-            "communication", "sales", "negotiation", "excel",
-            "presentation", "crm", "analytical", "business-development");
+    /**
+     * Count CORE skills in a bitset: one AND + popcount per 64 skills.
+     */
+    public static int countCore(SkillBits skills, RoleIntent roleIntent, SkillDictionary dictionary) {
+        return skills.andCardinality(coreMask(roleIntent, dictionary));
+    }
 
-    // Core skills for marketing roles
-    private static final Set<String> CORE_MARKETING_SKILLS = Set.of(
-            "marketing", "seo", "content", "google-analytics",
-            "communication", "email-marketing", "digital-marketing");
+    /**
+     * CORE skills of a bitset, still in bitset form.
+     */
+    public static SkillBits coreSkills(SkillBits skills, RoleIntent roleIntent, SkillDictionary dictionary) {
+        return skills.and(coreMask(roleIntent, dictionary));
+    }
 
-    // Core skills for UI/UX design roles
-    private static final Set<String> CORE_DESIGN_SKILLS = Set.of(
-            "figma", "adobe-xd", "sketch", "user-experience", "user-interface",
-            "wireframing", "prototyping", "user-research", "usability",
-            "design-systems", "visual-design");
+    /**
+     * Bitset of every dictionary skill that is CORE for a role intent.
+     * Compiled once per dictionary and policy.
+     */
+    public static SkillBits coreMask(RoleIntent roleIntent, SkillDictionary dictionary) {
+        return policy().coreMask(dictionary, roleIntent);
+    }
 
     /**
      * Identify which skills are CORE (critical) based on role intent.
      */
     public static Set<String> identifyCoreSkills(Set<String> skills, RoleIntent roleIntent) {
+        CoreSkillPolicy policy = policy();
         Set<String> coreSkills = new HashSet<>();
 
         for (String skill : skills) {
-            if (isCoreSkill(skill, roleIntent)) {
+            if (policy.isCore(skill, roleIntent)) {
                 coreSkills.add(skill);
             }
         }
@@ -66,49 +56,7 @@ public class SkillClassifier {
         return coreSkills;
     }
 
-    /**
-     * Check if a skill is CORE for a given role type.
-     */
-    private static boolean isCoreSkill(String skill, RoleIntent roleIntent) {
-        String normalized = skill.toLowerCase();
-
-        // EXPLICIT EXCLUSIONS: Frameworks/tools are NEVER core (regardless of role)
-        Set<String> neverCore = Set.of(
-                "spring", "springboot", "nodejs", "node", "react", "angular", "vue",
-                "docker", "kubernetes", "aws", "azure", "gcp", "microservices",
-                "jenkins", "gitlab", "terraform", "ansible", "kafka", "redis",
-                "mongodb", "postgresql", "mysql", "flask", "django", "express",
-                "fastapi", "dotnet", "elasticsearch", "rabbitmq", "nginx", "apache",
-                "cicd", "ci-cd", "devops", "jira", "confluence", "grafana", "prometheus");
-
-        if (neverCore.contains(normalized)) {
-            return false; // Frameworks/tools are secondary, not core
-        }
-
-        // SPECIAL CASE: HTML/CSS are NOT core for design roles
-        if ((normalized.equals("html") || normalized.equals("css")) &&
-                roleIntent == RoleIntent.TECH_ADJACENT) {
-            return false;
-        }
-
-        return switch (roleIntent) {
-            case TECH_CORE -> {
-                // Only programming languages, DSA, Git, SQL, API fundamentals
-                if (CORE_TECH_SKILLS.contains(normalized) || CORE_AI_SKILLS.contains(normalized)) {
-                    yield true;
-                }
-                yield false;
-            }
-            case TECH_ADJACENT -> {
-                // Marketing/Product/Design roles
-                yield CORE_MARKETING_SKILLS.contains(normalized) ||
-                        CORE_BUSINESS_SKILLS.contains(normalized) ||
-                        CORE_DESIGN_SKILLS.contains(normalized);
-            }
-            case NON_TECH -> {
-                // Business/Sales roles: soft skills only
-                yield CORE_BUSINESS_SKILLS.contains(normalized);
-            }
-        };
+    private static CoreSkillPolicy policy() {
+        return DictionaryRegistry.current().getCorePolicy();
     }
 }
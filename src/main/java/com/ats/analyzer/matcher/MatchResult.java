@@ -1,33 +1,87 @@
 package com.ats.analyzer.matcher;
 
+import com.ats.analyzer.dictionary.SkillBits;
+import com.ats.analyzer.dictionary.SkillDictionary;
+
 import java.util.Collections;
 import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * Data model for skill matching results.
- * Uses immutable sets for defensive programming.
+ * Carries the primitive bitset form over SkillDictionary ids; the String
+ * views are produced on demand at the response edge and are immutable.
  */
 public class MatchResult {
 
-    private final Set<String> matchedSkills;
-    private final Set<String> missingSkills;
-    private final Set<String> extraSkills;
+    private final SkillBits matched;
+    private final SkillBits missing;
+    private final SkillBits extra;
+    private final SkillBits partial;
+    private final SkillDictionary dictionary;
+
+    public MatchResult(SkillBits matched, SkillBits missing, SkillBits extra, SkillDictionary dictionary) {
+        this(matched, missing, extra, dictionary.newSet(), dictionary);
+    }
+
+    /**
+     * @param partial Missing skills covered by a more specific resume skill
+     *                (a subset of missing)
+     */
+    public MatchResult(SkillBits matched, SkillBits missing, SkillBits extra, SkillBits partial,
+            SkillDictionary dictionary) {
+        this.matched = matched;
+        this.missing = missing;
+        this.extra = extra;
+        this.partial = partial;
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * Result over plain skill names, with a dictionary of just those names.
+     */
+    public static MatchResult ofNames(Set<String> matched, Set<String> missing, Set<String> extra) {
+        Set<String> names = new TreeSet<>(matched);
+        names.addAll(missing);
+        names.addAll(extra);
+        SkillDictionary dictionary = SkillDictionary.of(names);
+        return new MatchResult(dictionary.toBits(matched), dictionary.toBits(missing), dictionary.toBits(extra),
+                dictionary);
+    }
+
+    public SkillBits getMatchedBits() {
+        return matched;
+    }
 
-    public MatchResult(Set<String> matchedSkills, Set<String> missingSkills, Set<String> extraSkills) {
-        this.matchedSkills = Collections.unmodifiableSet(matchedSkills);
-        this.missingSkills = Collections.unmodifiableSet(missingSkills);
-        this.extraSkills = Collections.unmodifiableSet(extraSkills);
+    public SkillBits getMissingBits() {
+        return missing;
+    }
+
+    public SkillBits getExtraBits() {
+        return extra;
+    }
+
+    public SkillBits getPartialBits() {
+        return partial;
+    }
+
+    public SkillDictionary getDictionary() {
+        return dictionary;
     }
 
     public Set<String> getMatchedSkills() {
-        return matchedSkills;
+        return Collections.unmodifiableSet(dictionary.toNames(matched));
     }
 
     public Set<String> getMissingSkills() {
-        return missingSkills;
+        return Collections.unmodifiableSet(dictionary.toNames(missing));
     }
 
     public Set<String> getExtraSkills() {
-        return extraSkills;
+        return Collections.unmodifiableSet(dictionary.toNames(extra));
+    }
+
+    public Set<String> getPartialSkills() {
+        return Collections.unmodifiableSet(dictionary.toNames(partial));
     }
 }
@@ -1,5 +1,10 @@
 package com.ats.analyzer.matcher;
 
+import com.ats.analyzer.dictionary.DictionaryRegistry;
+import com.ats.analyzer.dictionary.DictionarySnapshot;
+import com.ats.analyzer.dictionary.SkillBits;
+import com.ats.analyzer.dictionary.SkillDictionary;
+import com.ats.analyzer.dictionary.SkillTaxonomy;
 import com.ats.analyzer.model.SkillRelation;
 
 import java.util.HashSet;
@@ -11,6 +16,38 @@ import java.util.Set;
  */
 public class SkillMatcher {
 
+    /**
+     * Match canonical skill ids (as produced by SkillTokenizer.extract).
+     * Pure word-wise bit operations: matched = resume ∧ JD,
+     * missing = JD ∧ ¬resume, extra = resume ∧ ¬JD.
+     *
+     * @param resumeSkills Skills extracted from resume
+     * @param jdSkills     Skills extracted from job description
+     * @param dictionary   Dictionary both sets were encoded with
+     * @return MatchResult containing matched, missing, and extra skills
+     */
+    public static MatchResult match(SkillBits resumeSkills, SkillBits jdSkills, SkillDictionary dictionary) {
+        return match(resumeSkills, jdSkills, dictionary, SkillTaxonomy.empty());
+    }
+
+    /**
+     * Match with taxonomy-based partial matches: a missing JD skill is
+     * partially covered when the resume holds one of its descendants
+     * (partial = missing ∧ ancestors(resume), one more word-wise AND).
+     *
+     * @param taxonomy Skill hierarchy compiled against the same dictionary
+     */
+    public static MatchResult match(SkillBits resumeSkills, SkillBits jdSkills, SkillDictionary dictionary,
+            SkillTaxonomy taxonomy) {
+        SkillBits missing = jdSkills.andNot(resumeSkills);
+        return new MatchResult(
+                jdSkills.and(resumeSkills),
+                missing,
+                resumeSkills.andNot(jdSkills),
+                taxonomy.partialMatches(missing, resumeSkills, dictionary),
+                dictionary);
+    }
+
     /**
      * Match resume skills against JD requirements with synonym awareness.
      * 
@@ -24,31 +61,14 @@ public class SkillMatcher {
         Set<String> normalizedResume = normalizeSkills(resumeSkills);
         Set<String> normalizedJD = normalizeSkills(jdSkills);
 
-        // Matched: resume ∩ JD (with synonym matching)
-        Set<String> matched = new HashSet<>();
-        for (String jdSkill : normalizedJD) {
-            if (normalizedResume.contains(jdSkill)) {
-                matched.add(jdSkill);
-            }
-        }
-
-        // Missing: JD - resume (with synonym matching)
-        Set<String> missing = new HashSet<>();
-        for (String jdSkill : normalizedJD) {
-            if (!normalizedResume.contains(jdSkill)) {
-                missing.add(jdSkill);
-            }
-        }
-
-        // Extra: resume - JD (with synonym matching)
-        Set<String> extra = new HashSet<>();
-        for (String resumeSkill : normalizedResume) {
-            if (!normalizedJD.contains(resumeSkill)) {
-                extra.add(resumeSkill);
-            }
-        }
+        // Callers may pass skills outside the whitelist; give them ids too
+        DictionarySnapshot snapshot = DictionaryRegistry.current();
+        Set<String> allSkills = new HashSet<>(normalizedResume);
+        allSkills.addAll(normalizedJD);
+        SkillDictionary dictionary = snapshot.getSkills().withNames(allSkills);
 
-        return new MatchResult(matched, missing, extra);
+        return match(dictionary.toBits(normalizedResume), dictionary.toBits(normalizedJD), dictionary,
+                snapshot.getTaxonomy());
     }
 
     /**
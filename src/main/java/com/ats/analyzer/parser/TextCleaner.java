@@ -8,6 +8,7 @@ package com.ats.analyzer.parser;
  * - Number removal affects versions (Java 17 → java, HTML5 → html)
  * - Punctuation removal has edge cases (node.js → nodejs, c++ → c)
  * These are acceptable MVP tradeoffs documented in README.
+ * TextNormalizer.Mode.PRESERVE_SYMBOLS keeps c++, c# and node.js intact.
  */
 public class TextCleaner {
 
@@ -18,27 +19,11 @@ public class TextCleaner {
      * @return Normalized text
      */
     public static String clean(String rawText) {
-        if (rawText == null || rawText.trim().isEmpty()) {
+        if (rawText == null || rawText.isBlank()) {
             return "";
         }
 
-        String cleaned = rawText;
-
-        // Convert to lowercase
-        cleaned = cleaned.toLowerCase();
-
-        // Remove numbers
-        cleaned = cleaned.replaceAll("\\d+", " ");
-
-        // Remove punctuation
-        cleaned = cleaned.replaceAll("[^a-z\\s]", " ");
-
-        // Replace multiple spaces with single space
-        cleaned = cleaned.replaceAll("\\s+", " ");
-
-        // Trim
-        cleaned = cleaned.trim();
-
-        return cleaned;
+        // Single pass: lowercase, drop numbers and punctuation, collapse spaces
+        return TextNormalizer.normalize(rawText, TextNormalizer.Mode.COMPATIBLE);
     }
 }
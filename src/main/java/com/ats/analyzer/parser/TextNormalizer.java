@@ -0,0 +1,153 @@
+package com.ats.analyzer.parser;
+
+/**
+ * Single-pass text normalizer.
+ * Folds case, drops digits and punctuation and collapses whitespace in one
+ * walk over the input, writing into a per-thread buffer that is reused
+ * between calls. Only the final String is allocated.
+ *
+ * Modes:
+ * - COMPATIBLE: identical output to the legacy regex chain
+ * (toLowerCase → \d+ → [^a-z\s] → \s+ → trim)
+ * - PRESERVE_SYMBOLS: additionally keeps '+' and '#' after a token and '.'
+ * between letters, so c++, c# and node.js survive as single tokens
+ *
+ * Case folding is locale-independent (the legacy chain used the JVM default
+ * locale, which only differs for Turkic locales).
+ */
+public class TextNormalizer {
+
+    public enum Mode {
+        COMPATIBLE,
+        PRESERVE_SYMBOLS
+    }
+
+    // Buffers above this size are not retained per thread (128 KB of chars)
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[4096]);
+
+    private static final char KELVIN_SIGN = '\u212A';
+    private static final char CAPITAL_I_WITH_DOT = '\u0130';
+
+    /**
+     * Normalize text in a single pass.
+     *
+     * @param text Raw text from resume or JD
+     * @param mode Normalization mode
+     * @return Normalized text (lowercase tokens separated by single spaces)
+     */
+    public static String normalize(CharSequence text, Mode mode) {
+        if (text == null) {
+            return "";
+        }
+
+        int length = text.length();
+        char[] buffer = acquireBuffer(length + 1);
+        boolean preserve = mode == Mode.PRESERVE_SYMBOLS;
+
+        int out = 0;
+        boolean pendingSeparator = false;
+        boolean pendingDot = false;
+
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            char folded = fold(c);
+
+            if (folded != 0) {
+                if (pendingDot) {
+                    buffer[out++] = '.';
+                    pendingDot = false;
+                } else if (pendingSeparator && out > 0) {
+                    buffer[out++] = ' ';
+                }
+                pendingSeparator = false;
+                buffer[out++] = folded;
+
+                if (endsToken(c)) {
+                    pendingSeparator = true;
+                    if (out + (length - i) + 1 > buffer.length) {
+                        buffer = growBuffer(buffer, out, out + (length - i) * 2 + 1);
+                    }
+                }
+                continue;
+            }
+
+            if (preserve && !pendingSeparator && out > 0) {
+                char previous = buffer[out - 1];
+                if ((c == '+' || c == '#') && !pendingDot) {
+                    buffer[out++] = c;
+                    continue;
+                }
+                if (c == '.' && !pendingDot && isLetter(previous)) {
+                    pendingDot = true;
+                    continue;
+                }
+            }
+
+            pendingDot = false;
+            pendingSeparator = true;
+        }
+
+        String result = new String(buffer, 0, out);
+        releaseBuffer(buffer);
+        return result;
+    }
+
+    /**
+     * Map a character to its normalized lowercase letter.
+     *
+     * @return 'a'..'z', or 0 when the character acts as a separator
+     */
+    public static char fold(char c) {
+        if (c >= 'a' && c <= 'z') {
+            return c;
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return (char) (c + ('a' - 'A'));
+        }
+        if (c < 0x80) {
+            return 0;
+        }
+        if (c == KELVIN_SIGN) {
+            return 'k';
+        }
+        if (c == CAPITAL_I_WITH_DOT) {
+            return 'i';
+        }
+        return 0;
+    }
+
+    /**
+     * Whether a letter also terminates its token.
+     * Lowercasing U+0130 yields 'i' plus a combining dot, which the legacy
+     * chain turned into a separator.
+     */
+    public static boolean endsToken(char c) {
+        return c == CAPITAL_I_WITH_DOT;
+    }
+
+    private static boolean isLetter(char c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    private static char[] acquireBuffer(int capacity) {
+        char[] buffer = BUFFER.get();
+        if (buffer.length >= capacity) {
+            return buffer;
+        }
+        return new char[capacity];
+    }
+
+    private static char[] growBuffer(char[] buffer, int used, int capacity) {
+        char[] grown = new char[capacity];
+        System.arraycopy(buffer, 0, grown, 0, used);
+        return grown;
+    }
+
+    private static void releaseBuffer(char[] buffer) {
+        if (buffer.length <= MAX_RETAINED_BUFFER && buffer.length > BUFFER.get().length) {
+            BUFFER.set(buffer);
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.ats.analyzer.scorer;
 
-import com.ats.analyzer.logic.CompatibilityMatrix;
+import com.ats.analyzer.context.AnalysisContext;
+import com.ats.analyzer.dictionary.SkillDictionary;
+import com.ats.analyzer.domain.DomainCompatibility;
+import com.ats.analyzer.logic.DocumentSignals;
 import com.ats.analyzer.logic.ResumeProfileDetector;
 import com.ats.analyzer.logic.RoleIntentDetector;
 import com.ats.analyzer.logic.SkillClassifier;
+import com.ats.analyzer.matcher.MatchResult;
 import com.ats.analyzer.model.ResumeProfile;
 import com.ats.analyzer.model.RoleIntent;
 
@@ -14,6 +18,12 @@ import java.util.Set;
  */
 public class MatchScorer {
 
+    /**
+     * Share of a skill's credit earned through the taxonomy (JD "java",
+     * resume "spring"). 0 disables partial credit.
+     */
+    public static final double DEFAULT_PARTIAL_CREDIT = 0.5;
+
     public static double calculateScore(
             Set<String> matchedSkills,
             Set<String> missingSkills,
@@ -22,117 +32,214 @@ public class MatchScorer {
             String resumeText) {
 
         // 1. Detect role intent, resume profile, and design role
-        RoleIntent roleIntent = RoleIntentDetector.detect(jobDescription);
+        DocumentSignals jd = DocumentSignals.scan(jobDescription);
+        RoleIntent roleIntent = RoleIntentDetector.detect(jd);
         ResumeProfile resumeProfile = ResumeProfileDetector.detect(resumeText);
-        boolean isDesignRole = RoleIntentDetector.isDesignRole(jobDescription);
-
-        // === DEBUG OUTPUT ===
-        System.out.println("\n========== ATS SCORING DEBUG ==========");
-        System.out.println("📋 JOB ANALYSIS:");
-        System.out.println("  Role Intent: " + roleIntent);
-        System.out.println("  Is Design Role: " + isDesignRole);
-        System.out.println("  Resume Profile: " + resumeProfile);
-        System.out.println("\n📊 SKILLS BREAKDOWN:");
-        System.out.println("  Matched (" + matchedSkills.size() + "): " + matchedSkills);
-        System.out.println("  Missing (" + missingSkills.size() + "): " + missingSkills);
-
-        // Identify core skills for debug
+        boolean isDesignRole = RoleIntentDetector.isDesignRole(jd);
+
+        // Identify core skills
         Set<String> coreMatched = SkillClassifier.identifyCoreSkills(matchedSkills, roleIntent);
         Set<String> coreMissing = SkillClassifier.identifyCoreSkills(missingSkills, roleIntent);
-        System.out.println("  Core Matched (" + coreMatched.size() + "): " + coreMatched);
-        System.out.println("  Core Missing (" + coreMissing.size() + "): " + coreMissing);
+
+        return score(matchedSkills.size(), missingSkills.size(), coreMatched.size(), coreMissing.size(),
+                roleIntent, resumeProfile, isDesignRole, null, ScoringModelRegistry.current(), null);
+    }
+
+    /**
+     * Score a request: a context (skill and core counts are popcounts over
+     * SkillDictionary ids, no skill names are touched) or plain counts.
+     */
+    public static double calculateScore(ScoreRequest request) {
+        ScoringModel model = request.model != null ? request.model : ScoringModelRegistry.current();
+        ScoringTrace trace = request.trace;
+        AnalysisContext context = request.context;
+        if (context == null) {
+            return score(request.matchedCount, request.missingCount, request.coreMatched, request.coreMissing,
+                    request.roleIntent, request.resumeProfile, request.designRole, null, model, trace);
+        }
+
+        MatchResult matchResult = context.getMatchResult();
+        int matched = matchResult.getMatchedBits().cardinality();
+        int missing = matchResult.getMissingBits().cardinality();
+
+        // Partial matches are precomputed in MatchResult, so crediting them adds two popcounts
+        int partial = matchResult.getPartialBits().cardinality();
+        double partialSkills = request.partialCredit * partial;
+        double partialCore = request.partialCredit * context.corePartialCount();
+
+        if (trace != null) {
+            // Names are resolved only for an explained request
+            SkillDictionary dictionary = context.getDictionary();
+            trace.core(dictionary.toNames(context.getCoreMatched()),
+                    dictionary.toNames(context.getCoreMissing()),
+                    dictionary.toNames(context.getCorePartial()));
+            trace.partial(partial, request.partialCredit);
+        }
+
+        return score(matched + partialSkills, missing - partialSkills,
+                context.coreMatchedCount() + partialCore, context.coreMissingCount() - partialCore,
+                context.getRoleIntent(), context.getResumeProfile(), context.isDesignRole(),
+                context.getDomainSimilarity(), model, trace);
+    }
+
+    /**
+     * Count-based scoring shared by the String and request entry points.
+     * Counts are fractional once partial credit is applied.
+     *
+     * @param domainSimilarity Resume/JD domain similarity; null skips the
+     *                         domain factor
+     */
+    private static double score(
+            double matchedCount,
+            double missingCount,
+            double coreMatched,
+            double coreMissing,
+            RoleIntent roleIntent,
+            ResumeProfile resumeProfile,
+            boolean isDesignRole,
+            Double domainSimilarity,
+            ScoringModel model,
+            ScoringTrace trace) {
+
+        double rawScore = rawScore(matchedCount, missingCount, coreMatched, coreMissing,
+                roleIntent, resumeProfile, isDesignRole, domainSimilarity, model, trace);
+
+        // 7. Apply human-safe boundaries
+        int finalScore = bound(rawScore, model);
+
+        if (trace != null) {
+            trace.result(rawScore, finalScore);
+        }
+
+        return finalScore;
+    }
+
+    /**
+     * Steps 1-6 of score(): the unrounded, unbounded score. ScoreSimulator
+     * ranks hypothetical changes on it, since many differ by less than the
+     * rounding step.
+     */
+    static double rawScore(
+            double matchedCount,
+            double missingCount,
+            double coreMatched,
+            double coreMissing,
+            RoleIntent roleIntent,
+            ResumeProfile resumeProfile,
+            boolean isDesignRole,
+            Double domainSimilarity,
+            ScoringModel model,
+            ScoringTrace trace) {
+
+        if (trace != null) {
+            trace.job(roleIntent, isDesignRole, resumeProfile);
+            trace.counts(matchedCount, missingCount);
+            trace.model(model.getVersion());
+        }
 
         // 2. Calculate skill match score
         double skillScore = calculateWeightedSkillScore(
-                matchedSkills, missingSkills, roleIntent);
-
-        // === DETAILED DEBUG ===
-        System.out.println("\n  🔍 DETAILED BREAKDOWN:");
-        System.out.println("    Total Matched: " + matchedSkills.size() + " / Total Signals: "
-                + (matchedSkills.size() + missingSkills.size()));
-        System.out.println("    Core Matched: " + coreMatched.size() + " → " + coreMatched);
-        System.out.println("    Core Missing: " + coreMissing.size() + " → " + coreMissing);
-
-        if (coreMatched.size() + coreMissing.size() > 0) {
-            double coreRate = (double) coreMatched.size() / (coreMatched.size() + coreMissing.size());
-            System.out.println("    Core Match Rate: " + String.format("%.2f%%", coreRate * 100));
-        }
-        System.out.println("    Skill Score (before clamp): " + String.format("%.4f", skillScore));
+                matchedCount, missingCount, coreMatched, coreMissing, model, trace);
 
-        // 3. Clamp skill score (adjusted ranges)
-        skillScore = Math.max(0.20, Math.min(0.82, skillScore));
+        // 3. Clamp skill score
+        double clampedSkillScore = Math.max(model.skillMin, Math.min(model.skillMax, skillScore));
 
         // 4. Apply role×resume compatibility multiplier
-        double compatibilityFactor = CompatibilityMatrix.compatibilityMultiplier(
-                roleIntent, resumeProfile);
+        double compatibility = model.compatibility(roleIntent, resumeProfile);
+        double compatibilityFactor = compatibility;
 
         // 5. Apply design role penalty if applicable
-        if (isDesignRole && resumeProfile == ResumeProfile.TECHNICAL) {
-            compatibilityFactor *= 0.35;
-            System.out.println("  ⚠️  Design Penalty Applied (0.35x)");
+        boolean designPenalty = isDesignRole && resumeProfile == ResumeProfile.TECHNICAL;
+        if (designPenalty) {
+            compatibilityFactor *= model.designPenalty;
         }
 
-        // 6. Calculate final score
-        double rawScore = skillScore * compatibilityFactor * 100;
+        // 6. Calculate final score, scaled by domain similarity if measured
+        double rawScore = clampedSkillScore * compatibilityFactor * 100;
+        if (domainSimilarity != null) {
+            double domainFactor = DomainCompatibility.factor(domainSimilarity, model.domainFloor);
+            rawScore *= domainFactor;
+            if (trace != null) {
+                trace.domain(domainSimilarity, domainFactor);
+            }
+        }
 
-        // 7. Apply human-safe boundaries (adjusted cap)
-        int finalScore = (int) Math.round(rawScore);
-        finalScore = Math.max(10, Math.min(95, finalScore));
+        if (trace != null) {
+            trace.skillScore(skillScore, clampedSkillScore);
+            trace.compatibility(compatibility, designPenalty, compatibilityFactor);
+        }
 
-        // === CONTINUE DEBUG ===
-        System.out.println("\n🧮 SCORE CALCULATION:");
-        System.out.println("  Skill Score (after clamp): " + String.format("%.3f", skillScore));
-        System.out.println("  Compatibility: " + String.format("%.3f", compatibilityFactor));
-        System.out.println("  Raw Score: " + String.format("%.2f", rawScore));
-        System.out.println("  Final Score: " + finalScore + "%");
-        System.out.println("=======================================\n");
+        return rawScore;
+    }
 
-        return finalScore;
+    /**
+     * Round a raw score and keep it within (score.min, score.max).
+     */
+    static int bound(double rawScore, ScoringModel model) {
+        int finalScore = (int) Math.round(rawScore);
+        return Math.max(model.scoreMin, Math.min(model.scoreMax, finalScore));
     }
 
     private static double calculateWeightedSkillScore(
-            Set<String> matchedSkills,
-            Set<String> missingSkills,
-            RoleIntent roleIntent) {
+            double matchedCount,
+            double missingCount,
+            double coreMatched,
+            double coreMissing,
+            ScoringModel model,
+            ScoringTrace trace) {
 
-        int totalSignals = matchedSkills.size() + missingSkills.size();
+        double totalSignals = matchedCount + missingCount;
 
         // Handle vague JDs
-        if (totalSignals < 3) {
-            return 0.30;
+        if (totalSignals < model.minSignals) {
+            if (trace != null) {
+                trace.adjustment("Vague job description (fewer than " + (int) model.minSignals
+                        + " skills): fixed " + model.vagueScore);
+            }
+            return model.vagueScore;
         }
 
-        // Classify skills as CORE vs SECONDARY
-        Set<String> coreMatched = SkillClassifier.identifyCoreSkills(matchedSkills, roleIntent);
-        Set<String> coreMissing = SkillClassifier.identifyCoreSkills(missingSkills, roleIntent);
-
-        int totalCoreSkills = coreMatched.size() + coreMissing.size();
+        double totalCoreSkills = coreMatched + coreMissing;
 
         if (totalCoreSkills > 0) {
             // Core skill match rate
-            double coreMatchRate = (double) coreMatched.size() / totalCoreSkills;
+            double coreMatchRate = coreMatched / totalCoreSkills;
 
             // Overall skill match rate
-            double overallMatchRate = (double) matchedSkills.size() / totalSignals;
+            double overallMatchRate = matchedCount / totalSignals;
+            if (trace != null) {
+                trace.rates(coreMatchRate, overallMatchRate);
+            }
 
-            // Blended weighted score: core 60%, overall 40%
-            double weightedScore = (coreMatchRate * 0.60) + (overallMatchRate * 0.40);
+            // Blended weighted score (default: core 60%, overall 40%)
+            double weightedScore = (coreMatchRate * model.coreWeight) + (overallMatchRate * model.overallWeight);
 
-            // Penalty: if missing 2x+ more skills
-            if (missingSkills.size() > matchedSkills.size() * 2) {
-                weightedScore *= 0.85;
+            // Penalty: if missing far more skills than matched
+            if (missingCount > matchedCount * model.missingRatio) {
+                weightedScore *= model.missingPenalty;
+                if (trace != null) {
+                    trace.adjustment("Missing more than " + model.missingRatio + "x the matched skills: x"
+                            + model.missingPenalty);
+                }
             }
 
-            // INCREASED BONUS: Perfect/near-perfect core match
-            if (coreMatchRate >= 0.95 && coreMatched.size() >= 4) {
-                weightedScore = Math.min(0.82, weightedScore * 1.15); // Increased bonus
-                System.out.println("    ✨ Perfect Core Bonus Applied (+15%)");
+            // Bonus: Perfect/near-perfect core match
+            if (coreMatchRate >= model.coreBonusRate && coreMatched >= model.coreBonusMin) {
+                weightedScore = Math.min(model.skillMax, weightedScore * model.coreBonus);
+                if (trace != null) {
+                    trace.adjustment("Perfect core match bonus: x" + model.coreBonus + " (capped at "
+                            + model.skillMax + ")");
+                }
             }
 
             return weightedScore;
         } else {
             // No core skills detected
-            return (double) matchedSkills.size() / totalSignals;
+            if (trace != null) {
+                trace.rates(null, matchedCount / totalSignals);
+                trace.adjustment("No core skills for this role: overall match rate only");
+            }
+            return matchedCount / totalSignals;
         }
     }
 }
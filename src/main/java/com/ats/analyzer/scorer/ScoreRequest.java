@@ -0,0 +1,85 @@
+package com.ats.analyzer.scorer;
+
+import com.ats.analyzer.context.AnalysisContext;
+import com.ats.analyzer.model.ResumeProfile;
+import com.ats.analyzer.model.RoleIntent;
+
+/**
+ * Input and options of one MatchScorer call: an AnalysisContext with its
+ * partial-credit weight, or skill counts against a pre-analyzed JD. The
+ * active model is used unless one is set; a trace is filled in when set.
+ *
+ * Not thread-safe; one request per score.
+ */
+public final class ScoreRequest {
+
+    final AnalysisContext context;
+    final double partialCredit;
+
+    final double matchedCount;
+    final double missingCount;
+    final double coreMatched;
+    final double coreMissing;
+    final RoleIntent roleIntent;
+    final boolean designRole;
+    final ResumeProfile resumeProfile;
+
+    ScoringModel model;
+    ScoringTrace trace;
+
+    private ScoreRequest(AnalysisContext context, double partialCredit, double matchedCount, double missingCount,
+            double coreMatched, double coreMissing, RoleIntent roleIntent, boolean designRole,
+            ResumeProfile resumeProfile) {
+        this.context = context;
+        this.partialCredit = partialCredit;
+        this.matchedCount = matchedCount;
+        this.missingCount = missingCount;
+        this.coreMatched = coreMatched;
+        this.coreMissing = coreMissing;
+        this.roleIntent = roleIntent;
+        this.designRole = designRole;
+        this.resumeProfile = resumeProfile;
+    }
+
+    /**
+     * Score an analysis context. Each partially covered skill moves
+     * partialCredit of a skill from the missing to the matched side.
+     *
+     * @param partialCredit Weight of a partial match in [0, 1]; 0 disables
+     *                      partial credit
+     */
+    public static ScoreRequest of(AnalysisContext context, double partialCredit) {
+        return new ScoreRequest(context, partialCredit, 0, 0, 0, 0, null, false, null);
+    }
+
+    /**
+     * Score from skill counts against a pre-analyzed JD. Counts may be
+     * fractional (partial credit already applied).
+     *
+     * For fixed totals (matched + missing, coreMatched + coreMissing) the
+     * score never decreases as matchedCount or coreMatched grows, so callers
+     * can evaluate it on optimistic counts to get an upper bound.
+     */
+    public static ScoreRequest ofCounts(double matchedCount, double missingCount, double coreMatched,
+            double coreMissing, RoleIntent roleIntent, boolean designRole, ResumeProfile resumeProfile) {
+        return new ScoreRequest(null, 0, matchedCount, missingCount, coreMatched, coreMissing, roleIntent,
+                designRole, resumeProfile);
+    }
+
+    /**
+     * Score with this model (e.g. a shadow candidate, or one model for
+     * every score of a query) instead of the active one.
+     */
+    public ScoreRequest model(ScoringModel model) {
+        this.model = model;
+        return this;
+    }
+
+    /**
+     * @param trace Filled in with the intermediate values; null to skip
+     */
+    public ScoreRequest trace(ScoringTrace trace) {
+        this.trace = trace;
+        return this;
+    }
+}
@@ -0,0 +1,153 @@
+package com.ats.analyzer.scorer;
+
+import com.ats.analyzer.context.AnalysisContext;
+import com.ats.analyzer.dictionary.SkillBits;
+import com.ats.analyzer.dictionary.SkillDictionary;
+import com.ats.analyzer.dictionary.SkillTaxonomy;
+import com.ats.analyzer.logic.SkillClassifier;
+import com.ats.analyzer.matcher.MatchResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * What-if scoring: for every missing JD skill, the score the resume would
+ * get if it also had that skill.
+ *
+ * Works on the counts MatchScorer already scores from. Adding a missing
+ * skill moves it (or, if partially covered, the rest of its credit) from
+ * the missing to the matched side, core counts too when it is core. Its
+ * still-uncovered taxonomy ancestors in the JD become partial matches. Each
+ * candidate costs two popcounts and one count-based score, with no
+ * re-extraction or re-matching.
+ */
+public class ScoreSimulator {
+
+    /**
+     * Score after adding one missing skill.
+     */
+    public static final class SkillGain {
+
+        private final String skill;
+        private final boolean core;
+        private final boolean partial;
+        private final int score;
+        private final int gain;
+        private final double rawGain;
+
+        private SkillGain(String skill, boolean core, boolean partial, int score, int gain, double rawGain) {
+            this.skill = skill;
+            this.core = core;
+            this.partial = partial;
+            this.score = score;
+            this.gain = gain;
+            this.rawGain = rawGain;
+        }
+
+        public String getSkill() {
+            return skill;
+        }
+
+        /**
+         * CORE for the JD's role intent.
+         */
+        public boolean isCore() {
+            return core;
+        }
+
+        /**
+         * Already partially covered by a more specific resume skill.
+         */
+        public boolean isPartial() {
+            return partial;
+        }
+
+        /**
+         * Final score with the skill added.
+         */
+        public int getScore() {
+            return score;
+        }
+
+        /**
+         * Final score points gained (0 when rounding or the score.max bound
+         * absorbs the change).
+         */
+        public int getGain() {
+            return gain;
+        }
+
+        /**
+         * Unrounded score gain; what candidates are ranked by.
+         */
+        public double getRawGain() {
+            return rawGain;
+        }
+    }
+
+    /**
+     * Missing skills ranked by score gain, best first; ties put core skills
+     * first, then dictionary (alphabetical) order.
+     *
+     * @param taxonomy Taxonomy the match was computed with
+     * @param limit    Maximum number of skills returned
+     */
+    public static List<SkillGain> simulate(AnalysisContext context, SkillTaxonomy taxonomy, double partialCredit,
+            ScoringModel model, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        MatchResult matchResult = context.getMatchResult();
+        SkillDictionary dictionary = context.getDictionary();
+        SkillBits missing = matchResult.getMissingBits();
+        SkillBits partial = matchResult.getPartialBits();
+        SkillBits coreMask = SkillClassifier.coreMask(context.getRoleIntent(), dictionary);
+
+        // Current counts, exactly as MatchScorer derives them
+        double partialSkills = partialCredit * partial.cardinality();
+        double partialCore = partialCredit * context.corePartialCount();
+        double matched = matchResult.getMatchedBits().cardinality() + partialSkills;
+        double unmatched = missing.cardinality() - partialSkills;
+        double coreMatched = context.coreMatchedCount() + partialCore;
+        double coreUnmatched = context.coreMissingCount() - partialCore;
+
+        double baseRaw = raw(context, matched, unmatched, coreMatched, coreUnmatched, model);
+        int baseScore = MatchScorer.bound(baseRaw, model);
+
+        // Missing skills with no credit yet: what an added descendant can cover
+        SkillBits uncovered = missing.andNot(partial);
+        SkillBits uncoveredCore = uncovered.and(coreMask);
+
+        List<SkillGain> gains = new ArrayList<>();
+        for (int id = missing.nextSetBit(0); id >= 0; id = missing.nextSetBit(id + 1)) {
+            boolean isPartial = partial.get(id);
+            boolean isCore = coreMask.get(id);
+            double own = isPartial ? 1 - partialCredit : 1;
+
+            SkillBits ancestors = taxonomy.ancestors(id, dictionary);
+            double implied = partialCredit * ancestors.andCardinality(uncovered);
+            double impliedCore = partialCredit * ancestors.andCardinality(uncoveredCore);
+
+            double delta = own + implied;
+            double coreDelta = (isCore ? own : 0) + impliedCore;
+            double raw = raw(context, matched + delta, unmatched - delta,
+                    coreMatched + coreDelta, coreUnmatched - coreDelta, model);
+            int score = MatchScorer.bound(raw, model);
+
+            gains.add(new SkillGain(dictionary.nameOf(id), isCore, isPartial, score, score - baseScore,
+                    raw - baseRaw));
+        }
+
+        // Stable sort keeps id (alphabetical) order among equal keys
+        gains.sort((a, b) -> a.rawGain != b.rawGain
+                ? Double.compare(b.rawGain, a.rawGain)
+                : Boolean.compare(b.core, a.core));
+        return gains.size() > limit ? new ArrayList<>(gains.subList(0, limit)) : gains;
+    }
+
+    private static double raw(AnalysisContext context, double matched, double unmatched, double coreMatched,
+            double coreUnmatched, ScoringModel model) {
+        return MatchScorer.rawScore(matched, unmatched, coreMatched, coreUnmatched, context.getRoleIntent(),
+                context.getResumeProfile(), context.isDesignRole(), context.getDomainSimilarity(), model, null);
+    }
+}
@@ -0,0 +1,248 @@
+package com.ats.analyzer.scorer;
+
+import com.ats.analyzer.model.ResumeProfile;
+import com.ats.analyzer.model.RoleIntent;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable set of MatchScorer weights, loaded from a model file
+ * (see scoring-model.txt) instead of being compiled in.
+ *
+ * Values are compiled into primitive fields and a flat compatibility table
+ * indexed by RoleIntent and ResumeProfile ordinals, so scoring reads them
+ * without any map lookup. Models are published through
+ * ScoringModelRegistry and swapped atomically.
+ *
+ * Validation keeps the properties callers rely on: weights are
+ * non-negative, the missing penalty never raises and the core bonus never
+ * lowers a score (so scores stay monotone in matched skills, which
+ * CandidatePool's bounds assume), and the final score stays in [0, 100].
+ */
+public final class ScoringModel {
+
+    public static final String MODEL_FILE = "scoring-model.txt";
+
+    private static final int PROFILES = ResumeProfile.values().length;
+    private static final String COMPATIBILITY = "compatibility.";
+
+    private final long version;
+    private final String source;
+    private final Instant loadedAt;
+    private final Map<String, Double> values;
+
+    final double coreWeight;
+    final double overallWeight;
+    final double minSignals;
+    final double vagueScore;
+    final double missingRatio;
+    final double missingPenalty;
+    final double coreBonus;
+    final double coreBonusRate;
+    final double coreBonusMin;
+    final double skillMin;
+    final double skillMax;
+    final double designPenalty;
+    final double domainFloor;
+    final int scoreMin;
+    final int scoreMax;
+    private final double[] compatibility;
+
+    private ScoringModel(long version, String source, Map<String, Double> values) {
+        this.version = version;
+        this.source = source;
+        this.loadedAt = Instant.now();
+        this.values = Collections.unmodifiableMap(values);
+
+        coreWeight = nonNegative("skill.core-weight");
+        overallWeight = nonNegative("skill.overall-weight");
+        minSignals = nonNegative("skill.min-signals");
+        vagueScore = unit("skill.vague-score");
+        missingRatio = nonNegative("skill.missing-ratio");
+        missingPenalty = unit("skill.missing-penalty");
+        coreBonus = value("skill.core-bonus");
+        coreBonusRate = unit("skill.core-bonus-rate");
+        coreBonusMin = nonNegative("skill.core-bonus-min");
+        skillMin = unit("skill.min");
+        skillMax = unit("skill.max");
+        designPenalty = unit("design-penalty");
+        domainFloor = unit("domain.floor");
+        scoreMin = (int) value("score.min");
+        scoreMax = (int) value("score.max");
+
+        if (coreBonus < 1) {
+            throw new IllegalArgumentException("skill.core-bonus must be at least 1");
+        }
+        if (skillMin > skillMax) {
+            throw new IllegalArgumentException("skill.min must not exceed skill.max");
+        }
+        if (scoreMin < 0 || scoreMax > 100 || scoreMin > scoreMax) {
+            throw new IllegalArgumentException("score.min and score.max must satisfy 0 <= min <= max <= 100");
+        }
+
+        compatibility = new double[RoleIntent.values().length * PROFILES];
+        for (RoleIntent role : RoleIntent.values()) {
+            for (ResumeProfile profile : ResumeProfile.values()) {
+                compatibility[role.ordinal() * PROFILES + profile.ordinal()] =
+                        nonNegative(COMPATIBILITY + role + "." + profile);
+            }
+        }
+    }
+
+    /**
+     * The model bundled in the application resources.
+     */
+    public static ScoringModel loadBundled(long version) {
+        return parse(bundledLines(), null, version, "classpath");
+    }
+
+    /**
+     * Load a model file; keys it does not set keep their values from base.
+     *
+     * @throws IOException if the file cannot be read
+     */
+    public static ScoringModel loadFile(Path file, ScoringModel base, long version) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            throw new IOException("Scoring model file not found: " + file);
+        }
+        return parse(Files.readAllLines(file, StandardCharsets.UTF_8), base, version, file.toString());
+    }
+
+    /**
+     * Parse model file lines.
+     *
+     * @param base Model supplying keys the lines leave out; null requires
+     *             every key
+     * @throws IllegalArgumentException on unknown keys, malformed or
+     *                                  out-of-range values, or missing keys
+     */
+    public static ScoringModel parse(List<String> lines, ScoringModel base, long version, String source) {
+        Map<String, Double> values = new LinkedHashMap<>(base != null ? base.values : requiredKeys());
+
+        for (String rawLine : lines) {
+            String line = rawLine.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            int equals = line.indexOf('=');
+            if (equals <= 0) {
+                throw new IllegalArgumentException("Malformed scoring model line: " + line);
+            }
+            String key = line.substring(0, equals).trim();
+            if (!values.containsKey(key)) {
+                throw new IllegalArgumentException("Unknown scoring model key: " + key);
+            }
+            try {
+                values.put(key, Double.parseDouble(line.substring(equals + 1).trim()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid number for scoring model key " + key + ": " + line);
+            }
+        }
+
+        List<String> missing = new ArrayList<>();
+        values.forEach((key, value) -> {
+            if (value == null) {
+                missing.add(key);
+            }
+        });
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Scoring model is missing keys: " + missing);
+        }
+        return new ScoringModel(version, source, values);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    /**
+     * Every model value by key, in model file order.
+     */
+    public Map<String, Double> getValues() {
+        return values;
+    }
+
+    /**
+     * Role × profile multiplier.
+     */
+    public double compatibility(RoleIntent role, ResumeProfile profile) {
+        return compatibility[role.ordinal() * PROFILES + profile.ordinal()];
+    }
+
+    private double value(String key) {
+        return values.get(key);
+    }
+
+    private double nonNegative(String key) {
+        double value = value(key);
+        if (!(value >= 0)) {
+            throw new IllegalArgumentException(key + " must not be negative");
+        }
+        return value;
+    }
+
+    private double unit(String key) {
+        double value = nonNegative(key);
+        if (value > 1) {
+            throw new IllegalArgumentException(key + " must be in [0, 1]");
+        }
+        return value;
+    }
+
+    /**
+     * Every key a model defines, mapped to null (not yet set).
+     */
+    private static Map<String, Double> requiredKeys() {
+        Map<String, Double> keys = new LinkedHashMap<>();
+        for (String key : List.of("skill.core-weight", "skill.overall-weight", "skill.min-signals",
+                "skill.vague-score", "skill.missing-ratio", "skill.missing-penalty", "skill.core-bonus",
+                "skill.core-bonus-rate", "skill.core-bonus-min", "skill.min", "skill.max", "design-penalty",
+                "domain.floor", "score.min", "score.max")) {
+            keys.put(key, null);
+        }
+        for (RoleIntent role : RoleIntent.values()) {
+            for (ResumeProfile profile : ResumeProfile.values()) {
+                keys.put(COMPATIBILITY + role + "." + profile, null);
+            }
+        }
+        return keys;
+    }
+
+    private static List<String> bundledLines() {
+        List<String> lines = new ArrayList<>();
+        try (InputStream is = ScoringModel.class.getResourceAsStream("/" + MODEL_FILE)) {
+            if (is == null) {
+                throw new IllegalStateException(MODEL_FILE + " not found in resources");
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error loading " + MODEL_FILE, e);
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,37 @@
+package com.ats.analyzer.scorer;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the active ScoringModel.
+ * A scoring call reads current() once; a new model is built and validated
+ * elsewhere and published with a single atomic reference write.
+ */
+public class ScoringModelRegistry {
+
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    private static final AtomicReference<ScoringModel> CURRENT = new AtomicReference<>(
+            ScoringModel.loadBundled(nextVersion()));
+
+    public static ScoringModel current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Publish a model.
+     *
+     * @return The model it replaced
+     */
+    public static ScoringModel install(ScoringModel model) {
+        return CURRENT.getAndSet(model);
+    }
+
+    /**
+     * Version number for the next model to be built.
+     */
+    public static long nextVersion() {
+        return VERSIONS.incrementAndGet();
+    }
+}
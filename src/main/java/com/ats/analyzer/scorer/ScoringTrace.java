@@ -0,0 +1,231 @@
+package com.ats.analyzer.scorer;
+
+import com.ats.analyzer.model.ResumeProfile;
+import com.ats.analyzer.model.RoleIntent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Step-by-step record of one MatchScorer calculation, for ?explain=true.
+ * Only built when a caller passes one in; the normal scoring path neither
+ * formats strings nor resolves core skill names.
+ *
+ * Counts are fractional once partial (taxonomy) credit is applied.
+ */
+public class ScoringTrace {
+
+    private long modelVersion;
+    private RoleIntent roleIntent;
+    private boolean designRole;
+    private ResumeProfile resumeProfile;
+
+    private double matchedCount;
+    private double missingCount;
+    private int partialCount;
+    private double partialCredit;
+    private Set<String> coreMatched = Set.of();
+    private Set<String> coreMissing = Set.of();
+    private Set<String> corePartial = Set.of();
+
+    private Double coreMatchRate;
+    private Double overallMatchRate;
+    private final List<String> adjustments = new ArrayList<>();
+    private double skillScore;
+    private double clampedSkillScore;
+
+    private double compatibility;
+    private boolean designPenalty;
+    private double compatibilityFactor;
+    private Double domainSimilarity;
+    private Double domainFactor;
+    private double rawScore;
+    private int finalScore;
+
+    void model(long version) {
+        this.modelVersion = version;
+    }
+
+    void job(RoleIntent roleIntent, boolean designRole, ResumeProfile resumeProfile) {
+        this.roleIntent = roleIntent;
+        this.designRole = designRole;
+        this.resumeProfile = resumeProfile;
+    }
+
+    void core(Set<String> matched, Set<String> missing, Set<String> partial) {
+        this.coreMatched = new TreeSet<>(matched);
+        this.coreMissing = new TreeSet<>(missing);
+        this.corePartial = new TreeSet<>(partial);
+    }
+
+    void partial(int count, double credit) {
+        this.partialCount = count;
+        this.partialCredit = credit;
+    }
+
+    void counts(double matched, double missing) {
+        this.matchedCount = matched;
+        this.missingCount = missing;
+    }
+
+    void rates(Double coreRate, Double overallRate) {
+        this.coreMatchRate = coreRate;
+        this.overallMatchRate = overallRate;
+    }
+
+    void adjustment(String description) {
+        adjustments.add(description);
+    }
+
+    void skillScore(double beforeClamp, double afterClamp) {
+        this.skillScore = beforeClamp;
+        this.clampedSkillScore = afterClamp;
+    }
+
+    void compatibility(double matrixValue, boolean designPenalty, double factor) {
+        this.compatibility = matrixValue;
+        this.designPenalty = designPenalty;
+        this.compatibilityFactor = factor;
+    }
+
+    void domain(double similarity, double factor) {
+        this.domainSimilarity = similarity;
+        this.domainFactor = factor;
+    }
+
+    void result(double rawScore, int finalScore) {
+        this.rawScore = rawScore;
+        this.finalScore = finalScore;
+    }
+
+    /**
+     * Version of the ScoringModel the score was computed with.
+     */
+    public long getModelVersion() {
+        return modelVersion;
+    }
+
+    public RoleIntent getRoleIntent() {
+        return roleIntent;
+    }
+
+    public boolean isDesignRole() {
+        return designRole;
+    }
+
+    public ResumeProfile getResumeProfile() {
+        return resumeProfile;
+    }
+
+    public double getMatchedCount() {
+        return matchedCount;
+    }
+
+    public double getMissingCount() {
+        return missingCount;
+    }
+
+    public int getPartialCount() {
+        return partialCount;
+    }
+
+    public double getPartialCredit() {
+        return partialCredit;
+    }
+
+    public Set<String> getCoreMatched() {
+        return Collections.unmodifiableSet(coreMatched);
+    }
+
+    /**
+     * Core JD skills the resume lacks, including those only partially covered.
+     */
+    public Set<String> getCoreMissing() {
+        return Collections.unmodifiableSet(coreMissing);
+    }
+
+    public Set<String> getCorePartial() {
+        return Collections.unmodifiableSet(corePartial);
+    }
+
+    /**
+     * Null when the JD has no core skills for its role intent.
+     */
+    public Double getCoreMatchRate() {
+        return coreMatchRate;
+    }
+
+    /**
+     * Null for vague JDs (fewer than skill.min-signals skills), which get a
+     * fixed score.
+     */
+    public Double getOverallMatchRate() {
+        return overallMatchRate;
+    }
+
+    /**
+     * Rules applied to the skill score, in order (vague JD, missing-skill
+     * penalty, core bonus).
+     */
+    public List<String> getAdjustments() {
+        return Collections.unmodifiableList(adjustments);
+    }
+
+    public double getSkillScore() {
+        return skillScore;
+    }
+
+    /**
+     * Skill score after clamping (skill.min, skill.max).
+     */
+    public double getClampedSkillScore() {
+        return clampedSkillScore;
+    }
+
+    /**
+     * Role × profile multiplier from the scoring model.
+     */
+    public double getCompatibility() {
+        return compatibility;
+    }
+
+    public boolean isDesignPenalty() {
+        return designPenalty;
+    }
+
+    /**
+     * Multiplier actually applied (compatibility, times the design penalty).
+     */
+    public double getCompatibilityFactor() {
+        return compatibilityFactor;
+    }
+
+    /**
+     * Resume/JD domain similarity; null unless the domain stage ran.
+     */
+    public Double getDomainSimilarity() {
+        return domainSimilarity;
+    }
+
+    /**
+     * Multiplier from the domain similarity (domain.floor to 1.0); null
+     * unless the domain stage ran.
+     */
+    public Double getDomainFactor() {
+        return domainFactor;
+    }
+
+    public double getRawScore() {
+        return rawScore;
+    }
+
+    /**
+     * Raw score rounded and bounded (score.min, score.max).
+     */
+    public int getFinalScore() {
+        return finalScore;
+    }
+}
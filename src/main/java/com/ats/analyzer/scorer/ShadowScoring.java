@@ -0,0 +1,203 @@
+package com.ats.analyzer.scorer;
+
+import com.ats.analyzer.context.AnalysisContext;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shadow evaluation of a candidate ScoringModel.
+ * A sampled fraction of live analyses is re-scored with the candidate on a
+ * single background thread and the difference to the score the user got is
+ * recorded. The request thread only rolls the sample and enqueues; when the
+ * queue is full the sample is dropped rather than waited on, so shadow
+ * scoring never adds user-visible latency.
+ */
+public final class ShadowScoring implements AutoCloseable {
+
+    private static final int QUEUE_CAPACITY = 1024;
+    private static final int MAX_DELTA = 100;
+
+    private final ScoringModel candidate;
+    private final double sampleRate;
+    private final Instant startedAt = Instant.now();
+    private final ThreadPoolExecutor executor;
+    private final LongAdder dropped = new LongAdder();
+
+    // Written by the shadow thread, read by stats()
+    private long compared;
+    private long changed;
+    private double sumDelta;
+    private double sumAbsDelta;
+    private int maxAbsDelta;
+    private final long[] histogram = new long[2 * MAX_DELTA + 1];
+
+    /**
+     * @param sampleRate Fraction of analyses to re-score, in [0, 1]
+     */
+    public ShadowScoring(ScoringModel candidate, double sampleRate) {
+        if (!(sampleRate >= 0 && sampleRate <= 1)) {
+            throw new IllegalArgumentException("sampleRate must be in [0, 1]");
+        }
+        this.candidate = candidate;
+        this.sampleRate = sampleRate;
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "scoring-shadow");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> dropped.increment());
+    }
+
+    public ScoringModel getCandidate() {
+        return candidate;
+    }
+
+    /**
+     * Maybe re-score an analysis with the candidate model.
+     * Call once the request is done with the context (it has been scored, so
+     * its core counts are already computed and only read here).
+     *
+     * @param activeScore Score returned to the user
+     * @return Whether the analysis was sampled
+     */
+    public boolean offer(AnalysisContext context, double partialCredit, double activeScore) {
+        if (sampleRate == 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return false;
+        }
+        executor.execute(() -> record(MatchScorer.calculateScore(ScoreRequest.of(context, partialCredit)
+                .model(candidate)) - activeScore));
+        return true;
+    }
+
+    private synchronized void record(double delta) {
+        int rounded = (int) Math.round(delta);
+        compared++;
+        if (rounded != 0) {
+            changed++;
+        }
+        sumDelta += delta;
+        sumAbsDelta += Math.abs(delta);
+        maxAbsDelta = Math.max(maxAbsDelta, Math.abs(rounded));
+        histogram[Math.max(-MAX_DELTA, Math.min(MAX_DELTA, rounded)) + MAX_DELTA]++;
+    }
+
+    /**
+     * Score deltas (candidate - active) recorded so far.
+     */
+    public synchronized Stats stats() {
+        Map<Integer, Long> deltas = new TreeMap<>();
+        for (int i = 0; i < histogram.length; i++) {
+            if (histogram[i] > 0) {
+                deltas.put(i - MAX_DELTA, histogram[i]);
+            }
+        }
+        return new Stats(this, compared, changed, compared > 0 ? sumDelta / compared : 0,
+                compared > 0 ? sumAbsDelta / compared : 0, maxAbsDelta, deltas);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Point-in-time shadow statistics.
+     */
+    public static final class Stats {
+
+        private final long candidateVersion;
+        private final double sampleRate;
+        private final Instant startedAt;
+        private final long compared;
+        private final long changed;
+        private final long pending;
+        private final long dropped;
+        private final double meanDelta;
+        private final double meanAbsDelta;
+        private final int maxAbsDelta;
+        private final Map<Integer, Long> deltas;
+
+        private Stats(ShadowScoring shadow, long compared, long changed, double meanDelta, double meanAbsDelta,
+                int maxAbsDelta, Map<Integer, Long> deltas) {
+            this.candidateVersion = shadow.candidate.getVersion();
+            this.sampleRate = shadow.sampleRate;
+            this.startedAt = shadow.startedAt;
+            this.pending = shadow.executor.getQueue().size();
+            this.dropped = shadow.dropped.sum();
+            this.compared = compared;
+            this.changed = changed;
+            this.meanDelta = meanDelta;
+            this.meanAbsDelta = meanAbsDelta;
+            this.maxAbsDelta = maxAbsDelta;
+            this.deltas = deltas;
+        }
+
+        public long getCandidateVersion() {
+            return candidateVersion;
+        }
+
+        public double getSampleRate() {
+            return sampleRate;
+        }
+
+        public Instant getStartedAt() {
+            return startedAt;
+        }
+
+        /**
+         * Analyses re-scored with the candidate.
+         */
+        public long getCompared() {
+            return compared;
+        }
+
+        /**
+         * Analyses whose score would change under the candidate.
+         */
+        public long getChanged() {
+            return changed;
+        }
+
+        /**
+         * Samples still queued for the shadow thread.
+         */
+        public long getPending() {
+            return pending;
+        }
+
+        /**
+         * Samples discarded because the queue was full.
+         */
+        public long getDropped() {
+            return dropped;
+        }
+
+        public double getMeanDelta() {
+            return meanDelta;
+        }
+
+        public double getMeanAbsDelta() {
+            return meanAbsDelta;
+        }
+
+        public int getMaxAbsDelta() {
+            return maxAbsDelta;
+        }
+
+        /**
+         * Histogram: score delta (candidate - active, in points) → count.
+         */
+        public Map<Integer, Long> getDeltas() {
+            return deltas;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.ats.analyzer.service;
+
+import com.ats.analyzer.cache.WeightedCache;
+import com.ats.analyzer.context.JobAnalysis;
+import com.ats.analyzer.dictionary.DictionarySnapshot;
+import com.ats.analyzer.matcher.MatchResult;
+import com.ats.analyzer.scorer.ScoringTrace;
+import com.ats.web.dto.AnalysisResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed cache for repeated analyses of the same upload.
+ *
+ * Two levels keyed by a SHA-256 of the resume bytes (and file type): the
+ * extracted resume text, which saves PDF parsing whenever the same file
+ * comes back (also for catalog and candidate uploads), and the complete
+ * AnalysisResult for the same resume, JD and options. Result keys include
+ * the dictionary and scoring model versions, so a reload never serves a
+ * stale score; old entries just age out. Both share a TTL.
+ *
+ * A third level holds JobAnalysis objects by JD digest, so the JD half of
+ * the pipeline runs once per distinct JD. The digest doubles as the JD
+ * handle clients get from POST /api/jd, so this level is LRU-only (no TTL)
+ * and stays on when analyzer.cache.enabled is false.
+ *
+ * JDs are compared after trimming and collapsing whitespace runs, which
+ * the tokenizer treats as single separators anyway. Every level is a
+ * WeightedCache bounded by approximate bytes.
+ */
+@Component
+public class AnalysisCache {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // Fixed per-result estimate: result, match result and trace objects
+    private static final long RESULT_BASE_WEIGHT = 256;
+    private static final long TRACE_BASE_WEIGHT = 512;
+
+    private final boolean enabled;
+    private final WeightedCache<String, String> texts;
+    private final WeightedCache<String, AnalysisResult> results;
+    private final WeightedCache<String, JobAnalysis> jobs;
+
+    public AnalysisCache(
+            @Value("${analyzer.cache.enabled:true}") boolean enabled,
+            @Value("${analyzer.cache.text.max-size:32MB}") DataSize textMaxSize,
+            @Value("${analyzer.cache.result.max-size:16MB}") DataSize resultMaxSize,
+            @Value("${analyzer.cache.ttl:10m}") Duration ttl,
+            @Value("${analyzer.cache.jd.max-size:16MB}") DataSize jdMaxSize) {
+        this.enabled = enabled;
+        this.texts = new WeightedCache<>(textMaxSize.toBytes(), ttl.toNanos(), text -> 40 + 2L * text.length());
+        this.results = new WeightedCache<>(resultMaxSize.toBytes(), ttl.toNanos(), AnalysisCache::weigh);
+        this.jobs = new WeightedCache<>(jdMaxSize.toBytes(), 0, AnalysisCache::weigh);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Content key of an upload: SHA-256 over its file type and bytes,
+     * streamed (a spooled upload is not loaded whole). Null when caching is
+     * disabled.
+     */
+    public String digest(MultipartFile file) throws IOException {
+        if (!enabled) {
+            return null;
+        }
+        MessageDigest digest = sha256();
+        String name = file.getOriginalFilename();
+        String type = name == null ? "" : name.substring(name.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        digest.update(type.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Digest of a JD after whitespace normalization; also its handle.
+     */
+    public static String jdDigest(String jobDescription) {
+        String jd = WHITESPACE.matcher(jobDescription.trim()).replaceAll(" ");
+        return HexFormat.of().formatHex(sha256().digest(jd.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Result key for a resume digest, JD digest and every option that
+     * changes the result.
+     */
+    public static String resultKey(String resumeDigest, String jdDigest, boolean fuzzy, boolean domain,
+            boolean explain, long dictionaryVersion, long modelVersion) {
+        return resumeDigest + ':' + jdDigest + ':' + (fuzzy ? 'f' : '-') + (domain ? 'd' : '-')
+                + (explain ? 'e' : '-') + ':' + dictionaryVersion + ':' + modelVersion;
+    }
+
+    /**
+     * Cached resume text, or null. Null digests (caching disabled) are not
+     * counted.
+     */
+    public String text(String resumeDigest) {
+        return resumeDigest == null ? null : texts.get(resumeDigest);
+    }
+
+    public void putText(String resumeDigest, String text) {
+        if (resumeDigest != null) {
+            texts.put(resumeDigest, text);
+        }
+    }
+
+    public AnalysisResult result(String key) {
+        return key == null ? null : results.get(key);
+    }
+
+    public void putResult(String key, AnalysisResult result) {
+        if (key != null) {
+            results.put(key, result);
+        }
+    }
+
+    /**
+     * Analysis of a JD for a dictionary snapshot, from the cache or computed
+     * and stored.
+     */
+    public JobAnalysis job(String jdDigest, String jobDescription, DictionarySnapshot snapshot) {
+        JobAnalysis job = job(jdDigest, snapshot);
+        if (job == null) {
+            job = JobAnalysis.analyze(jobDescription, snapshot);
+            jobs.put(jdDigest, job);
+        }
+        return job;
+    }
+
+    /**
+     * Cached analysis of a JD digest (handle), re-encoded if the dictionary
+     * changed since it was stored; null if unknown or evicted.
+     */
+    public JobAnalysis job(String jdDigest, DictionarySnapshot snapshot) {
+        JobAnalysis job = jobs.get(jdDigest);
+        if (job != null && job.getSnapshot() != snapshot) {
+            job = job.reencode(snapshot);
+            jobs.put(jdDigest, job);
+        }
+        return job;
+    }
+
+    /**
+     * enabled, plus hit/miss/eviction counters and occupancy per level.
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("text", texts.stats());
+        stats.put("result", results.stats());
+        stats.put("jd", jobs.stats());
+        return stats;
+    }
+
+    public void clear() {
+        texts.clear();
+        results.clear();
+        jobs.clear();
+    }
+
+    public void resetStats() {
+        texts.resetStats();
+        results.resetStats();
+        jobs.resetStats();
+    }
+
+    private static long weigh(AnalysisResult result) {
+        MatchResult match = result.getMatchResult();
+        long weight = RESULT_BASE_WEIGHT + match.getMatchedBits().sizeInBytes()
+                + match.getMissingBits().sizeInBytes() + match.getExtraBits().sizeInBytes()
+                + match.getPartialBits().sizeInBytes() + weigh(result.getSuggestions());
+        for (Map.Entry<String, String> fuzzy : result.getFuzzyMatches().entrySet()) {
+            weight += 64 + 2L * (fuzzy.getKey().length() + fuzzy.getValue().length());
+        }
+        ScoringTrace trace = result.getScoringTrace();
+        if (trace != null) {
+            weight += TRACE_BASE_WEIGHT + weigh(trace.getCoreMatched()) + weigh(trace.getCoreMissing())
+                    + weigh(trace.getCorePartial()) + weigh(trace.getAdjustments());
+        }
+        return weight;
+    }
+
+    /**
+     * A collection entry and its string.
+     */
+    private static long weigh(Collection<String> strings) {
+        long weight = 0;
+        for (String string : strings) {
+            weight += 40 + 2L * string.length();
+        }
+        return weight;
+    }
+
+    private static long weigh(JobAnalysis job) {
+        return 256 + 2L * job.getCleanedText().length() + job.getSnapshot().getSkills().size() / 8;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
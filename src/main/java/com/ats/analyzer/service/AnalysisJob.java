@@ -0,0 +1,84 @@
+package com.ats.analyzer.service;
+
+import com.ats.web.dto.AnalysisJobStatus;
+import com.ats.web.dto.AnalysisJobStatus.State;
+import com.ats.web.dto.AnalysisResult;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * One asynchronous analysis and its listeners. Listeners are called with
+ * every state change, outside the lock, and dropped once the job finishes.
+ */
+final class AnalysisJob {
+
+    private final String id;
+    private final Instant submittedAt = Instant.now();
+
+    private State state = State.QUEUED;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private AnalysisResult result;
+    private String error;
+    private List<Consumer<AnalysisJobStatus>> listeners = new ArrayList<>();
+
+    AnalysisJob(String id) {
+        this.id = id;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    void start() {
+        List<Consumer<AnalysisJobStatus>> notify;
+        AnalysisJobStatus status;
+        synchronized (this) {
+            state = State.RUNNING;
+            startedAt = Instant.now();
+            notify = List.copyOf(listeners);
+            status = status();
+        }
+        notify.forEach(listener -> listener.accept(status));
+    }
+
+    /**
+     * @param error Null when the analysis succeeded
+     */
+    void finish(AnalysisResult result, String error) {
+        List<Consumer<AnalysisJobStatus>> notify;
+        AnalysisJobStatus status;
+        synchronized (this) {
+            state = error == null ? State.DONE : State.FAILED;
+            finishedAt = Instant.now();
+            this.result = result;
+            this.error = error;
+            notify = listeners;
+            listeners = null;
+            status = status();
+        }
+        notify.forEach(listener -> listener.accept(status));
+    }
+
+    synchronized AnalysisJobStatus status() {
+        return new AnalysisJobStatus(id, state, submittedAt, startedAt, finishedAt, result, error);
+    }
+
+    /**
+     * Follow the job; a finished job calls the listener once, right away.
+     */
+    void listen(Consumer<AnalysisJobStatus> listener) {
+        AnalysisJobStatus status;
+        synchronized (this) {
+            if (listeners != null) {
+                listeners.add(listener);
+                return;
+            }
+            status = status();
+        }
+        listener.accept(status);
+    }
+}
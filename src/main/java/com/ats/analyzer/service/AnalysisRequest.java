@@ -0,0 +1,114 @@
+package com.ats.analyzer.service;
+
+import com.ats.web.dto.JdHandle;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Input and options of one AnalyzerService.analyze call: the resume, its JD
+ * (text, handle, or an analysis resolved beforehand) and the per-request
+ * switches. Options left unset use the analyzer.* defaults.
+ *
+ * Not thread-safe; one request per analysis.
+ */
+public final class AnalysisRequest {
+
+    private final MultipartFile resume;
+    private final String jobDescription;
+    private final String jdHandle;
+    private final JdHandle job;
+
+    private Boolean fuzzy;
+    private Boolean domain;
+    private boolean explain;
+    private boolean background;
+
+    private AnalysisRequest(MultipartFile resume, String jobDescription, String jdHandle, JdHandle job) {
+        this.resume = resume;
+        this.jobDescription = jobDescription;
+        this.jdHandle = jdHandle;
+        this.job = job;
+    }
+
+    /**
+     * @param jdHandle Handle from registerJob, sent instead of the JD text
+     */
+    public static AnalysisRequest of(MultipartFile resume, String jobDescription, String jdHandle) {
+        return new AnalysisRequest(resume, jobDescription, jdHandle, null);
+    }
+
+    /**
+     * Analyze against a JD resolved beforehand (registerJob or getJob), as
+     * bulk requests do: the JD analysis is used directly, even if its cache
+     * entry is evicted meanwhile.
+     */
+    public static AnalysisRequest of(MultipartFile resume, JdHandle job) {
+        return new AnalysisRequest(resume, null, null, job);
+    }
+
+    /**
+     * @param fuzzy Also recognize misspelled resume skills; null uses
+     *              analyzer.extraction.fuzzy
+     */
+    public AnalysisRequest fuzzy(Boolean fuzzy) {
+        this.fuzzy = fuzzy;
+        return this;
+    }
+
+    /**
+     * @param domain Scale the score by resume/JD domain similarity; null
+     *               uses analyzer.scoring.domain
+     */
+    public AnalysisRequest domain(Boolean domain) {
+        this.domain = domain;
+        return this;
+    }
+
+    /**
+     * @param explain Attach a ScoringTrace to the result
+     */
+    public AnalysisRequest explain(boolean explain) {
+        this.explain = explain;
+        return this;
+    }
+
+    /**
+     * @param background Run by a bulk or async worker: lane permits are
+     *                   waited for instead of refused when the lane is busy
+     */
+    public AnalysisRequest background(boolean background) {
+        this.background = background;
+        return this;
+    }
+
+    MultipartFile getResume() {
+        return resume;
+    }
+
+    String getJobDescription() {
+        return jobDescription;
+    }
+
+    String getJdHandle() {
+        return jdHandle;
+    }
+
+    JdHandle getJob() {
+        return job;
+    }
+
+    Boolean getFuzzy() {
+        return fuzzy;
+    }
+
+    Boolean getDomain() {
+        return domain;
+    }
+
+    boolean isExplain() {
+        return explain;
+    }
+
+    boolean isBackground() {
+        return background;
+    }
+}
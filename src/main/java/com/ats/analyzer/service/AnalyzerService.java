@@ -1,85 +1,494 @@
 package com.ats.analyzer.service;
 
-import com.ats.analyzer.extractor.KeywordExtractor;
+import com.ats.analyzer.bulkhead.Bulkhead;
+import com.ats.analyzer.context.AnalysisContext;
+import com.ats.analyzer.context.JobAnalysis;
+import com.ats.analyzer.dictionary.DictionaryRegistry;
+import com.ats.analyzer.dictionary.DictionarySnapshot;
+import com.ats.analyzer.dictionary.SkillBits;
+import com.ats.analyzer.domain.DomainClassifier;
+import com.ats.analyzer.domain.DomainCompatibility;
+import com.ats.analyzer.extractor.FuzzyMatches;
+import com.ats.analyzer.extractor.SkillTokenizer;
+import com.ats.analyzer.input.PdfTextExtractor;
+import com.ats.analyzer.logic.ResumeProfileDetector;
 import com.ats.analyzer.matcher.MatchResult;
 import com.ats.analyzer.matcher.SkillMatcher;
-import com.ats.analyzer.parser.TextCleaner;
 import com.ats.analyzer.scorer.MatchScorer;
+import com.ats.analyzer.scorer.ScoreRequest;
+import com.ats.analyzer.scorer.ScoreSimulator;
+import com.ats.analyzer.scorer.ScoringModel;
+import com.ats.analyzer.scorer.ScoringModelRegistry;
+import com.ats.analyzer.scorer.ScoringTrace;
 import com.ats.analyzer.suggestion.SuggestionEngine;
 import com.ats.web.dto.AnalysisResult;
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.text.PDFTextStripper;
+import com.ats.web.dto.JdHandle;
+import com.ats.web.dto.WhatIfResult;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 public class AnalyzerService {
 
+    // Weight of a taxonomy (parent skill) match relative to an exact match
+    private final double partialCredit;
+
+    // Typo-tolerant resume extraction when the request does not choose
+    private final boolean fuzzyByDefault;
+
+    // Domain similarity stage when the request does not choose
+    private final boolean domainByDefault;
+
+    // Memory mode, per-document heap budget and page-range parallelism for
+    // PDF parsing
+    private final PdfTextExtractor pdfExtractor;
+
+    // Platform threads PDF parsing is handed to when requests run on
+    // virtual threads; null otherwise
+    private final ExecutorService pdfCpuPool;
+
+    // Largest accepted resume; the multipart limits are sized for bulk ZIPs
+    private final long maxResumeBytes;
+
+    private final ScoringModelService scoringModelService;
+    private final StageMetrics stageMetrics;
+    private final AnalysisCache analysisCache;
+    private final ExecutionLanes lanes;
+
+    public AnalyzerService(
+            @Value("${analyzer.scoring.partial-credit:0.5}") double partialCredit,
+            @Value("${analyzer.extraction.fuzzy:false}") boolean fuzzyByDefault,
+            @Value("${analyzer.scoring.domain:false}") boolean domainByDefault,
+            @Value("${analyzer.pdf.memory-mode:heap}") String pdfMemoryMode,
+            @Value("${analyzer.pdf.max-main-memory:1MB}") DataSize pdfMaxMainMemory,
+            @Value("${analyzer.pdf.temp-dir:}") String pdfTempDir,
+            @Value("${analyzer.pdf.parallel.threads:0}") int pdfThreads,
+            @Value("${analyzer.pdf.parallel.min-pages:16}") int pdfParallelMinPages,
+            @Value("${analyzer.pdf.parallel.pages-per-chunk:8}") int pdfPagesPerChunk,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${analyzer.pdf.cpu-threads:0}") int pdfCpuThreads,
+            @Value("${analyzer.upload.max-resume-size:5MB}") DataSize maxResumeSize,
+            ScoringModelService scoringModelService,
+            StageMetrics stageMetrics,
+            AnalysisCache analysisCache,
+            ExecutionLanes lanes) {
+        this.partialCredit = partialCredit;
+        this.fuzzyByDefault = fuzzyByDefault;
+        this.domainByDefault = domainByDefault;
+        this.pdfExtractor = new PdfTextExtractor(PdfTextExtractor.Mode.parse(pdfMemoryMode),
+                pdfMaxMainMemory.toBytes(), pdfTempDir.isBlank() ? null : new File(pdfTempDir),
+                pdfThreads, pdfParallelMinPages, pdfPagesPerChunk);
+        this.pdfCpuPool = virtualThreads && Runtime.version().feature() >= 21
+                ? newPdfCpuPool(pdfCpuThreads > 0 ? pdfCpuThreads : Runtime.getRuntime().availableProcessors())
+                : null;
+        this.maxResumeBytes = maxResumeSize.toBytes();
+        this.scoringModelService = scoringModelService;
+        this.stageMetrics = stageMetrics;
+        this.analysisCache = analysisCache;
+        this.lanes = lanes;
+    }
+
+    /**
+     * Virtual threads share a few carrier threads, and a long PDFBox parse
+     * holds its carrier the whole time, stalling the I/O-bound requests
+     * queued behind it. Parsing therefore runs on this many platform
+     * threads; the waiting virtual thread unmounts. The queue is unbounded:
+     * each entry is a request already holding its upload.
+     */
+    private static ExecutorService newPdfCpuPool(int threads) {
+        AtomicInteger count = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "pdf-cpu-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        pdfExtractor.close();
+        if (pdfCpuPool != null) {
+            pdfCpuPool.shutdownNow();
+        }
+    }
+
     public AnalysisResult analyze(MultipartFile resumeFile, String jobDescription) {
+        return analyze(AnalysisRequest.of(resumeFile, jobDescription, null));
+    }
 
-        if (resumeFile == null || resumeFile.isEmpty()) {
-            throw new IllegalArgumentException("Resume file is required");
+    /**
+     * Score a resume against a JD sent as text, as a handle, or resolved
+     * beforehand.
+     *
+     * @throws NoSuchElementException if the handle is unknown or evicted
+     */
+    public AnalysisResult analyze(AnalysisRequest request) {
+        MultipartFile resumeFile = request.getResume();
+        JdRef jd;
+        if (request.getJob() != null) {
+            validate(resumeFile);
+            jd = new JdRef(request.getJob().getHandle(), null, request.getJob().getAnalysis());
+        } else {
+            jd = validate(resumeFile, request.getJobDescription(), request.getJdHandle());
+        }
+        return analyze(request, jd);
+    }
+
+    private AnalysisResult analyze(AnalysisRequest request, JdRef jd) {
+        MultipartFile resumeFile = request.getResume();
+        boolean useFuzzy = request.getFuzzy() != null ? request.getFuzzy() : fuzzyByDefault;
+        boolean useDomain = request.getDomain() != null ? request.getDomain() : domainByDefault;
+        boolean explain = request.isExplain();
+        boolean background = request.isBackground();
+
+        // Same upload, JD and options as a recent request: skip every stage
+        String resumeDigest = digest(resumeFile);
+        if (resumeDigest != null) {
+            AnalysisResult cached = analysisCache.result(AnalysisCache.resultKey(resumeDigest, jd.digest,
+                    useFuzzy, useDomain, explain, DictionaryRegistry.current().getVersion(),
+                    ScoringModelRegistry.current().getVersion()));
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        String resumeText = parseStage(resumeFile, resumeDigest, background);
+        Scored scored;
+        List<String> suggestions;
+        Bulkhead.Permit permit = acquire(lanes.score(), background);
+        try {
+            scored = score(resumeText, jd, useFuzzy, useDomain, explain);
+
+            // 7. Generate suggestions, led by the missing skill worth most
+            long start = System.nanoTime();
+            List<ScoreSimulator.SkillGain> gains = ScoreSimulator.simulate(scored.context,
+                    scored.snapshot.getTaxonomy(), partialCredit, scored.model, 1);
+            start = stageMetrics.record(StageMetrics.Stage.SIMULATE, start);
+            suggestions = SuggestionEngine.generateSuggestions(scored.context, scored.score, gains);
+            stageMetrics.record(StageMetrics.Stage.SUGGEST, start);
+        } finally {
+            permit.release();
+        }
+        AnalysisContext context = scored.context;
+
+        // Candidate model evaluation (sampled, off the request thread)
+        scoringModelService.offer(context, partialCredit, scored.score);
+
+        // Skill names are materialized only when the result is serialized
+        AnalysisResult result = new AnalysisResult(scored.score, context.getMatchResult(), suggestions,
+                scored.snapshot.getVersion(), scored.fuzzyMatches, scored.trace);
+        if (resumeDigest != null) {
+            analysisCache.putResult(AnalysisCache.resultKey(resumeDigest, jd.digest, useFuzzy, useDomain,
+                    explain, scored.snapshot.getVersion(), scored.model.getVersion()), result);
+        }
+        return result;
+    }
+
+    /**
+     * What-if analysis: the missing JD skills that would raise the score
+     * most, each with the score the resume would get with it.
+     *
+     * @param jdHandle Handle from registerJob, sent instead of the JD text
+     * @param limit    Number of skills to return
+     */
+    public WhatIfResult whatIf(MultipartFile resumeFile, String jobDescription, String jdHandle, Boolean fuzzy,
+            Boolean domain, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
         }
+        JdRef jd = validate(resumeFile, jobDescription, jdHandle);
+        String resumeText = parseStage(resumeFile, digest(resumeFile), false);
+        Scored scored;
+        List<ScoreSimulator.SkillGain> gains;
+        Bulkhead.Permit permit = lanes.score().acquire();
+        try {
+            scored = score(resumeText, jd, fuzzy != null ? fuzzy : fuzzyByDefault,
+                    domain != null ? domain : domainByDefault, false);
+
+            long start = System.nanoTime();
+            gains = ScoreSimulator.simulate(scored.context, scored.snapshot.getTaxonomy(), partialCredit,
+                    scored.model, limit);
+            stageMetrics.record(StageMetrics.Stage.SIMULATE, start);
+        } finally {
+            permit.release();
+        }
+
+        return new WhatIfResult(scored.score, scored.context.getMatchResult().getMissingBits().cardinality(),
+                gains, scored.snapshot.getVersion(), scored.model.getVersion());
+    }
 
+    /**
+     * Analyze a JD once and keep it for later requests, in the score lane.
+     *
+     * @return The JD's handle (its normalized digest) with the analysis
+     */
+    public JdHandle registerJob(String jobDescription) {
         if (jobDescription == null || jobDescription.isBlank()) {
             throw new IllegalArgumentException("Job description is required");
         }
+        return lookUpJob(new JdRef(AnalysisCache.jdDigest(jobDescription), jobDescription, null));
+    }
+
+    /**
+     * Resolve a request's JD (text or handle) ahead of the resume work, so
+     * JD errors surface before any is queued.
+     */
+    public JdHandle resolveJob(String jobDescription, String jdHandle) {
+        boolean hasText = jobDescription != null && !jobDescription.isBlank();
+        if (jdHandle != null && !jdHandle.isBlank()) {
+            if (hasText) {
+                throw new IllegalArgumentException("Send either jobDescription or a jd handle, not both");
+            }
+            return getJob(jdHandle.trim());
+        }
+        return registerJob(jobDescription);
+    }
+
+    /**
+     * Analysis behind a JD handle.
+     *
+     * @throws NoSuchElementException if the handle is unknown or evicted
+     */
+    public JdHandle getJob(String jdHandle) {
+        return lookUpJob(new JdRef(jdHandle, null, null));
+    }
+
+    /**
+     * The JD analysis behind registerJob and getJob (computed, cached or
+     * re-encoded for a new dictionary), in the score lane.
+     */
+    private JdHandle lookUpJob(JdRef jd) {
+        Bulkhead.Permit permit = lanes.score().acquire();
+        try {
+            return new JdHandle(jd.digest, job(jd, DictionaryRegistry.current()));
+        } finally {
+            permit.release();
+        }
+    }
+
+    /**
+     * A lane permit: request threads are refused when the lane is saturated
+     * (503), bulk and async workers wait for their turn.
+     */
+    private static Bulkhead.Permit acquire(Bulkhead lane, boolean background) {
+        return background ? lane.acquireBackground() : lane.acquire();
+    }
 
+    /**
+     * Step 1: extract resume text from the MultipartFile (or the text
+     * cache), in the extract lane.
+     */
+    private String parseStage(MultipartFile resumeFile, String resumeDigest, boolean background) {
         try {
-            // 1. Extract resume text from MultipartFile
-            String resumeText = extractResumeText(resumeFile);
-
-            // 2. Load JD text (pass as string)
-            String jdText = jobDescription;
-
-            // 3. Clean both texts
-            String cleanResume = TextCleaner.clean(resumeText);
-            String cleanJD = TextCleaner.clean(jdText);
-
-            // 4. Extract skills
-            Set<String> resumeSkills = KeywordExtractor.extractSkills(cleanResume);
-            Set<String> jdSkills = KeywordExtractor.extractSkills(cleanJD);
-
-            // 5. Match skills
-            MatchResult matchResult = SkillMatcher.matchSkills(resumeSkills, jdSkills);
-
-            // 6. Calculate complete ATS score (skill match + role compatibility)
-            double score = MatchScorer.calculateScore(
-                    matchResult.getMatchedSkills(),
-                    matchResult.getMissingSkills(),
-                    matchResult.getExtraSkills(),
-                    jobDescription, // For RoleIntent detection
-                    resumeText // For ResumeProfile detection
-            );
-
-            // 7. Generate suggestions
-            List<String> suggestions = SuggestionEngine.generateSuggestions(
-                    matchResult.getMissingSkills(),
-                    matchResult.getExtraSkills(),
-                    score);
-
-            return new AnalysisResult(
-                    score,
-                    matchResult.getMatchedSkills(),
-                    matchResult.getMissingSkills(),
-                    matchResult.getExtraSkills(),
-                    suggestions);
+            // Each stage's latency goes to StageMetrics (GET /api/metrics)
+            long start = System.nanoTime();
+            String resumeText = extractResumeText(resumeFile, resumeDigest, background);
+            stageMetrics.record(StageMetrics.Stage.PARSE, start);
+            return resumeText;
+        } catch (IOException e) {
+            throw new RuntimeException("Error processing resume file: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Steps 2-6 shared by analyze and whatIf: JD, extract, match and score,
+     * with one dictionary snapshot and one scoring model throughout. Callers
+     * hold a score lane permit.
+     */
+    private Scored score(String resumeText, JdRef jd, boolean fuzzy, boolean domain, boolean explain) {
+        long start = System.nanoTime();
+
+        // One snapshot for the whole request, even if a reload lands meanwhile
+        DictionarySnapshot snapshot = DictionaryRegistry.current();
+
+        // 2. JD skills, intent and design flag: analyzed once per distinct JD
+        JobAnalysis job = job(jd, snapshot);
+        start = stageMetrics.record(StageMetrics.Stage.JD, start);
+
+        // 3-4. Clean and extract canonical skill ids in one streaming pass
+        SkillBits resumeSkills = SkillTokenizer.extract(resumeText, snapshot);
+        start = stageMetrics.record(StageMetrics.Stage.EXTRACT, start);
+
+        // Misspellings are only tolerated on the resume side: JD skills
+        // are what the recruiter typed and should not be guessed
+        Map<String, String> fuzzyMatches = Map.of();
+        if (fuzzy) {
+            FuzzyMatches matches = SkillTokenizer.extractFuzzy(resumeText, snapshot, resumeSkills);
+            resumeSkills.setAll(matches.getSkills());
+            fuzzyMatches = matches.getSpellings();
+            start = stageMetrics.record(StageMetrics.Stage.FUZZY, start);
+        }
+
+        // 5. Match skills (bitset AND / ANDNOT), plus taxonomy partial matches
+        MatchResult matchResult = SkillMatcher.match(resumeSkills, job.getSkills(), snapshot.getSkills(),
+                snapshot.getTaxonomy());
+        start = stageMetrics.record(StageMetrics.Stage.MATCH, start);
+
+        // Intent, profile, design flag and core partitions, computed once
+        // and shared by the scorer and the suggestions
+        AnalysisContext context = AnalysisContext.of(job, ResumeProfileDetector.detect(resumeText),
+                matchResult);
+        start = stageMetrics.record(StageMetrics.Stage.CONTEXT, start);
+
+        // Optional: domain vectors of both documents, compared by cosine
+        if (domain) {
+            context.setDomainSimilarity(DomainCompatibility.similarity(
+                    DomainClassifier.vectorize(resumeText), job.getDomainVector()));
+            start = stageMetrics.record(StageMetrics.Stage.DOMAIN, start);
+        }
+
+        // 6. Calculate complete ATS score (skill match + role compatibility)
+        ScoringModel model = ScoringModelRegistry.current();
+        ScoringTrace trace = explain ? new ScoringTrace() : null;
+        double score = MatchScorer.calculateScore(ScoreRequest.of(context, partialCredit)
+                .model(model)
+                .trace(trace));
+        stageMetrics.record(StageMetrics.Stage.SCORE, start);
+
+        return new Scored(snapshot, model, context, score, fuzzyMatches, trace);
+    }
+
+    /**
+     * Check the inputs; the JD comes either as text or as a handle.
+     */
+    private JdRef validate(MultipartFile resumeFile, String jobDescription, String jdHandle) {
+        validate(resumeFile);
+
+        boolean hasText = jobDescription != null && !jobDescription.isBlank();
+        if (jdHandle != null && !jdHandle.isBlank()) {
+            if (hasText) {
+                throw new IllegalArgumentException("Send either jobDescription or a jd handle, not both");
+            }
+            return new JdRef(jdHandle.trim(), null, null);
+        }
+
+        if (!hasText) {
+            throw new IllegalArgumentException("Job description is required");
+        }
+        return new JdRef(AnalysisCache.jdDigest(jobDescription), jobDescription, null);
+    }
+
+    /**
+     * Check a resume upload: present and within analyzer.upload.max-resume-size.
+     */
+    public void validate(MultipartFile resumeFile) {
+        if (resumeFile == null || resumeFile.isEmpty()) {
+            throw new IllegalArgumentException("Resume file is required");
+        }
+        if (resumeFile.getSize() > maxResumeBytes) {
+            throw new MaxUploadSizeExceededException(maxResumeBytes);
+        }
+    }
 
+    /**
+     * JD analysis for this snapshot: the pinned one, computed from the text
+     * (or cached), or looked up by handle.
+     */
+    private JobAnalysis job(JdRef jd, DictionarySnapshot snapshot) {
+        if (jd.pinned != null) {
+            return jd.pinned.reencode(snapshot);
+        }
+        if (jd.text != null) {
+            return analysisCache.job(jd.digest, jd.text, snapshot);
+        }
+        JobAnalysis job = analysisCache.job(jd.digest, snapshot);
+        if (job == null) {
+            throw new NoSuchElementException("Unknown or expired JD handle: " + jd.digest
+                    + ". Register the job description again with POST /api/jd");
+        }
+        return job;
+    }
+
+    /**
+     * How a request names its JD: digest (the handle) plus either the text,
+     * an analysis resolved beforehand, or neither (look the handle up).
+     */
+    private static final class JdRef {
+
+        private final String digest;
+        private final String text;
+        private final JobAnalysis pinned;
+
+        JdRef(String digest, String text, JobAnalysis pinned) {
+            this.digest = digest;
+            this.text = text;
+            this.pinned = pinned;
+        }
+    }
+
+    /**
+     * Content digest of the upload, or null when caching is disabled.
+     */
+    private String digest(MultipartFile resumeFile) {
+        try {
+            return analysisCache.digest(resumeFile);
         } catch (IOException e) {
             throw new RuntimeException("Error processing resume file: " + e.getMessage(), e);
         }
     }
 
     /**
-     * Extract text from uploaded MultipartFile (PDF or TXT)
+     * Outcome of the scoring steps, for the step that follows.
      */
-    private String extractResumeText(MultipartFile file) throws IOException {
+    private static final class Scored {
+
+        private final DictionarySnapshot snapshot;
+        private final ScoringModel model;
+        private final AnalysisContext context;
+        private final double score;
+        private final Map<String, String> fuzzyMatches;
+        private final ScoringTrace trace;
+
+        Scored(DictionarySnapshot snapshot, ScoringModel model, AnalysisContext context, double score,
+                Map<String, String> fuzzyMatches, ScoringTrace trace) {
+            this.snapshot = snapshot;
+            this.model = model;
+            this.context = context;
+            this.score = score;
+            this.fuzzyMatches = fuzzyMatches;
+            this.trace = trace;
+        }
+    }
+
+    /**
+     * Extract text from uploaded MultipartFile (PDF or TXT). A file seen
+     * recently is served from the text cache without parsing.
+     */
+    public String extractResumeText(MultipartFile file) throws IOException {
+        return extractResumeText(file, analysisCache.digest(file), false);
+    }
+
+    private String extractResumeText(MultipartFile file, String digest, boolean background) throws IOException {
+        String text = analysisCache.text(digest);
+        if (text == null) {
+            Bulkhead.Permit permit = acquire(lanes.extract(), background);
+            try {
+                text = parseResume(file);
+            } finally {
+                permit.release();
+            }
+            analysisCache.putText(digest, text);
+        }
+        return text;
+    }
+
+    private String parseResume(MultipartFile file) throws IOException {
         String fileName = file.getOriginalFilename();
 
         if (fileName == null) {
@@ -98,11 +507,30 @@ public class AnalyzerService {
     }
 
     private String extractFromPDF(MultipartFile pdfFile) throws IOException {
-        try (InputStream inputStream = pdfFile.getInputStream();
-                PDDocument document = PDDocument.load(inputStream)) {
-            PDFTextStripper stripper = new PDFTextStripper();
-            return stripper.getText(document);
+        if (pdfCpuPool == null) {
+            return extractPdfText(pdfFile);
         }
+        try {
+            return pdfCpuPool.submit(() -> extractPdfText(pdfFile)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted during PDF extraction");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException("PDF extraction failed", e.getCause());
+        }
+    }
+
+    private String extractPdfText(MultipartFile pdfFile) throws IOException {
+        // Large uploads are already spooled to disk (multipart
+        // file-size-threshold); the extractor bounds what PDFBox buffers,
+        // and re-reads the upload only if it splits the document
+        return pdfExtractor.extract(pdfFile::getInputStream);
     }
 
     private String extractFromText(MultipartFile textFile) throws IOException {
@@ -0,0 +1,252 @@
+package com.ats.analyzer.service;
+
+import com.ats.analyzer.cache.WeightedCache;
+import com.ats.web.dto.AnalysisJobStatus;
+import com.ats.web.dto.AnalysisResult;
+import com.ats.web.dto.JdHandle;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Asynchronous analyses: submit returns a job id at once, the analysis runs
+ * on a pool of analyzer.async.threads workers, and the outcome is polled or
+ * followed (SSE) by id.
+ *
+ * The queue in front of the pool is bounded (analyzer.async.queue-capacity)
+ * and never waits: a submission that does not fit is rejected with a
+ * QueueFullException carrying a Retry-After estimate (queued jobs times the
+ * mean run time, over the workers). Uploads are copied to temp files while
+ * queued, so a full queue costs disk, not heap.
+ *
+ * Finished jobs are kept for analyzer.async.result-ttl, at most
+ * analyzer.async.max-results of them (least recently read dropped first);
+ * after that their ids are unknown (404).
+ */
+@Service
+public class AsyncAnalysisService {
+
+    /**
+     * The analysis a job runs; AnalyzerService.analyze outside tests.
+     */
+    @FunctionalInterface
+    interface Analysis {
+        AnalysisResult run(AnalysisRequest request);
+    }
+
+    private final Analysis analysis;
+    private final int threads;
+    private final ThreadPoolExecutor pool;
+
+    // Queued and running jobs; finished ones move to the bounded store
+    private final Map<String, AnalysisJob> active = new ConcurrentHashMap<>();
+    private final WeightedCache<String, AnalysisJob> finished;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder runNanos = new LongAdder();
+
+    @Autowired
+    public AsyncAnalysisService(AnalyzerService analyzerService,
+            @Value("${analyzer.async.threads:2}") int threads,
+            @Value("${analyzer.async.queue-capacity:64}") int queueCapacity,
+            @Value("${analyzer.async.result-ttl:10m}") Duration resultTtl,
+            @Value("${analyzer.async.max-results:1000}") int maxResults) {
+        this(analyzerService::analyze, threads, queueCapacity, resultTtl, maxResults);
+    }
+
+    AsyncAnalysisService(Analysis analysis, int threads, int queueCapacity, Duration resultTtl, int maxResults) {
+        if (threads < 1 || queueCapacity < 1 || maxResults < 1) {
+            throw new IllegalArgumentException(
+                    "analyzer.async threads, queue-capacity and max-results must be positive");
+        }
+        this.analysis = analysis;
+        this.threads = threads;
+        this.finished = new WeightedCache<>(maxResults, resultTtl.toNanos(), job -> 1);
+        AtomicInteger count = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "async-analyze-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void stop() {
+        for (Runnable queued : pool.shutdownNow()) {
+            ((Task) queued).resume.delete();
+        }
+    }
+
+    /**
+     * Queue an analysis of a validated resume against a resolved JD.
+     *
+     * @throws QueueFullException if the queue has no room
+     */
+    public AnalysisJobStatus submit(MultipartFile resume, JdHandle jd, Boolean fuzzy, Boolean domain,
+            boolean explain) {
+        // Cheap early check, so a full queue does not copy the upload first
+        if (pool.getQueue().remainingCapacity() == 0) {
+            throw queueFull();
+        }
+        TempFileMultipartFile copy;
+        try {
+            copy = TempFileMultipartFile.copyOf(resume);
+        } catch (IOException e) {
+            throw new RuntimeException("Error processing resume file: " + e.getMessage(), e);
+        }
+
+        AnalysisJob job = new AnalysisJob(UUID.randomUUID().toString());
+        active.put(job.getId(), job);
+        try {
+            pool.execute(new Task(job, copy, jd, fuzzy, domain, explain));
+        } catch (RejectedExecutionException e) {
+            active.remove(job.getId());
+            copy.delete();
+            throw queueFull();
+        }
+        submitted.increment();
+        return job.status();
+    }
+
+    /**
+     * @throws NoSuchElementException if the id is unknown or its result
+     *                                expired
+     */
+    public AnalysisJobStatus status(String id) {
+        return find(id).status();
+    }
+
+    /**
+     * Call the listener with every later state change of the job, or once
+     * right away if it already finished.
+     *
+     * @throws NoSuchElementException if the id is unknown or its result
+     *                                expired
+     */
+    public void listen(String id, Consumer<AnalysisJobStatus> listener) {
+        find(id).listen(listener);
+    }
+
+    /**
+     * Queue and job counters: queued, running, capacity, submitted,
+     * completed, failed, rejected, stored (finished jobs kept).
+     */
+    public Map<String, Long> stats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("queued", (long) pool.getQueue().size());
+        stats.put("running", (long) pool.getActiveCount());
+        stats.put("capacity", (long) (pool.getQueue().size() + pool.getQueue().remainingCapacity()));
+        stats.put("submitted", submitted.sum());
+        stats.put("completed", completed.sum());
+        stats.put("failed", failed.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("stored", (long) finished.size());
+        return stats;
+    }
+
+    /**
+     * Zero the counters; queued jobs and stored results are kept.
+     */
+    public void resetStats() {
+        submitted.reset();
+        completed.reset();
+        failed.reset();
+        rejected.reset();
+        // Retry-After divides this by the runs counted since the reset
+        runNanos.reset();
+    }
+
+    private AnalysisJob find(String id) {
+        // A finishing job is stored before it leaves the active map
+        AnalysisJob job = active.get(id);
+        if (job == null) {
+            job = finished.get(id);
+        }
+        if (job == null) {
+            throw new NoSuchElementException("Unknown or expired analysis job: " + id);
+        }
+        return job;
+    }
+
+    private QueueFullException queueFull() {
+        rejected.increment();
+        return new QueueFullException("The analysis queue is full. Please retry later.", retryAfterSeconds());
+    }
+
+    /**
+     * Time for the workers to get through the current queue, from the mean
+     * run time so far (one second per job before any has run).
+     */
+    private long retryAfterSeconds() {
+        long runs = completed.sum() + failed.sum();
+        double meanSeconds = runs > 0 ? runNanos.sum() / 1e9 / runs : 1;
+        long queued = pool.getQueue().size();
+        return Math.max(1, (long) Math.ceil(queued * meanSeconds / threads));
+    }
+
+    private final class Task implements Runnable {
+
+        private final AnalysisJob job;
+        private final TempFileMultipartFile resume;
+        private final JdHandle jd;
+        private final Boolean fuzzy;
+        private final Boolean domain;
+        private final boolean explain;
+
+        Task(AnalysisJob job, TempFileMultipartFile resume, JdHandle jd, Boolean fuzzy, Boolean domain,
+                boolean explain) {
+            this.job = job;
+            this.resume = resume;
+            this.jd = jd;
+            this.fuzzy = fuzzy;
+            this.domain = domain;
+            this.explain = explain;
+        }
+
+        @Override
+        public void run() {
+            job.start();
+            long start = System.nanoTime();
+            AnalysisResult result = null;
+            String error = null;
+            try {
+                result = analysis.run(AnalysisRequest.of(resume, jd)
+                        .fuzzy(fuzzy)
+                        .domain(domain)
+                        .explain(explain)
+                        .background(true));
+                completed.increment();
+            } catch (RuntimeException e) {
+                error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+                failed.increment();
+            } finally {
+                resume.delete();
+                runNanos.add(System.nanoTime() - start);
+            }
+            finished.put(job.getId(), job);
+            active.remove(job.getId());
+            job.finish(result, error);
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.ats.analyzer.service;
+
+import com.ats.web.dto.AnalysisResult;
+import com.ats.web.dto.JdHandle;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Bulk screening: many resumes against one JD, results streamed as NDJSON.
+ *
+ * The JD is resolved once and pinned for the whole request. Resumes come as
+ * multipart parts; a part named *.zip is read entry by entry from its
+ * (spooled) stream, never unpacked as a whole. Each resume is scored on a
+ * shared pool of analyzer.bulk.threads workers. A request keeps at most
+ * analyzer.bulk.window resumes in flight: reading the next one waits until
+ * a result has been written, so memory stays bounded by the window times
+ * the entry size cap, however large the archive.
+ *
+ * Lines are written as results complete (not in upload order); each
+ * carries the resume's upload index and name. A final summary line closes
+ * the stream; resumes past analyzer.bulk.max-files are not read, and the
+ * summary says so (truncated).
+ */
+@Service
+public class BulkAnalysisService {
+
+    private final AnalyzerService analyzerService;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService pool;
+    private final int window;
+    private final int maxFiles;
+    private final long maxEntryBytes;
+
+    public BulkAnalysisService(AnalyzerService analyzerService, ObjectMapper objectMapper,
+            @Value("${analyzer.bulk.threads:4}") int threads,
+            @Value("${analyzer.bulk.window:8}") int window,
+            @Value("${analyzer.bulk.max-files:1000}") int maxFiles,
+            @Value("${analyzer.bulk.max-entry-size:5MB}") DataSize maxEntrySize) {
+        if (threads < 1 || window < 1 || maxFiles < 1) {
+            throw new IllegalArgumentException("analyzer.bulk threads, window and max-files must be positive");
+        }
+        this.analyzerService = analyzerService;
+        this.objectMapper = objectMapper;
+        this.window = window;
+        this.maxFiles = maxFiles;
+        this.maxEntryBytes = maxEntrySize.toBytes();
+        AtomicInteger count = new AtomicInteger();
+        this.pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "bulk-analyze-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Check the uploads before streaming starts.
+     */
+    public void validate(List<MultipartFile> resumes) {
+        if (resumes == null || resumes.isEmpty() || resumes.stream().allMatch(MultipartFile::isEmpty)) {
+            throw new IllegalArgumentException("At least one resume (or a ZIP of resumes) is required");
+        }
+    }
+
+    /**
+     * Analyze every resume and write one NDJSON line per result, then a
+     * summary line.
+     */
+    public void stream(List<MultipartFile> resumes, JdHandle jd, Boolean fuzzy, Boolean domain, OutputStream out)
+            throws IOException {
+        Batch batch = new Batch(jd, fuzzy, domain, out);
+        try {
+            for (MultipartFile part : resumes) {
+                if (part.isEmpty()) {
+                    continue;
+                }
+                if (batch.isFull()) {
+                    batch.truncated = true;
+                    break;
+                }
+                if (isZip(part.getOriginalFilename())) {
+                    readZip(part, batch);
+                } else {
+                    batch.submit(part);
+                }
+            }
+            batch.drain();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Bulk analysis interrupted", e);
+        }
+        batch.summary();
+    }
+
+    private void readZip(MultipartFile archive, Batch batch) throws IOException, InterruptedException {
+        try (ZipInputStream zip = new ZipInputStream(archive.getInputStream())) {
+            ZipEntry entry;
+            boolean any = false;
+            while ((entry = zip.getNextEntry()) != null) {
+                any = true;
+                String name = entry.getName();
+                if (entry.isDirectory() || isHidden(name)) {
+                    continue;
+                }
+                if (batch.isFull()) {
+                    batch.truncated = true;
+                    return;
+                }
+                byte[] content = readEntry(zip);
+                if (content == null) {
+                    batch.fail(name, "Entry exceeds the maximum size of " + maxEntryBytes + " bytes");
+                } else {
+                    batch.submit(new BytesMultipartFile(name, content));
+                }
+            }
+            if (!any) {
+                batch.fail(archive.getOriginalFilename(), "Not a ZIP archive, or an empty one");
+            }
+        }
+    }
+
+    /**
+     * Entry bytes, or null (rest skipped) when larger than the cap.
+     */
+    private byte[] readEntry(InputStream zip) throws IOException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = zip.read(buffer)) != -1) {
+            if (content.size() + read > maxEntryBytes) {
+                return null;
+            }
+            content.write(buffer, 0, read);
+        }
+        return content.toByteArray();
+    }
+
+    private static boolean isZip(String name) {
+        return name != null && name.toLowerCase(Locale.ROOT).endsWith(".zip");
+    }
+
+    /**
+     * Archive metadata (__MACOSX/, .DS_Store and other dot files).
+     */
+    private static boolean isHidden(String name) {
+        String base = name.substring(name.lastIndexOf('/') + 1);
+        return name.startsWith("__MACOSX/") || base.startsWith(".");
+    }
+
+    /**
+     * State of one bulk request: results in flight and lines written.
+     */
+    private final class Batch {
+
+        private final JdHandle jd;
+        private final Boolean fuzzy;
+        private final Boolean domain;
+        private final OutputStream out;
+        private final CompletionService<Map<String, Object>> completed =
+                new ExecutorCompletionService<>(pool);
+
+        private int submitted;
+        private int inFlight;
+        private int failed;
+        private boolean truncated;
+
+        Batch(JdHandle jd, Boolean fuzzy, Boolean domain, OutputStream out) {
+            this.jd = jd;
+            this.fuzzy = fuzzy;
+            this.domain = domain;
+            this.out = out;
+        }
+
+        boolean isFull() {
+            return submitted >= maxFiles;
+        }
+
+        void submit(MultipartFile resume) throws IOException, InterruptedException {
+            int index = submitted++;
+            while (inFlight >= window) {
+                writeNext();
+            }
+            completed.submit(() -> analyze(index, resume));
+            inFlight++;
+        }
+
+        void fail(String name, String error) throws IOException {
+            write(line(submitted++, name, null, error));
+        }
+
+        void drain() throws IOException, InterruptedException {
+            while (inFlight > 0) {
+                writeNext();
+            }
+        }
+
+        void summary() throws IOException {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("done", true);
+            summary.put("total", submitted);
+            summary.put("failed", failed);
+            summary.put("truncated", truncated);
+            summary.put("jd", jd.getHandle());
+            write(summary);
+        }
+
+        private Map<String, Object> analyze(int index, MultipartFile resume) {
+            String name = resume.getOriginalFilename();
+            try {
+                AnalysisResult result = analyzerService.analyze(AnalysisRequest.of(resume, jd)
+                        .fuzzy(fuzzy)
+                        .domain(domain)
+                        .background(true));
+                return line(index, name, result, null);
+            } catch (RuntimeException e) {
+                return line(index, name, null, e.getMessage());
+            }
+        }
+
+        private void writeNext() throws IOException, InterruptedException {
+            try {
+                Map<String, Object> line = completed.take().get();
+                inFlight--;
+                write(line);
+            } catch (ExecutionException e) {
+                throw new IOException("Bulk analysis failed", e.getCause());
+            }
+        }
+
+        private Map<String, Object> line(int index, String name, Object result, String error) {
+            Map<String, Object> line = new LinkedHashMap<>();
+            line.put("index", index);
+            line.put("name", name);
+            if (error != null) {
+                line.put("error", error);
+            } else {
+                line.put("result", result);
+            }
+            return line;
+        }
+
+        private void write(Map<String, Object> line) throws IOException {
+            if (line.containsKey("error")) {
+                failed++;
+            }
+            out.write(objectMapper.writeValueAsBytes(line));
+            out.write('\n');
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.ats.analyzer.service;
+
+import com.ats.analyzer.catalog.CandidatePool;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Candidate pool: resumes are analyzed once on upload, then a JD can be
+ * ranked against all of them in a single request.
+ */
+@Service
+public class CandidateService {
+
+    private final CandidatePool pool = new CandidatePool();
+    private final AnalyzerService analyzerService;
+    private final double partialCredit;
+
+    public CandidateService(AnalyzerService analyzerService,
+            @Value("${analyzer.scoring.partial-credit:0.5}") double partialCredit) {
+        this.analyzerService = analyzerService;
+        this.partialCredit = partialCredit;
+    }
+
+    /**
+     * Add or replace a candidate; a missing id gets a generated one.
+     */
+    public CandidatePool.Candidate addCandidate(String id, MultipartFile resumeFile) {
+        if (resumeFile == null || resumeFile.isEmpty()) {
+            throw new IllegalArgumentException("Resume file is required");
+        }
+
+        try {
+            String candidateId = id == null || id.isBlank() ? UUID.randomUUID().toString() : id;
+            return pool.put(candidateId, analyzerService.extractResumeText(resumeFile));
+        } catch (IOException e) {
+            throw new RuntimeException("Error processing resume file: " + e.getMessage(), e);
+        }
+    }
+
+    public CandidatePool.Candidate getCandidate(String id) {
+        return pool.get(id);
+    }
+
+    public boolean removeCandidate(String id) {
+        return pool.remove(id);
+    }
+
+    public int size() {
+        return pool.size();
+    }
+
+    /**
+     * Rank the pool for a job description.
+     */
+    public CandidatePool.Ranking topCandidates(String jobDescription, int k) {
+        if (jobDescription == null || jobDescription.isBlank()) {
+            throw new IllegalArgumentException("Job description is required");
+        }
+        return pool.topCandidates(jobDescription, k, partialCredit);
+    }
+}
@@ -0,0 +1,67 @@
+package com.ats.analyzer.service;
+
+import com.ats.analyzer.catalog.JobCatalog;
+import com.ats.analyzer.logic.ResumeProfileDetector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Job catalog: JDs are analyzed once on upload, then one resume can be
+ * ranked against all of them in a single request.
+ */
+@Service
+public class CatalogService {
+
+    private final JobCatalog catalog = new JobCatalog();
+    private final AnalyzerService analyzerService;
+    private final double partialCredit;
+
+    public CatalogService(AnalyzerService analyzerService,
+            @Value("${analyzer.scoring.partial-credit:0.5}") double partialCredit) {
+        this.analyzerService = analyzerService;
+        this.partialCredit = partialCredit;
+    }
+
+    /**
+     * Add or replace a job; a missing id gets a generated one.
+     */
+    public JobCatalog.Job addJob(String id, String title, String jobDescription) {
+        if (jobDescription == null || jobDescription.isBlank()) {
+            throw new IllegalArgumentException("Job description is required");
+        }
+        String jobId = id == null || id.isBlank() ? UUID.randomUUID().toString() : id;
+        return catalog.put(jobId, title, jobDescription);
+    }
+
+    public JobCatalog.Job getJob(String id) {
+        return catalog.get(id);
+    }
+
+    public boolean removeJob(String id) {
+        return catalog.remove(id);
+    }
+
+    public int size() {
+        return catalog.size();
+    }
+
+    /**
+     * Rank the catalog for an uploaded resume.
+     */
+    public JobCatalog.Ranking topMatches(MultipartFile resumeFile, int k) {
+        if (resumeFile == null || resumeFile.isEmpty()) {
+            throw new IllegalArgumentException("Resume file is required");
+        }
+
+        try {
+            String resumeText = analyzerService.extractResumeText(resumeFile);
+            return catalog.topMatches(resumeText, ResumeProfileDetector.detect(resumeText), k, partialCredit);
+        } catch (IOException e) {
+            throw new RuntimeException("Error processing resume file: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.ats.analyzer.service;
+
+import com.ats.analyzer.dictionary.DictionaryLoader;
+import com.ats.analyzer.dictionary.DictionaryRegistry;
+import com.ats.analyzer.dictionary.DictionarySnapshot;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads and hot-reloads the skill dictionary.
+ *
+ * With analyzer.dictionary.path set, dictionary files are read from that
+ * directory (missing files fall back to the bundled copies); otherwise the
+ * bundled dictionary is used. A reload builds the new snapshot completely
+ * before publishing it, so requests never wait on a rebuild and never see a
+ * half-built dictionary.
+ *
+ * analyzer.dictionary.poll-seconds > 0 additionally watches the directory
+ * and reloads when a file's modification time changes.
+ */
+@Service
+public class DictionaryService {
+
+    private final String path;
+    private final long pollSeconds;
+
+    private ScheduledExecutorService watcher;
+    private long lastModified;
+
+    public DictionaryService(
+            @Value("${analyzer.dictionary.path:}") String path,
+            @Value("${analyzer.dictionary.poll-seconds:0}") long pollSeconds) {
+        this.path = path;
+        this.pollSeconds = pollSeconds;
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        if (path.isBlank()) {
+            return;
+        }
+        reload();
+
+        if (pollSeconds > 0) {
+            watcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "dictionary-watcher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            watcher.scheduleWithFixedDelay(this::reloadIfChanged, pollSeconds, pollSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (watcher != null) {
+            watcher.shutdownNow();
+        }
+    }
+
+    /**
+     * Active dictionary snapshot.
+     */
+    public DictionarySnapshot current() {
+        return DictionaryRegistry.current();
+    }
+
+    /**
+     * Rebuild the dictionary from its source and publish it.
+     * Serialized so concurrent reloads cannot publish out of order.
+     *
+     * @return The newly active snapshot
+     * @throws IOException if the configured directory cannot be read; the
+     *                     previous snapshot stays active
+     */
+    public synchronized DictionarySnapshot reload() throws IOException {
+        DictionarySnapshot snapshot;
+        if (path.isBlank()) {
+            snapshot = DictionaryLoader.loadBundled(DictionaryRegistry.nextVersion());
+        } else {
+            Path directory = Path.of(path);
+            lastModified = DictionaryLoader.lastModified(directory);
+            snapshot = DictionaryLoader.loadDirectory(directory, DictionaryRegistry.nextVersion());
+        }
+        DictionaryRegistry.install(snapshot);
+        return snapshot;
+    }
+
+    private synchronized void reloadIfChanged() {
+        try {
+            if (DictionaryLoader.lastModified(Path.of(path)) != lastModified) {
+                DictionarySnapshot snapshot = reload();
+                System.err.println("Dictionary reloaded: version " + snapshot.getVersion());
+            }
+        } catch (IOException e) {
+            System.err.println("Dictionary reload failed: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.ats.analyzer.service;
+
+import com.ats.analyzer.bulkhead.Bulkhead;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bulkheads separating the kinds of work that share the request threads:
+ * resume text extraction (PDF parsing, heavy and bursty), the scoring
+ * stages (cheap), and health and admin endpoints (control). Each lane has
+ * its own concurrency limit, queue and maximum wait
+ * (analyzer.lanes.&lt;lane&gt;.*), so a burst of large PDFs fills the
+ * extraction lane and is refused there (503) instead of occupying every
+ * request thread while health checks time out.
+ *
+ * The analysis lanes only protect the others if the request threads they
+ * can hold (limit plus queue, summed) leave some of the container's pool
+ * free; a configuration that does not is reported at startup.
+ */
+@Component
+public class ExecutionLanes {
+
+    private final Bulkhead extract;
+    private final Bulkhead score;
+    private final Bulkhead control;
+
+    public ExecutionLanes(
+            @Value("${analyzer.lanes.extract.concurrency:8}") int extractConcurrency,
+            @Value("${analyzer.lanes.extract.queue:32}") int extractQueue,
+            @Value("${analyzer.lanes.extract.max-wait:10s}") Duration extractMaxWait,
+            @Value("${analyzer.lanes.score.concurrency:16}") int scoreConcurrency,
+            @Value("${analyzer.lanes.score.queue:64}") int scoreQueue,
+            @Value("${analyzer.lanes.score.max-wait:5s}") Duration scoreMaxWait,
+            @Value("${analyzer.lanes.control.concurrency:4}") int controlConcurrency,
+            @Value("${analyzer.lanes.control.queue:16}") int controlQueue,
+            @Value("${analyzer.lanes.control.max-wait:2s}") Duration controlMaxWait,
+            @Value("${server.tomcat.threads.max:200}") int requestThreads) {
+        this.extract = new Bulkhead("extract", extractConcurrency, extractQueue, extractMaxWait.toNanos());
+        this.score = new Bulkhead("score", scoreConcurrency, scoreQueue, scoreMaxWait.toNanos());
+        this.control = new Bulkhead("control", controlConcurrency, controlQueue, controlMaxWait.toNanos());
+
+        int analysisThreads = extractConcurrency + extractQueue + scoreConcurrency + scoreQueue;
+        if (analysisThreads + controlConcurrency > requestThreads) {
+            System.err.println("Warning: the extract and score lanes can hold " + analysisThreads
+                    + " of " + requestThreads + " request threads, leaving fewer than "
+                    + controlConcurrency + " for health and admin requests");
+        }
+    }
+
+    /**
+     * Resume text extraction (PDF and text parsing).
+     */
+    public Bulkhead extract() {
+        return extract;
+    }
+
+    /**
+     * JD analysis, matching, scoring and suggestions.
+     */
+    public Bulkhead score() {
+        return score;
+    }
+
+    /**
+     * Health check, metrics and admin endpoints.
+     */
+    public Bulkhead control() {
+        return control;
+    }
+
+    /**
+     * Lane name → Bulkhead.stats().
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (Bulkhead lane : new Bulkhead[] { extract, score, control }) {
+            stats.put(lane.getName(), lane.stats());
+        }
+        return stats;
+    }
+
+    public void resetStats() {
+        extract.resetStats();
+        score.resetStats();
+        control.resetStats();
+    }
+}
@@ -0,0 +1,159 @@
+package com.ats.analyzer.service;
+
+import com.ats.analyzer.context.AnalysisContext;
+import com.ats.analyzer.scorer.ScoringModel;
+import com.ats.analyzer.scorer.ScoringModelRegistry;
+import com.ats.analyzer.scorer.ShadowScoring;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Loads, swaps and shadow-evaluates the scoring model.
+ *
+ * With analyzer.scoring.model-path set, the model file is read from there
+ * (keys it leaves out keep their bundled values); otherwise the bundled
+ * scoring-model.txt is used. A new model is fully parsed and validated
+ * before it is published, so a bad file leaves the active model in place.
+ *
+ * A candidate model can run in shadow mode: a sampled fraction of analyses
+ * is re-scored with it off the request thread and the score deltas are
+ * recorded, then it can be promoted to active.
+ */
+@Service
+public class ScoringModelService {
+
+    private final String path;
+    private final String shadowPath;
+    private final double shadowSampleRate;
+
+    private volatile ShadowScoring shadow;
+
+    // Bundled model, read once; only ever used as a base, never installed
+    private ScoringModel bundled;
+
+    public ScoringModelService(
+            @Value("${analyzer.scoring.model-path:}") String path,
+            @Value("${analyzer.scoring.shadow.model-path:}") String shadowPath,
+            @Value("${analyzer.scoring.shadow.sample-rate:0.1}") double shadowSampleRate) {
+        this.path = path;
+        this.shadowPath = shadowPath;
+        this.shadowSampleRate = shadowSampleRate;
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        if (!path.isBlank()) {
+            reload();
+        }
+        if (!shadowPath.isBlank()) {
+            ScoringModel candidate = ScoringModel.loadFile(Path.of(shadowPath), current(),
+                    ScoringModelRegistry.nextVersion());
+            startShadow(candidate, shadowSampleRate);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        stopShadow();
+    }
+
+    /**
+     * Active scoring model.
+     */
+    public ScoringModel current() {
+        return ScoringModelRegistry.current();
+    }
+
+    /**
+     * Re-read the model from its source and publish it.
+     *
+     * @return The newly active model
+     * @throws IOException if the configured file cannot be read; the
+     *                     previous model stays active
+     */
+    public synchronized ScoringModel reload() throws IOException {
+        if (bundled == null) {
+            bundled = ScoringModel.loadBundled(0);
+        }
+        long version = ScoringModelRegistry.nextVersion();
+        ScoringModel model = path.isBlank()
+                ? ScoringModel.parse(List.of(), bundled, version, "classpath")
+                : ScoringModel.loadFile(Path.of(path), bundled, version);
+        ScoringModelRegistry.install(model);
+        return model;
+    }
+
+    /**
+     * Start shadow-evaluating a candidate given as model file lines. Keys
+     * it leaves out keep the active model's values, so a candidate can be
+     * written as just the changes being tried.
+     *
+     * @param sampleRate Fraction of analyses to re-score, in [0, 1]
+     */
+    public ShadowScoring startShadow(List<String> modelLines, double sampleRate) {
+        ScoringModel candidate = ScoringModel.parse(modelLines, current(), ScoringModelRegistry.nextVersion(),
+                "shadow");
+        return startShadow(candidate, sampleRate);
+    }
+
+    private synchronized ShadowScoring startShadow(ScoringModel candidate, double sampleRate) {
+        ShadowScoring started = new ShadowScoring(candidate, sampleRate);
+        ShadowScoring previous = shadow;
+        shadow = started;
+        if (previous != null) {
+            previous.close();
+        }
+        return started;
+    }
+
+    /**
+     * Running shadow evaluation, or null.
+     */
+    public ShadowScoring shadow() {
+        return shadow;
+    }
+
+    /**
+     * Stop shadow evaluation.
+     *
+     * @return The stopped evaluation, or null if none was running
+     */
+    public synchronized ShadowScoring stopShadow() {
+        ShadowScoring stopped = shadow;
+        shadow = null;
+        if (stopped != null) {
+            stopped.close();
+        }
+        return stopped;
+    }
+
+    /**
+     * Make the shadow candidate the active model and end the evaluation.
+     *
+     * @return The newly active model, or null if no shadow was running
+     */
+    public synchronized ScoringModel promoteShadow() {
+        ShadowScoring stopped = stopShadow();
+        if (stopped == null) {
+            return null;
+        }
+        ScoringModelRegistry.install(stopped.getCandidate());
+        return stopped.getCandidate();
+    }
+
+    /**
+     * Hand a scored analysis to the shadow evaluation, if one is running.
+     */
+    public void offer(AnalysisContext context, double partialCredit, double score) {
+        ShadowScoring current = shadow;
+        if (current != null) {
+            current.offer(context, partialCredit, score);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.ats.analyzer.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency per analysis stage: call count, total and maximum time.
+ *
+ * Counters are LongAdders (and a LongAccumulator for the maximum), so
+ * concurrent requests record without contending on one cache line. Read
+ * with GET /api/metrics.
+ */
+@Component
+public class StageMetrics {
+
+    public enum Stage {
+        PARSE, JD, EXTRACT, FUZZY, MATCH, CONTEXT, DOMAIN, SCORE, SIMULATE, SUGGEST
+    }
+
+    private final Counter[] counters = new Counter[Stage.values().length];
+
+    public StageMetrics() {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new Counter();
+        }
+    }
+
+    /**
+     * Record a stage that started at startNanos and ends now.
+     *
+     * @return The current System.nanoTime(), to start the next stage
+     */
+    public long record(Stage stage, long startNanos) {
+        long now = System.nanoTime();
+        Counter counter = counters[stage.ordinal()];
+        long elapsed = now - startNanos;
+        counter.count.increment();
+        counter.totalNanos.add(elapsed);
+        counter.maxNanos.accumulate(elapsed);
+        return now;
+    }
+
+    public long count(Stage stage) {
+        return counters[stage.ordinal()].count.sum();
+    }
+
+    /**
+     * Stage name → count, totalMillis, meanMicros, maxMicros. Stages that
+     * never ran are included with zero counts.
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> stages = new LinkedHashMap<>();
+        for (Stage stage : Stage.values()) {
+            Counter counter = counters[stage.ordinal()];
+            long count = counter.count.sum();
+            long total = counter.totalNanos.sum();
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("count", count);
+            values.put("totalMillis", total / 1_000_000.0);
+            values.put("meanMicros", count == 0 ? 0.0 : total / 1_000.0 / count);
+            values.put("maxMicros", counter.maxNanos.get() / 1_000.0);
+            stages.put(stage.name().toLowerCase(), values);
+        }
+        return stages;
+    }
+
+    public void reset() {
+        for (Counter counter : counters) {
+            counter.count.reset();
+            counter.totalNanos.reset();
+            counter.maxNanos.reset();
+        }
+    }
+
+    private static final class Counter {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    }
+}
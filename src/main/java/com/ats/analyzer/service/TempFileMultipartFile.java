@@ -0,0 +1,89 @@
+package com.ats.analyzer.service;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * An upload copied to a temp file, so it outlives its request (queued
+ * async analyses) without holding the bytes on the heap. Delete it when
+ * done.
+ */
+final class TempFileMultipartFile implements MultipartFile {
+
+    private final String name;
+    private final Path file;
+    private final long size;
+
+    private TempFileMultipartFile(String name, Path file, long size) {
+        this.name = name;
+        this.file = file;
+        this.size = size;
+    }
+
+    static TempFileMultipartFile copyOf(MultipartFile upload) throws IOException {
+        Path file = Files.createTempFile("async-resume", ".upload");
+        try {
+            try (InputStream in = upload.getInputStream()) {
+                Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return new TempFileMultipartFile(upload.getOriginalFilename(), file, Files.size(file));
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    void delete() {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            System.err.println("Could not delete " + file + ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "resume";
+    }
+
+    @Override
+    public String getOriginalFilename() {
+        return name;
+    }
+
+    @Override
+    public String getContentType() {
+        return null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public byte[] getBytes() throws IOException {
+        return Files.readAllBytes(file);
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return Files.newInputStream(file);
+    }
+
+    @Override
+    public void transferTo(File dest) throws IOException {
+        Files.copy(file, dest.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+}
@@ -1,9 +1,13 @@
 package com.ats.analyzer.suggestion;
 
+import com.ats.analyzer.context.AnalysisContext;
+import com.ats.analyzer.dictionary.SkillDictionary;
+import com.ats.analyzer.matcher.MatchResult;
+import com.ats.analyzer.scorer.ScoreSimulator;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Generates actionable, ranked suggestions for resume improvement.
@@ -11,30 +15,66 @@ import java.util.stream.Collectors;
  */
 public class SuggestionEngine {
 
+    /**
+     * Bitset variant: the first missing skill in id order is the
+     * alphabetically first one, so no names need to be collected or sorted.
+     */
+    public static List<String> generateSuggestions(MatchResult matchResult, double score) {
+        SkillDictionary dictionary = matchResult.getDictionary();
+        int firstMissing = matchResult.getMissingBits().nextSetBit(0);
+        String topMissing = firstMissing >= 0 ? dictionary.nameOf(firstMissing) : null;
+        return buildSuggestions(topMissing, 0, matchResult.getExtraBits().cardinality(), score);
+    }
+
+    /**
+     * Context variant: the top blocker is the missing skill that would raise
+     * the score most, as ranked by ScoreSimulator with the caller's partial
+     * credit and model.
+     *
+     * @param gains Missing skills ranked by score gain, best first
+     */
+    public static List<String> generateSuggestions(AnalysisContext context, double score,
+            List<ScoreSimulator.SkillGain> gains) {
+        int extraCount = context.getMatchResult().getExtraBits().cardinality();
+        if (gains.isEmpty()) {
+            return buildSuggestions(null, 0, extraCount, score);
+        }
+        ScoreSimulator.SkillGain top = gains.get(0);
+        return buildSuggestions(top.getSkill(), top.getGain(), extraCount, score);
+    }
+
     public static List<String> generateSuggestions(
             Set<String> missingSkills,
             Set<String> extraSkills,
             double score) {
 
+        // Sort alphabetically for deterministic output
+        String topMissing = missingSkills.stream()
+                .sorted()
+                .findFirst()
+                .orElse(null);
+
+        return buildSuggestions(topMissing, 0, extraSkills.size(), score);
+    }
+
+    /**
+     * @param gain Score points adding topMissing would earn; 0 if unknown
+     */
+    private static List<String> buildSuggestions(String topMissing, int gain, int extraCount, double score) {
         List<String> suggestions = new ArrayList<>();
 
         // 1️⃣ Primary blocker - top missing skill (ONLY ONE)
-        if (!missingSkills.isEmpty()) {
-            // Sort alphabetically for deterministic output
-            List<String> sortedMissing = missingSkills.stream()
-                    .sorted()
-                    .collect(Collectors.toList());
-
-            String topMissing = sortedMissing.get(0);
+        if (topMissing != null) {
             suggestions.add(
                     "Add experience with \"" + topMissing +
-                            "\" by mentioning it in a project or internship.");
+                            "\" by mentioning it in a project or internship" +
+                            (gain > 0 ? " (about +" + gain + " points)." : "."));
         }
 
         // 2️⃣ Secondary insight - extra skills strategy
-        if (extraSkills.size() > 5) {
+        if (extraCount > 5) {
             suggestions.add(
-                    "You listed " + extraSkills.size() +
+                    "You listed " + extraCount +
                             " skills not in the job description. Consider prioritizing only the most relevant ones.");
         }
 
@@ -0,0 +1,49 @@
+package com.ats.config;
+
+import com.ats.analyzer.bulkhead.Bulkhead;
+import com.ats.analyzer.service.ExecutionLanes;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Runs health, metrics and admin requests in the control lane, apart from
+ * the analysis lanes (see ExecutionLanes), so a busy analyzer still
+ * answers its health check and an admin flood cannot crowd out analyses.
+ */
+@Configuration
+public class LaneConfig implements WebMvcConfigurer {
+
+    private static final String PERMIT = LaneConfig.class.getName() + ".permit";
+
+    private final ExecutionLanes lanes;
+
+    public LaneConfig(ExecutionLanes lanes) {
+        this.lanes = lanes;
+    }
+
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                    @NonNull Object handler) {
+                request.setAttribute(PERMIT, lanes.control().acquire());
+                return true;
+            }
+
+            @Override
+            public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                    @NonNull Object handler, Exception ex) {
+                if (request.getAttribute(PERMIT) instanceof Bulkhead.Permit permit) {
+                    permit.release();
+                    request.removeAttribute(PERMIT);
+                }
+            }
+        }).addPathPatterns("/api/health", "/api/metrics", "/api/metrics/**", "/api/admin/**");
+    }
+}
@@ -0,0 +1,148 @@
+package com.ats.web.controller;
+
+import com.ats.analyzer.dictionary.DictionarySnapshot;
+import com.ats.analyzer.model.RoleIntent;
+import com.ats.analyzer.scorer.ScoringModel;
+import com.ats.analyzer.scorer.ShadowScoring;
+import com.ats.analyzer.service.AnalysisCache;
+import com.ats.analyzer.service.DictionaryService;
+import com.ats.analyzer.service.ScoringModelService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Operational endpoints (dictionary, scoring model and cache management).
+ */
+@RestController
+@RequestMapping("/api/admin")
+public class AdminController {
+
+    private final DictionaryService dictionaryService;
+    private final ScoringModelService scoringModelService;
+    private final AnalysisCache analysisCache;
+
+    public AdminController(DictionaryService dictionaryService, ScoringModelService scoringModelService,
+            AnalysisCache analysisCache) {
+        this.dictionaryService = dictionaryService;
+        this.scoringModelService = scoringModelService;
+        this.analysisCache = analysisCache;
+    }
+
+    /**
+     * Describe the active dictionary snapshot.
+     */
+    @GetMapping("/dictionary")
+    public ResponseEntity<Map<String, Object>> dictionary() {
+        return ResponseEntity.ok(describe(dictionaryService.current()));
+    }
+
+    /**
+     * Rebuild the dictionary and swap it in. In-flight analyses finish on the
+     * snapshot they started with.
+     */
+    @PostMapping("/dictionary/reload")
+    public ResponseEntity<Map<String, Object>> reloadDictionary() throws IOException {
+        return ResponseEntity.ok(describe(dictionaryService.reload()));
+    }
+
+    /**
+     * Describe the active scoring model.
+     */
+    @GetMapping("/scoring-model")
+    public ResponseEntity<Map<String, Object>> scoringModel() {
+        return ResponseEntity.ok(describe(scoringModelService.current()));
+    }
+
+    /**
+     * Re-read the scoring model file and swap it in.
+     */
+    @PostMapping("/scoring-model/reload")
+    public ResponseEntity<Map<String, Object>> reloadScoringModel() throws IOException {
+        return ResponseEntity.ok(describe(scoringModelService.reload()));
+    }
+
+    /**
+     * Score deltas of the running shadow evaluation.
+     */
+    @GetMapping("/scoring-model/shadow")
+    public ResponseEntity<ShadowScoring.Stats> shadow() {
+        ShadowScoring shadow = scoringModelService.shadow();
+        return shadow != null ? ResponseEntity.ok(shadow.stats()) : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Start shadow-evaluating a candidate model (model file in the body;
+     * keys it leaves out keep their active values). Replaces any running
+     * evaluation.
+     */
+    @PutMapping(value = "/scoring-model/shadow", consumes = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<Map<String, Object>> startShadow(
+            @RequestBody String model,
+            @RequestParam(value = "sampleRate", defaultValue = "0.1") double sampleRate) {
+        ShadowScoring shadow = scoringModelService.startShadow(List.of(model.split("\\R")), sampleRate);
+        Map<String, Object> body = describe(shadow.getCandidate());
+        body.put("sampleRate", sampleRate);
+        return ResponseEntity.ok(body);
+    }
+
+    /**
+     * Stop the shadow evaluation and return its final statistics.
+     */
+    @DeleteMapping("/scoring-model/shadow")
+    public ResponseEntity<ShadowScoring.Stats> stopShadow() {
+        ShadowScoring stopped = scoringModelService.stopShadow();
+        return stopped != null ? ResponseEntity.ok(stopped.stats()) : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Make the shadow candidate the active scoring model.
+     */
+    @PostMapping("/scoring-model/shadow/promote")
+    public ResponseEntity<Map<String, Object>> promoteShadow() {
+        ScoringModel promoted = scoringModelService.promoteShadow();
+        return promoted != null ? ResponseEntity.ok(describe(promoted)) : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Drop every cached resume text and analysis result.
+     */
+    @DeleteMapping("/cache")
+    public ResponseEntity<Map<String, Object>> clearCache() {
+        analysisCache.clear();
+        return ResponseEntity.ok(analysisCache.stats());
+    }
+
+    private Map<String, Object> describe(ScoringModel model) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("version", model.getVersion());
+        body.put("source", model.getSource());
+        body.put("loadedAt", model.getLoadedAt().toString());
+        body.put("values", model.getValues());
+        return body;
+    }
+
+    private Map<String, Object> describe(DictionarySnapshot snapshot) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("version", snapshot.getVersion());
+        body.put("source", snapshot.getSource());
+        body.put("loadedAt", snapshot.getLoadedAt().toString());
+        body.put("skills", snapshot.getSkills().size());
+        body.put("phrases", snapshot.getAutomaton().patternCount());
+        body.put("stopWords", snapshot.getStopWords().size());
+        body.put("fuzzyExclusions", snapshot.getFuzzyExclusions().size());
+        body.put("synonyms", snapshot.getSynonyms().size());
+        body.put("taxonomyEdges", snapshot.getTaxonomy().edgeCount());
+        Map<String, Object> core = new LinkedHashMap<>();
+        for (RoleIntent intent : RoleIntent.values()) {
+            core.put(intent.name(), snapshot.getCorePolicy().coreMask(snapshot.getSkills(), intent).cardinality());
+        }
+        body.put("coreSkills", core);
+        return body;
+    }
+}
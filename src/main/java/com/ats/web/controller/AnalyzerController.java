@@ -1,15 +1,27 @@
 package com.ats.web.controller;
 
+import com.ats.analyzer.service.AnalysisRequest;
 import com.ats.analyzer.service.AnalyzerService;
+import com.ats.analyzer.service.AsyncAnalysisService;
+import com.ats.analyzer.service.BulkAnalysisService;
+import com.ats.web.dto.AnalysisJobStatus;
 import com.ats.web.dto.AnalysisResult;
+import com.ats.web.dto.JdHandle;
+import com.ats.web.dto.WhatIfResult;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -17,16 +29,140 @@ import java.util.Map;
 public class AnalyzerController {
 
     private final AnalyzerService analyzerService;
+    private final BulkAnalysisService bulkAnalysisService;
+    private final AsyncAnalysisService asyncAnalysisService;
+    private final long sseTimeoutMillis;
 
-    public AnalyzerController(AnalyzerService analyzerService) {
+    public AnalyzerController(AnalyzerService analyzerService, BulkAnalysisService bulkAnalysisService,
+            AsyncAnalysisService asyncAnalysisService,
+            @Value("${analyzer.async.sse-timeout:5m}") Duration sseTimeout) {
         this.analyzerService = analyzerService;
+        this.bulkAnalysisService = bulkAnalysisService;
+        this.asyncAnalysisService = asyncAnalysisService;
+        this.sseTimeoutMillis = sseTimeout.toMillis();
     }
 
+    /**
+     * Score a resume against a JD, sent as text (jobDescription) or as a
+     * handle from POST /api/jd (jd).
+     */
     @PostMapping(value = "/analyze", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public AnalysisResult analyze(
             @RequestParam("resume") MultipartFile resume,
-            @RequestParam("jobDescription") String jobDescription) {
-        return analyzerService.analyze(resume, jobDescription);
+            @RequestParam(value = "jobDescription", required = false) String jobDescription,
+            @RequestParam(value = "jd", required = false) String jd,
+            @RequestParam(value = "fuzzy", required = false) Boolean fuzzy,
+            @RequestParam(value = "domain", required = false) Boolean domain,
+            @RequestParam(value = "explain", defaultValue = "false") boolean explain) {
+        return analyzerService.analyze(AnalysisRequest.of(resume, jobDescription, jd)
+                .fuzzy(fuzzy)
+                .domain(domain)
+                .explain(explain));
+    }
+
+    /**
+     * Score many resumes (parts named resumes; *.zip parts are expanded)
+     * against one JD. One NDJSON line per resume as soon as it is scored,
+     * then a summary line. JD and upload errors are rejected before
+     * streaming starts; a failing resume gets an error line instead.
+     */
+    @PostMapping(value = "/analyze/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> analyzeBulk(
+            @RequestParam("resumes") List<MultipartFile> resumes,
+            @RequestParam(value = "jobDescription", required = false) String jobDescription,
+            @RequestParam(value = "jd", required = false) String jd,
+            @RequestParam(value = "fuzzy", required = false) Boolean fuzzy,
+            @RequestParam(value = "domain", required = false) Boolean domain) {
+        bulkAnalysisService.validate(resumes);
+        JdHandle job = analyzerService.resolveJob(jobDescription, jd);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> bulkAnalysisService.stream(resumes, job, fuzzy, domain, out));
+    }
+
+    /**
+     * Queue an analysis and return its job (202, Location of the job)
+     * right away. Inputs and the JD are checked before queueing; a full
+     * queue answers 429 with Retry-After.
+     */
+    @PostMapping(value = "/analyze/async", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<AnalysisJobStatus> analyzeAsync(
+            @RequestParam("resume") MultipartFile resume,
+            @RequestParam(value = "jobDescription", required = false) String jobDescription,
+            @RequestParam(value = "jd", required = false) String jd,
+            @RequestParam(value = "fuzzy", required = false) Boolean fuzzy,
+            @RequestParam(value = "domain", required = false) Boolean domain,
+            @RequestParam(value = "explain", defaultValue = "false") boolean explain) {
+        analyzerService.validate(resume);
+        JdHandle job = analyzerService.resolveJob(jobDescription, jd);
+        AnalysisJobStatus status = asyncAnalysisService.submit(resume, job, fuzzy, domain, explain);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/analyze/jobs/" + status.getId()))
+                .body(status);
+    }
+
+    @GetMapping("/analyze/jobs/{id}")
+    public AnalysisJobStatus analysisJob(@PathVariable String id) {
+        return asyncAnalysisService.status(id);
+    }
+
+    /**
+     * Follow a job as Server-Sent Events: a "status" event now and on each
+     * state change; the stream ends after DONE or FAILED.
+     */
+    @GetMapping(value = "/analyze/jobs/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter analysisJobEvents(@PathVariable String id) {
+        AnalysisJobStatus current = asyncAnalysisService.status(id);
+        SseEmitter emitter = new SseEmitter(sseTimeoutMillis);
+        sendStatus(emitter, current);
+        if (!current.getState().isFinished()) {
+            asyncAnalysisService.listen(id, status -> sendStatus(emitter, status));
+        }
+        return emitter;
+    }
+
+    private static void sendStatus(SseEmitter emitter, AnalysisJobStatus status) {
+        try {
+            emitter.send(SseEmitter.event().name("status").data(status));
+            if (status.getState().isFinished()) {
+                emitter.complete();
+            }
+        } catch (Exception e) {
+            // Client gone or stream timed out; the job carries on
+            emitter.completeWithError(e);
+        }
+    }
+
+    /**
+     * Missing JD skills ranked by how much each would raise the score.
+     */
+    @PostMapping(value = "/what-if", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public WhatIfResult whatIf(
+            @RequestParam("resume") MultipartFile resume,
+            @RequestParam(value = "jobDescription", required = false) String jobDescription,
+            @RequestParam(value = "jd", required = false) String jd,
+            @RequestParam(value = "limit", defaultValue = "5") int limit,
+            @RequestParam(value = "fuzzy", required = false) Boolean fuzzy,
+            @RequestParam(value = "domain", required = false) Boolean domain) {
+        return analyzerService.whatIf(resume, jobDescription, jd, fuzzy, domain, limit);
+    }
+
+    /**
+     * Analyze a JD once; the returned handle can replace jobDescription in
+     * later /api/analyze and /api/what-if calls. Handles are the JD's
+     * content digest, so registering the same JD again returns the same
+     * one. They live in an LRU cache (analyzer.cache.jd.max-size); an
+     * evicted handle gets 404 and must be registered again.
+     */
+    @PostMapping("/jd")
+    public JdHandle registerJob(@RequestParam("jobDescription") String jobDescription) {
+        return analyzerService.registerJob(jobDescription);
+    }
+
+    @GetMapping("/jd/{handle}")
+    public JdHandle getJob(@PathVariable String handle) {
+        return analyzerService.getJob(handle);
     }
 
     /**
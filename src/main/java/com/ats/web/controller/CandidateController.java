@@ -0,0 +1,63 @@
+package com.ats.web.controller;
+
+import com.ats.analyzer.catalog.CandidatePool;
+import com.ats.analyzer.service.CandidateService;
+import com.ats.web.dto.CandidateRanking;
+import com.ats.web.dto.CandidateSummary;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.Map;
+
+/**
+ * Candidate pool: upload resumes once, then rank them all for a JD.
+ */
+@RestController
+@RequestMapping("/api/candidates")
+public class CandidateController {
+
+    private final CandidateService candidateService;
+
+    public CandidateController(CandidateService candidateService) {
+        this.candidateService = candidateService;
+    }
+
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> pool() {
+        return ResponseEntity.ok(Map.of("size", candidateService.size()));
+    }
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public CandidateSummary addCandidate(
+            @RequestParam("resume") MultipartFile resume,
+            @RequestParam(value = "id", required = false) String id) {
+        return new CandidateSummary(candidateService.addCandidate(id, resume));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<CandidateSummary> getCandidate(@PathVariable String id) {
+        CandidatePool.Candidate candidate = candidateService.getCandidate(id);
+        return candidate == null
+                ? ResponseEntity.notFound().build()
+                : ResponseEntity.ok(new CandidateSummary(candidate));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> removeCandidate(@PathVariable String id) {
+        return candidateService.removeCandidate(id)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Top-k pooled candidates for one JD, best first.
+     */
+    @PostMapping("/match")
+    public CandidateRanking match(
+            @RequestParam("jobDescription") String jobDescription,
+            @RequestParam(value = "k", defaultValue = "10") int k) {
+        return new CandidateRanking(candidateService.topCandidates(jobDescription, k));
+    }
+}
@@ -0,0 +1,60 @@
+package com.ats.web.controller;
+
+import com.ats.analyzer.catalog.JobCatalog;
+import com.ats.analyzer.service.CatalogService;
+import com.ats.web.dto.JobPosting;
+import com.ats.web.dto.JobRanking;
+import com.ats.web.dto.JobSummary;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.Map;
+
+/**
+ * Job catalog: upload JDs once, then rank them all for a resume.
+ */
+@RestController
+@RequestMapping("/api/catalog")
+public class CatalogController {
+
+    private final CatalogService catalogService;
+
+    public CatalogController(CatalogService catalogService) {
+        this.catalogService = catalogService;
+    }
+
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> catalog() {
+        return ResponseEntity.ok(Map.of("size", catalogService.size()));
+    }
+
+    @PostMapping("/jobs")
+    public JobSummary addJob(@RequestBody JobPosting posting) {
+        return new JobSummary(catalogService.addJob(posting.getId(), posting.getTitle(), posting.getDescription()));
+    }
+
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<JobSummary> getJob(@PathVariable String id) {
+        JobCatalog.Job job = catalogService.getJob(id);
+        return job == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(new JobSummary(job));
+    }
+
+    @DeleteMapping("/jobs/{id}")
+    public ResponseEntity<Void> removeJob(@PathVariable String id) {
+        return catalogService.removeJob(id)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Top-k catalog jobs for one resume, best first.
+     */
+    @PostMapping(value = "/match", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public JobRanking match(
+            @RequestParam("resume") MultipartFile resume,
+            @RequestParam(value = "k", defaultValue = "10") int k) {
+        return new JobRanking(catalogService.topMatches(resume, k));
+    }
+}
@@ -0,0 +1,56 @@
+package com.ats.web.controller;
+
+import com.ats.analyzer.service.AnalysisCache;
+import com.ats.analyzer.service.AsyncAnalysisService;
+import com.ats.analyzer.service.ExecutionLanes;
+import com.ats.analyzer.service.StageMetrics;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Runtime metrics: per-stage latency of /api/analyze, analysis cache
+ * counters, the async analysis queue and execution lane saturation.
+ */
+@RestController
+@RequestMapping("/api/metrics")
+public class MetricsController {
+
+    private final StageMetrics stageMetrics;
+    private final AnalysisCache analysisCache;
+    private final AsyncAnalysisService asyncAnalysisService;
+    private final ExecutionLanes lanes;
+
+    public MetricsController(StageMetrics stageMetrics, AnalysisCache analysisCache,
+            AsyncAnalysisService asyncAnalysisService, ExecutionLanes lanes) {
+        this.stageMetrics = stageMetrics;
+        this.analysisCache = analysisCache;
+        this.asyncAnalysisService = asyncAnalysisService;
+        this.lanes = lanes;
+    }
+
+    @GetMapping
+    public Map<String, Object> metrics() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("stages", stageMetrics.snapshot());
+        body.put("cache", analysisCache.stats());
+        body.put("async", asyncAnalysisService.stats());
+        body.put("lanes", lanes.stats());
+        return body;
+    }
+
+    /**
+     * Zero every counter (e.g. between load test runs). Cached entries are
+     * kept; DELETE /api/admin/cache drops them.
+     */
+    @DeleteMapping
+    public ResponseEntity<Void> reset() {
+        stageMetrics.reset();
+        analysisCache.resetStats();
+        asyncAnalysisService.resetStats();
+        lanes.resetStats();
+        return ResponseEntity.noContent().build();
+    }
+}
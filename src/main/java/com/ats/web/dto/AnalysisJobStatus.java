@@ -0,0 +1,68 @@
+package com.ats.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+
+/**
+ * State of an asynchronous analysis (POST /api/analyze/async). The result
+ * is present once the job is DONE, the error once it FAILED.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AnalysisJobStatus {
+
+    public enum State {
+        QUEUED, RUNNING, DONE, FAILED;
+
+        public boolean isFinished() {
+            return this == DONE || this == FAILED;
+        }
+    }
+
+    private final String id;
+    private final State state;
+    private final Instant submittedAt;
+    private final Instant startedAt;
+    private final Instant finishedAt;
+    private final AnalysisResult result;
+    private final String error;
+
+    public AnalysisJobStatus(String id, State state, Instant submittedAt, Instant startedAt, Instant finishedAt,
+            AnalysisResult result, String error) {
+        this.id = id;
+        this.state = state;
+        this.submittedAt = submittedAt;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.result = result;
+        this.error = error;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public AnalysisResult getResult() {
+        return result;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
@@ -1,46 +1,104 @@
 package com.ats.web.dto;
 
+import com.ats.analyzer.matcher.MatchResult;
+import com.ats.analyzer.scorer.ScoringTrace;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+/**
+ * API response for an analysis.
+ * Backed by the bitset MatchResult: skill names are only produced when the
+ * response is serialized.
+ */
 public class AnalysisResult {
 
     private final double score;
-    private final Set<String> matchedSkills;
-    private final Set<String> missingSkills;
-    private final Set<String> extraSkills;
+    private final MatchResult matchResult;
     private final List<String> suggestions;
+    private final long dictionaryVersion;
+    private final Map<String, String> fuzzyMatches;
+    private final ScoringTrace scoringTrace;
+
+    /**
+     * Result over plain skill names, not tied to a dictionary snapshot
+     * (dictionaryVersion 0).
+     */
+    public AnalysisResult(double score, Set<String> matchedSkills, Set<String> missingSkills,
+            Set<String> extraSkills, List<String> suggestions) {
+        this(score, MatchResult.ofNames(matchedSkills, missingSkills, extraSkills), suggestions, 0, Map.of());
+    }
+
+    public AnalysisResult(double score, MatchResult matchResult, List<String> suggestions, long dictionaryVersion,
+            Map<String, String> fuzzyMatches) {
+        this(score, matchResult, suggestions, dictionaryVersion, fuzzyMatches, null);
+    }
 
-    public AnalysisResult(
-            double score,
-            Set<String> matchedSkills,
-            Set<String> missingSkills,
-            Set<String> extraSkills,
-            List<String> suggestions) {
+    public AnalysisResult(double score, MatchResult matchResult, List<String> suggestions, long dictionaryVersion,
+            Map<String, String> fuzzyMatches, ScoringTrace scoringTrace) {
         this.score = score;
-        this.matchedSkills = matchedSkills;
-        this.missingSkills = missingSkills;
-        this.extraSkills = extraSkills;
+        this.matchResult = matchResult;
         this.suggestions = suggestions;
+        this.dictionaryVersion = dictionaryVersion;
+        this.fuzzyMatches = fuzzyMatches;
+        this.scoringTrace = scoringTrace;
     }
 
     public double getScore() {
         return score;
     }
 
+    @JsonIgnore
+    public MatchResult getMatchResult() {
+        return matchResult;
+    }
+
     public Set<String> getMatchedSkills() {
-        return matchedSkills;
+        return matchResult.getMatchedSkills();
     }
 
     public Set<String> getMissingSkills() {
-        return missingSkills;
+        return matchResult.getMissingSkills();
     }
 
     public Set<String> getExtraSkills() {
-        return extraSkills;
+        return matchResult.getExtraSkills();
+    }
+
+    /**
+     * Missing skills partially covered by a more specific resume skill.
+     */
+    public Set<String> getPartialSkills() {
+        return matchResult.getPartialSkills();
+    }
+
+    /**
+     * Resume skills recognized only through a misspelling (fuzzy mode):
+     * skill → spelling found in the resume.
+     */
+    public Map<String, String> getFuzzyMatches() {
+        return fuzzyMatches;
     }
 
     public List<String> getSuggestions() {
         return suggestions;
     }
+
+    /**
+     * Version of the skill dictionary snapshot the analysis ran against.
+     */
+    public long getDictionaryVersion() {
+        return dictionaryVersion;
+    }
+
+    /**
+     * How the score was computed; only present for ?explain=true.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public ScoringTrace getScoringTrace() {
+        return scoringTrace;
+    }
 }
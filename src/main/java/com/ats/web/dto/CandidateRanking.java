@@ -0,0 +1,73 @@
+package com.ats.web.dto;
+
+import com.ats.analyzer.catalog.CandidatePool;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * API response for ranking the candidate pool against one JD.
+ */
+public class CandidateRanking {
+
+    private final CandidatePool.Ranking ranking;
+
+    public CandidateRanking(CandidatePool.Ranking ranking) {
+        this.ranking = ranking;
+    }
+
+    public int getPoolSize() {
+        return ranking.getPoolSize();
+    }
+
+    /**
+     * Candidates the ranking visited; those holding only low-impact skills
+     * are skipped once the top k are out of their reach.
+     */
+    public int getConsidered() {
+        return ranking.getConsidered();
+    }
+
+    /**
+     * Scores (and score bounds) computed for visited candidates.
+     */
+    public int getScored() {
+        return ranking.getScored();
+    }
+
+    public List<CandidateMatch> getMatches() {
+        return ranking.getMatches().stream().map(CandidateMatch::new).toList();
+    }
+
+    /**
+     * One ranked candidate.
+     */
+    public static class CandidateMatch {
+
+        private final CandidatePool.Match match;
+
+        CandidateMatch(CandidatePool.Match match) {
+            this.match = match;
+        }
+
+        public String getId() {
+            return match.getCandidate().getId();
+        }
+
+        public double getScore() {
+            return match.getScore();
+        }
+
+        public Set<String> getMatchedSkills() {
+            return match.getMatchResult().getMatchedSkills();
+        }
+
+        public Set<String> getMissingSkills() {
+            return match.getMatchResult().getMissingSkills();
+        }
+
+        public Set<String> getPartialSkills() {
+            return match.getMatchResult().getPartialSkills();
+        }
+    }
+}
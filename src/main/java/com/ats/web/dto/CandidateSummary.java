@@ -0,0 +1,30 @@
+package com.ats.web.dto;
+
+import com.ats.analyzer.catalog.CandidatePool;
+import com.ats.analyzer.model.ResumeProfile;
+
+import java.util.Set;
+
+/**
+ * A pooled candidate as analyzed on upload.
+ */
+public class CandidateSummary {
+
+    private final CandidatePool.Candidate candidate;
+
+    public CandidateSummary(CandidatePool.Candidate candidate) {
+        this.candidate = candidate;
+    }
+
+    public String getId() {
+        return candidate.getId();
+    }
+
+    public ResumeProfile getProfile() {
+        return candidate.getProfile();
+    }
+
+    public Set<String> getSkills() {
+        return candidate.getSnapshot().getSkills().toNames(candidate.getSkills());
+    }
+}
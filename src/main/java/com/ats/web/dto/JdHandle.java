@@ -0,0 +1,47 @@
+package com.ats.web.dto;
+
+import com.ats.analyzer.context.JobAnalysis;
+import com.ats.analyzer.model.RoleIntent;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.Set;
+
+/**
+ * A registered job description: the handle to send as jd= instead of the
+ * text, and what the JD was analyzed to.
+ */
+public class JdHandle {
+
+    private final String handle;
+    private final JobAnalysis analysis;
+
+    public JdHandle(String handle, JobAnalysis analysis) {
+        this.handle = handle;
+        this.analysis = analysis;
+    }
+
+    public String getHandle() {
+        return handle;
+    }
+
+    public RoleIntent getRoleIntent() {
+        return analysis.getRoleIntent();
+    }
+
+    public boolean isDesignRole() {
+        return analysis.isDesignRole();
+    }
+
+    public Set<String> getSkills() {
+        return analysis.getSnapshot().getSkills().toNames(analysis.getSkills());
+    }
+
+    public long getDictionaryVersion() {
+        return analysis.getSnapshot().getVersion();
+    }
+
+    @JsonIgnore
+    public JobAnalysis getAnalysis() {
+        return analysis;
+    }
+}
@@ -0,0 +1,35 @@
+package com.ats.web.dto;
+
+/**
+ * Request body for adding a job to the catalog.
+ */
+public class JobPosting {
+
+    private String id;
+    private String title;
+    private String description;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+}
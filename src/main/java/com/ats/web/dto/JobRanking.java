@@ -0,0 +1,69 @@
+package com.ats.web.dto;
+
+import com.ats.analyzer.catalog.JobCatalog;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * API response for ranking the job catalog against one resume.
+ */
+public class JobRanking {
+
+    private final JobCatalog.Ranking ranking;
+
+    public JobRanking(JobCatalog.Ranking ranking) {
+        this.ranking = ranking;
+    }
+
+    public int getCatalogSize() {
+        return ranking.getCatalogSize();
+    }
+
+    /**
+     * JDs sharing at least one skill with the resume (the only ones scored).
+     */
+    public int getScored() {
+        return ranking.getScored();
+    }
+
+    public List<JobMatch> getMatches() {
+        return ranking.getMatches().stream().map(JobMatch::new).toList();
+    }
+
+    /**
+     * One ranked job.
+     */
+    public static class JobMatch {
+
+        private final JobCatalog.Match match;
+
+        JobMatch(JobCatalog.Match match) {
+            this.match = match;
+        }
+
+        public String getId() {
+            return match.getJob().getId();
+        }
+
+        public String getTitle() {
+            return match.getJob().getTitle();
+        }
+
+        public double getScore() {
+            return match.getScore();
+        }
+
+        public Set<String> getMatchedSkills() {
+            return match.getMatchResult().getMatchedSkills();
+        }
+
+        public Set<String> getMissingSkills() {
+            return match.getMatchResult().getMissingSkills();
+        }
+
+        public Set<String> getPartialSkills() {
+            return match.getMatchResult().getPartialSkills();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.ats.web.dto;
+
+import com.ats.analyzer.catalog.JobCatalog;
+import com.ats.analyzer.context.JobAnalysis;
+import com.ats.analyzer.model.RoleIntent;
+
+import java.util.Set;
+
+/**
+ * A catalog job as analyzed on upload.
+ */
+public class JobSummary {
+
+    private final JobCatalog.Job job;
+
+    public JobSummary(JobCatalog.Job job) {
+        this.job = job;
+    }
+
+    public String getId() {
+        return job.getId();
+    }
+
+    public String getTitle() {
+        return job.getTitle();
+    }
+
+    public RoleIntent getRoleIntent() {
+        return job.getAnalysis().getRoleIntent();
+    }
+
+    public boolean isDesignRole() {
+        return job.getAnalysis().isDesignRole();
+    }
+
+    public Set<String> getSkills() {
+        JobAnalysis analysis = job.getAnalysis();
+        return analysis.getSnapshot().getSkills().toNames(analysis.getSkills());
+    }
+}
@@ -0,0 +1,56 @@
+package com.ats.web.dto;
+
+import com.ats.analyzer.scorer.ScoreSimulator;
+
+import java.util.List;
+
+/**
+ * API response for a what-if analysis: the current score and the missing
+ * skills that would raise it most.
+ */
+public class WhatIfResult {
+
+    private final double score;
+    private final int missingCount;
+    private final List<ScoreSimulator.SkillGain> gains;
+    private final long dictionaryVersion;
+    private final long modelVersion;
+
+    public WhatIfResult(double score, int missingCount, List<ScoreSimulator.SkillGain> gains,
+            long dictionaryVersion, long modelVersion) {
+        this.score = score;
+        this.missingCount = missingCount;
+        this.gains = gains;
+        this.dictionaryVersion = dictionaryVersion;
+        this.modelVersion = modelVersion;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    /**
+     * Missing JD skills simulated (gains holds the best of them).
+     */
+    public int getMissingCount() {
+        return missingCount;
+    }
+
+    /**
+     * Best first.
+     */
+    public List<ScoreSimulator.SkillGain> getGains() {
+        return gains;
+    }
+
+    public long getDictionaryVersion() {
+        return dictionaryVersion;
+    }
+
+    /**
+     * Version of the scoring model the scores were computed with.
+     */
+    public long getModelVersion() {
+        return modelVersion;
+    }
+}
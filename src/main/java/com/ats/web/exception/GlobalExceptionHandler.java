@@ -1,5 +1,8 @@
 package com.ats.web.exception;
 
+import com.ats.analyzer.bulkhead.BulkheadFullException;
+import com.ats.analyzer.service.QueueFullException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MissingServletRequestParameterException;
@@ -10,6 +13,7 @@ import org.springframework.web.multipart.support.MissingServletRequestPartExcept
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 /**
  * Global exception handler for clean, consistent error responses.
@@ -25,7 +29,10 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(MaxUploadSizeExceededException.class)
     public ResponseEntity<Map<String, String>> handleMaxUploadSize(MaxUploadSizeExceededException ex) {
-        return buildError("File Too Large", "Maximum file size is 5MB. Please upload a smaller file.", "413",
+        // Resume limit (analyzer.upload.max-resume-size) or the container's
+        long max = ex.getMaxUploadSize();
+        String limit = max > 0 ? "Maximum file size is " + (max >> 20) + "MB." : "The upload is too large.";
+        return buildError("File Too Large", limit + " Please upload a smaller file.", "413",
                 HttpStatus.PAYLOAD_TOO_LARGE);
     }
 
@@ -46,6 +53,26 @@ public class GlobalExceptionHandler {
         return buildError("Unsupported File Format", ex.getMessage(), "415", HttpStatus.UNSUPPORTED_MEDIA_TYPE);
     }
 
+    @ExceptionHandler(NoSuchElementException.class)
+    public ResponseEntity<Map<String, String>> handleNoSuchElement(NoSuchElementException ex) {
+        return buildError("Not Found", ex.getMessage(), "404", HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(QueueFullException.class)
+    public ResponseEntity<Map<String, String>> handleQueueFull(QueueFullException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(buildError("Too Many Requests", ex.getMessage(), "429", HttpStatus.TOO_MANY_REQUESTS)
+                        .getBody());
+    }
+
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<Map<String, String>> handleBulkheadFull(BulkheadFullException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(buildError("Server Busy", ex.getMessage(), "503", HttpStatus.SERVICE_UNAVAILABLE).getBody());
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<Map<String, String>> handleRuntimeException(RuntimeException ex) {
         return buildError("Processing Error", "An error occurred while processing your request: " + ex.getMessage(),
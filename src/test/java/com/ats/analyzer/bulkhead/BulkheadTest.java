@@ -0,0 +1,122 @@
+package com.ats.analyzer.bulkhead;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for the lane limit, queue and wait bound.
+ */
+@DisplayName("Bulkhead Unit Tests")
+class BulkheadTest {
+
+    @Test
+    @DisplayName("Permits up to the limit should be granted at once and released on release")
+    void testAcquire_WithinLimit_Granted() {
+        Bulkhead lane = new Bulkhead("test", 2, 0, 0);
+
+        Bulkhead.Permit first = lane.acquire();
+        Bulkhead.Permit second = lane.acquire();
+        assertThat(lane.active()).isEqualTo(2);
+        assertThat(lane.stats()).containsEntry("saturation", 100);
+
+        first.release();
+        first.release();
+        assertThat(lane.active()).isEqualTo(1);
+        second.release();
+        assertThat(lane.stats()).containsEntry("admitted", 2L).containsEntry("peakActive", 2L);
+    }
+
+    @Test
+    @DisplayName("A full lane should refuse at once when the queue is full")
+    void testAcquire_QueueFull_Rejected() {
+        Bulkhead lane = new Bulkhead("extract", 1, 0, TimeUnit.SECONDS.toNanos(5));
+
+        Bulkhead.Permit held = lane.acquire();
+        try {
+            assertThatThrownBy(lane::acquire)
+                    .isInstanceOfSatisfying(BulkheadFullException.class, e -> {
+                        assertThat(e.getLane()).isEqualTo("extract");
+                        assertThat(e.getRetryAfterSeconds()).isGreaterThanOrEqualTo(1);
+                    })
+                    .hasMessageContaining("extract lane is full");
+        } finally {
+            held.release();
+        }
+        assertThat(lane.stats()).containsEntry("rejected", 1L).containsEntry("admitted", 1L);
+    }
+
+    @Test
+    @DisplayName("Queued callers should get the next permit, or give up after the maximum wait")
+    void testAcquire_Queued_WaitsThenTimesOut() throws Exception {
+        Bulkhead lane = new Bulkhead("score", 1, 1, TimeUnit.SECONDS.toNanos(5));
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Bulkhead.Permit held = lane.acquire();
+            CountDownLatch waiting = new CountDownLatch(1);
+            Future<?> queued = pool.submit(() -> {
+                waiting.countDown();
+                lane.acquire().release();
+            });
+            waiting.await();
+            while (lane.queued() == 0) {
+                Thread.sleep(1);
+            }
+            assertThatThrownBy(lane::acquire).isInstanceOf(BulkheadFullException.class);
+
+            held.release();
+            queued.get(5, TimeUnit.SECONDS);
+            assertThat(lane.stats()).containsEntry("admitted", 2L).containsEntry("peakQueued", 1L)
+                    .containsEntry("queued", 0);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        Bulkhead impatient = new Bulkhead("control", 1, 1, TimeUnit.MILLISECONDS.toNanos(20));
+        Bulkhead.Permit impatientHeld = impatient.acquire();
+        try {
+            assertThatThrownBy(impatient::acquire).hasMessageContaining("timed out");
+        } finally {
+            impatientHeld.release();
+        }
+        assertThat(impatient.stats()).containsEntry("timedOut", 1L).containsEntry("queued", 0);
+    }
+
+    @Test
+    @DisplayName("Background callers should wait past the queue limit and maximum wait instead of being refused")
+    void testAcquireBackground_FullLane_WaitsForPermit() throws Exception {
+        Bulkhead lane = new Bulkhead("extract", 1, 0, TimeUnit.MILLISECONDS.toNanos(20));
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Bulkhead.Permit held = lane.acquire();
+            Future<?> background = pool.submit(() -> lane.acquireBackground().release());
+            while (lane.queuedBackground() == 0) {
+                Thread.sleep(1);
+            }
+            assertThatThrownBy(lane::acquire).hasMessageContaining("extract lane is full");
+
+            Thread.sleep(100);
+            assertThat(background.isDone()).isFalse();
+            held.release();
+            background.get(5, TimeUnit.SECONDS);
+            assertThat(lane.stats()).containsEntry("admitted", 2L).containsEntry("rejected", 1L)
+                    .containsEntry("timedOut", 0L).containsEntry("queuedBackground", 0);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Invalid limits should be rejected")
+    void testConstructor_InvalidLimits_Throws() {
+        assertThatThrownBy(() -> new Bulkhead("x", 0, 1, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new Bulkhead("x", 1, -1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,75 @@
+package com.ats.analyzer.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for WeightedCache eviction, expiry and counters.
+ */
+@DisplayName("Weighted Cache Unit Tests")
+class WeightedCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private WeightedCache<String, String> cache(long maxWeight, long ttl) {
+        return new WeightedCache<>(maxWeight, ttl, String::length, clock::get);
+    }
+
+    @Test
+    @DisplayName("Least recently used entries should be evicted to stay within the weight budget")
+    void testPut_OverBudget_EvictsLeastRecentlyUsed() {
+        WeightedCache<String, String> cache = cache(10, 0);
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+        cache.get("a");
+        cache.put("c", "cccc");
+
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("a")).isEqualTo("aaaa");
+        assertThat(cache.get("c")).isEqualTo("cccc");
+        assertThat(cache.weight()).isEqualTo(8);
+        assertThat(cache.stats()).containsEntry("evictions", 1L).containsEntry("hits", 3L)
+                .containsEntry("misses", 1L);
+    }
+
+    @Test
+    @DisplayName("Entries heavier than the whole budget should not be stored")
+    void testPut_HeavierThanBudget_NotStored() {
+        WeightedCache<String, String> cache = cache(10, 0);
+        cache.put("a", "aaaa");
+        cache.put("big", "x".repeat(11));
+
+        assertThat(cache.get("big")).isNull();
+        assertThat(cache.get("a")).isEqualTo("aaaa");
+    }
+
+    @Test
+    @DisplayName("Entries should expire after the TTL")
+    void testGet_AfterTtl_Expired() {
+        WeightedCache<String, String> cache = cache(100, 1000);
+        cache.put("a", "aaaa");
+        clock.addAndGet(999);
+        assertThat(cache.get("a")).isEqualTo("aaaa");
+
+        clock.addAndGet(1);
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.weight()).isZero();
+        assertThat(cache.stats()).containsEntry("expirations", 1L).containsEntry("evictions", 0L);
+    }
+
+    @Test
+    @DisplayName("Replacing a key should reweigh it")
+    void testPut_SameKey_Reweighed() {
+        WeightedCache<String, String> cache = cache(100, 0);
+        cache.put("a", "aaaa");
+        cache.put("a", "aa");
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.weight()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,163 @@
+package com.ats.analyzer.catalog;
+
+import com.ats.TestConstants;
+import com.ats.analyzer.context.AnalysisContext;
+import com.ats.analyzer.dictionary.DictionaryRegistry;
+import com.ats.analyzer.dictionary.DictionarySnapshot;
+import com.ats.analyzer.extractor.SkillTokenizer;
+import com.ats.analyzer.logic.ResumeProfileDetector;
+import com.ats.analyzer.logic.RoleIntentDetector;
+import com.ats.analyzer.matcher.MatchResult;
+import com.ats.analyzer.matcher.SkillMatcher;
+import com.ats.analyzer.scorer.MatchScorer;
+import com.ats.analyzer.scorer.ScoreRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for CandidatePool - bound-pruned top-k candidate retrieval.
+ */
+@DisplayName("Candidate Pool Unit Tests")
+class CandidatePoolTest {
+
+    private static final String[] VOCABULARY = {
+            "Java", "Spring Boot", "Spring", "Python", "Django", "Pandas", "React", "TypeScript", "SQL",
+            "Docker", "Kubernetes", "AWS", "Git", "JUnit", "Figma", "Excel", "Salesforce", "Communication"
+    };
+
+    @Test
+    @DisplayName("Top-k should equal brute-force scoring of every candidate")
+    void testTopCandidates_MatchesBruteForce() {
+        CandidatePool pool = new CandidatePool();
+        List<String> resumes = randomResumes(500, new Random(3));
+        for (int i = 0; i < resumes.size(); i++) {
+            pool.put("c" + i, resumes.get(i));
+        }
+        String jd = TestConstants.SAMPLE_JD_BACKEND + " Python, Django and unit testing.";
+
+        for (double credit : new double[] { 0.0, 0.5 }) {
+            CandidatePool.Ranking ranking = pool.topCandidates(jd, 10, credit);
+            List<double[]> expected = bruteForce(resumes, jd, credit);
+
+            assertThat(ranking.getMatches()).hasSize(10);
+            for (int rank = 0; rank < 10; rank++) {
+                CandidatePool.Match match = ranking.getMatches().get(rank);
+                assertThat(match.getScore()).as("credit %s rank %d", credit, rank).isEqualTo(expected.get(rank)[0]);
+                assertThat(match.getCandidate().getId()).isEqualTo("c" + (int) expected.get(rank)[1]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should skip candidates sharing no skill and never visit most of the rest")
+    void testTopCandidates_PrunesCandidates() {
+        CandidatePool pool = new CandidatePool();
+        pool.put("designer", "Product designer: Figma, wireframing, user research");
+        List<String> resumes = randomResumes(2000, new Random(5));
+        for (int i = 0; i < resumes.size(); i++) {
+            pool.put("c" + i, resumes.get(i));
+        }
+        String jd = "Backend engineer: Java, Spring, SQL";
+
+        CandidatePool.Ranking ranking = pool.topCandidates(jd, 5, 0.5);
+        int sharing = bruteForce(resumes, jd, 0.5).size();
+
+        assertThat(ranking.getPoolSize()).isEqualTo(2001);
+        assertThat(ranking.getConsidered()).isLessThan(sharing / 2);
+        assertThat(ranking.getScored()).isLessThan(sharing / 2);
+        assertThat(ranking.getMatches()).extracting(match -> match.getCandidate().getId())
+                .doesNotContain("designer");
+    }
+
+    @Test
+    @DisplayName("Top-k should stay exact after removals compact the pool")
+    void testRemove_CompactsPool_KeepsRanking() {
+        CandidatePool pool = new CandidatePool();
+        List<String> resumes = randomResumes(400, new Random(7));
+        List<String> kept = new ArrayList<>();
+        for (int i = 0; i < resumes.size(); i++) {
+            pool.put("c" + i, resumes.get(i));
+        }
+        for (int i = 0; i < resumes.size(); i++) {
+            if (i % 3 != 0) {
+                pool.remove("c" + i);
+            } else {
+                kept.add(resumes.get(i));
+            }
+        }
+        String jd = TestConstants.SAMPLE_JD_BACKEND;
+
+        CandidatePool.Ranking ranking = pool.topCandidates(jd, 10, 0.5);
+        List<double[]> expected = bruteForce(kept, jd, 0.5);
+
+        assertThat(pool.size()).isEqualTo(kept.size());
+        assertThat(pool.get("c3").getId()).isEqualTo("c3");
+        for (int rank = 0; rank < 10; rank++) {
+            CandidatePool.Match match = ranking.getMatches().get(rank);
+            assertThat(match.getScore()).isEqualTo(expected.get(rank)[0]);
+            assertThat(match.getCandidate().getId()).isEqualTo("c" + 3 * (int) expected.get(rank)[1]);
+        }
+    }
+
+    @Test
+    @DisplayName("Replaced and removed candidates should leave the index")
+    void testPutAndRemove_UpdatesIndex() {
+        CandidatePool pool = new CandidatePool();
+        pool.put("c", "Java and SQL developer");
+        pool.put("c", "Salesforce and negotiation");
+
+        assertThat(pool.size()).isEqualTo(1);
+        assertThat(pool.topCandidates("Java, SQL", 3, 0.5).getConsidered()).isZero();
+
+        assertThat(pool.remove("c")).isTrue();
+        assertThat(pool.get("c")).isNull();
+    }
+
+    private static List<String> randomResumes(int count, Random random) {
+        List<String> resumes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            StringBuilder resume = new StringBuilder(random.nextBoolean() ? "Software engineer. " : "Sales lead. ");
+            for (int s = 0; s < 1 + random.nextInt(7); s++) {
+                resume.append(VOCABULARY[random.nextInt(VOCABULARY.length)]).append(", ");
+            }
+            resumes.add(resume.toString());
+        }
+        return resumes;
+    }
+
+    private static List<double[]> bruteForce(List<String> resumes, String jd, double credit) {
+        DictionarySnapshot snapshot = DictionaryRegistry.current();
+        List<double[]> scores = new ArrayList<>();
+        for (int i = 0; i < resumes.size(); i++) {
+            MatchResult result = SkillMatcher.match(SkillTokenizer.extract(resumes.get(i), snapshot),
+                    SkillTokenizer.extract(jd, snapshot), snapshot.getSkills(), snapshot.getTaxonomy());
+            if (result.getMatchedBits().isEmpty() && result.getPartialBits().isEmpty()
+                    && !hasPartialCandidate(resumes.get(i), jd, snapshot)) {
+                continue;
+            }
+            double score = MatchScorer.calculateScore(ScoreRequest.of(AnalysisContext.of(
+                    RoleIntentDetector.detect(jd), RoleIntentDetector.isDesignRole(jd),
+                    ResumeProfileDetector.detect(resumes.get(i)), result), credit));
+            scores.add(new double[] { score, i });
+        }
+        scores.sort(Comparator.<double[]>comparingDouble(entry -> -entry[0])
+                .thenComparingDouble(entry -> entry[1]));
+        return scores;
+    }
+
+    /**
+     * A resume holding a descendant of a JD skill is considered even if the
+     * JD also lists that descendant.
+     */
+    private static boolean hasPartialCandidate(String resume, String jd, DictionarySnapshot snapshot) {
+        return !snapshot.getTaxonomy().impliedBy(SkillTokenizer.extract(resume, snapshot), snapshot.getSkills())
+                .and(SkillTokenizer.extract(jd, snapshot)).isEmpty();
+    }
+}
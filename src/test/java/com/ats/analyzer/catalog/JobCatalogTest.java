@@ -0,0 +1,133 @@
+package com.ats.analyzer.catalog;
+
+import com.ats.TestConstants;
+import com.ats.analyzer.context.AnalysisContext;
+import com.ats.analyzer.dictionary.DictionaryRegistry;
+import com.ats.analyzer.dictionary.DictionarySnapshot;
+import com.ats.analyzer.extractor.SkillTokenizer;
+import com.ats.analyzer.logic.ResumeProfileDetector;
+import com.ats.analyzer.logic.RoleIntentDetector;
+import com.ats.analyzer.matcher.MatchResult;
+import com.ats.analyzer.matcher.SkillMatcher;
+import com.ats.analyzer.model.ResumeProfile;
+import com.ats.analyzer.scorer.MatchScorer;
+import com.ats.analyzer.scorer.ScoreRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for JobCatalog - inverted index and bounded top-k ranking.
+ */
+@DisplayName("Job Catalog Unit Tests")
+class JobCatalogTest {
+
+    private static final String[] VOCABULARY = {
+            "Java", "Spring Boot", "Python", "Django", "React", "TypeScript", "SQL", "Docker",
+            "Kubernetes", "AWS", "Figma", "Excel", "Salesforce", "SEO", "Git", "Pandas"
+    };
+
+    @Test
+    @DisplayName("Should only score JDs that share a skill with the resume")
+    void testTopMatches_DisjointJobs_NotScored() {
+        JobCatalog catalog = new JobCatalog();
+        catalog.put("backend", "Backend", TestConstants.SAMPLE_JD_BACKEND);
+        catalog.put("sales", "Sales", "Sales role: Salesforce, CRM and negotiation");
+        catalog.put("design", "Design", "UI/UX designer with Figma and wireframing");
+
+        JobCatalog.Ranking ranking = catalog.topMatches("Java, Spring Boot, SQL and Docker",
+                ResumeProfile.TECHNICAL, 10, 0.5);
+
+        assertThat(ranking.getCatalogSize()).isEqualTo(3);
+        assertThat(ranking.getScored()).isEqualTo(1);
+        assertThat(ranking.getMatches()).extracting(match -> match.getJob().getId()).containsExactly("backend");
+    }
+
+    @Test
+    @DisplayName("Top-k should equal brute-force ranking of the whole catalog")
+    void testTopMatches_MatchesBruteForce() {
+        JobCatalog catalog = new JobCatalog();
+        List<String> descriptions = new ArrayList<>();
+        Random random = new Random(11);
+        for (int i = 0; i < 300; i++) {
+            StringBuilder jd = new StringBuilder("Software engineer, backend developer. Requirements: ");
+            for (int s = 0; s < 2 + random.nextInt(6); s++) {
+                jd.append(VOCABULARY[random.nextInt(VOCABULARY.length)]).append(", ");
+            }
+            descriptions.add(jd.toString());
+            catalog.put("job-" + i, "Job " + i, jd.toString());
+        }
+        String resume = TestConstants.SAMPLE_BACKEND_RESUME;
+        ResumeProfile profile = ResumeProfileDetector.detect(resume);
+
+        JobCatalog.Ranking ranking = catalog.topMatches(resume, profile, 5, 0.5);
+
+        DictionarySnapshot snapshot = DictionaryRegistry.current();
+        List<double[]> expected = new ArrayList<>();
+        for (int i = 0; i < descriptions.size(); i++) {
+            MatchResult result = SkillMatcher.match(SkillTokenizer.extract(resume, snapshot),
+                    SkillTokenizer.extract(descriptions.get(i), snapshot), snapshot.getSkills(),
+                    snapshot.getTaxonomy());
+            double score = MatchScorer.calculateScore(ScoreRequest.of(AnalysisContext.of(
+                    RoleIntentDetector.detect(descriptions.get(i)),
+                    RoleIntentDetector.isDesignRole(descriptions.get(i)), profile, result), 0.5));
+            expected.add(new double[] { score, i });
+        }
+        expected.sort(Comparator.<double[]>comparingDouble(entry -> -entry[0])
+                .thenComparingDouble(entry -> entry[1]));
+
+        assertThat(ranking.getMatches()).hasSize(5);
+        for (int rank = 0; rank < 5; rank++) {
+            assertThat(ranking.getMatches().get(rank).getScore()).isEqualTo(expected.get(rank)[0]);
+            assertThat(ranking.getMatches().get(rank).getJob().getId())
+                    .isEqualTo("job-" + (int) expected.get(rank)[1]);
+        }
+    }
+
+    @Test
+    @DisplayName("Replaced and removed jobs should leave the index")
+    void testPutAndRemove_UpdatesIndex() {
+        JobCatalog catalog = new JobCatalog();
+        catalog.put("job", "Job", "Python and Django developer");
+        catalog.put("job", "Job", "Salesforce and CRM");
+
+        assertThat(catalog.size()).isEqualTo(1);
+        assertThat(catalog.topMatches("Python, Django", ResumeProfile.TECHNICAL, 3, 0.5).getScored())
+                .isZero();
+
+        assertThat(catalog.remove("job")).isTrue();
+        assertThat(catalog.remove("job")).isFalse();
+        assertThat(catalog.topMatches("Salesforce", ResumeProfile.NON_TECH, 3, 0.5).getMatches()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("A job added into a freed slot should still rank after earlier jobs on ties")
+    void testPut_ReusesRemovedSlot_KeepsInsertionOrderOnTies() {
+        JobCatalog catalog = new JobCatalog();
+        catalog.put("first", "First", "Kotlin and Gradle developer");
+        catalog.put("second", "Second", "Kotlin and Gradle developer");
+        catalog.remove("first");
+        catalog.put("third", "Third", "Kotlin and Gradle developer");
+
+        JobCatalog.Ranking ranking = catalog.topMatches("Kotlin, Gradle", ResumeProfile.TECHNICAL, 3, 0.5);
+
+        assertThat(catalog.size()).isEqualTo(2);
+        assertThat(catalog.get("first")).isNull();
+        assertThat(ranking.getScored()).isEqualTo(2);
+        assertThat(ranking.getMatches()).extracting(match -> match.getJob().getId())
+                .containsExactly("second", "third");
+    }
+
+    @Test
+    @DisplayName("Should reject k below one")
+    void testTopMatches_InvalidK_Throws() {
+        assertThatThrownBy(() -> new JobCatalog().topMatches("Java", ResumeProfile.TECHNICAL, 0, 0.5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
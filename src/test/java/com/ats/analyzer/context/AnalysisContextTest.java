@@ -0,0 +1,90 @@
+package com.ats.analyzer.context;
+
+import com.ats.TestConstants;
+import com.ats.analyzer.dictionary.DictionaryRegistry;
+import com.ats.analyzer.dictionary.DictionarySnapshot;
+import com.ats.analyzer.extractor.SkillTokenizer;
+import com.ats.analyzer.logic.ResumeProfileDetector;
+import com.ats.analyzer.logic.RoleIntentDetector;
+import com.ats.analyzer.logic.SkillClassifier;
+import com.ats.analyzer.matcher.MatchResult;
+import com.ats.analyzer.matcher.SkillMatcher;
+import com.ats.analyzer.model.ResumeProfile;
+import com.ats.analyzer.model.RoleIntent;
+import com.ats.analyzer.scorer.MatchScorer;
+import com.ats.analyzer.scorer.ScoreRequest;
+import com.ats.analyzer.scorer.ScoreSimulator;
+import com.ats.analyzer.scorer.ScoringModelRegistry;
+import com.ats.analyzer.suggestion.SuggestionEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for AnalysisContext - per-request facts shared by scorer and
+ * suggestions.
+ */
+@DisplayName("Analysis Context Unit Tests")
+class AnalysisContextTest {
+
+    @Test
+    @DisplayName("Context built from a JobAnalysis should score like the raw-text entry point")
+    void testCalculateScore_JobAnalysisContext_MatchesRawText() {
+        DictionarySnapshot snapshot = DictionaryRegistry.current();
+        JobAnalysis job = JobAnalysis.analyze(TestConstants.SAMPLE_JD_BACKEND, snapshot);
+
+        for (String resume : List.of(TestConstants.SAMPLE_BACKEND_RESUME, TestConstants.SAMPLE_FRONTEND_RESUME,
+                TestConstants.SAMPLE_FULLSTACK_RESUME)) {
+            AnalysisContext context = AnalysisContext.of(job, resume, SkillTokenizer.extract(resume, snapshot));
+            double expected = MatchScorer.calculateScore(ScoreRequest.of(AnalysisContext.of(
+                    TestConstants.SAMPLE_JD_BACKEND, resume, context.getMatchResult()), 0.5));
+
+            assertThat(MatchScorer.calculateScore(ScoreRequest.of(context, 0.5))).isEqualTo(expected);
+            assertThat(context.getRoleIntent()).isEqualTo(RoleIntentDetector.detect(TestConstants.SAMPLE_JD_BACKEND));
+            assertThat(context.getResumeProfile()).isEqualTo(ResumeProfileDetector.detect(resume));
+        }
+    }
+
+    @Test
+    @DisplayName("Core partitions should agree with the counts and be computed once")
+    void testCorePartitions_ConsistentAndMemoized() {
+        DictionarySnapshot snapshot = DictionaryRegistry.current();
+        MatchResult match = SkillMatcher.match(
+                SkillTokenizer.extract("Spring Boot, Docker, Git", snapshot),
+                SkillTokenizer.extract("Java, Python, SQL, Git, Docker", snapshot),
+                snapshot.getSkills(), snapshot.getTaxonomy());
+        AnalysisContext context = AnalysisContext.of(TestConstants.SAMPLE_JD_BACKEND,
+                TestConstants.SAMPLE_BACKEND_RESUME, match);
+
+        int matchedCount = context.coreMatchedCount();
+
+        assertThat(context.getCoreMatched().cardinality()).isEqualTo(matchedCount);
+        assertThat(context.getCoreMissing().cardinality()).isEqualTo(context.coreMissingCount());
+        assertThat(context.getCoreMissing()).isSameAs(context.getCoreMissing());
+        assertThat(context.coreMissingCount()).isEqualTo(SkillClassifier.countCore(
+                match.getMissingBits(), context.getRoleIntent(), snapshot.getSkills()));
+    }
+
+    @Test
+    @DisplayName("Suggestions should lead with a missing core skill")
+    void testGenerateSuggestions_PrefersCoreMissingSkill() {
+        DictionarySnapshot snapshot = DictionaryRegistry.current();
+        // "aws" sorts first but is a tool; "java" is core for a TECH_CORE role
+        MatchResult match = SkillMatcher.match(
+                SkillTokenizer.extract("Docker", snapshot),
+                SkillTokenizer.extract("AWS, Java, Docker", snapshot),
+                snapshot.getSkills());
+        AnalysisContext context = AnalysisContext.of(RoleIntent.TECH_CORE, false,
+                ResumeProfile.TECHNICAL, match);
+
+        List<ScoreSimulator.SkillGain> gains = ScoreSimulator.simulate(context, snapshot.getTaxonomy(),
+                MatchScorer.DEFAULT_PARTIAL_CREDIT, ScoringModelRegistry.current(), 1);
+
+        List<String> suggestions = SuggestionEngine.generateSuggestions(context, 40, gains);
+
+        assertThat(suggestions.get(0)).contains("\"java\"");
+    }
+}
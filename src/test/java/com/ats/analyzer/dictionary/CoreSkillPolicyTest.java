@@ -0,0 +1,75 @@
+package com.ats.analyzer.dictionary;
+
+import com.ats.analyzer.model.RoleIntent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for CoreSkillPolicy - per-intent core skill tables.
+ */
+@DisplayName("Core Skill Policy Unit Tests")
+class CoreSkillPolicyTest {
+
+    private static final CoreSkillPolicy POLICY = CoreSkillPolicy.parse(List.of(
+            "# comment",
+            "TECH_CORE = java, sql, docker",
+            "TECH_CORE = python",
+            "TECH_ADJACENT = figma, html, sql",
+            "never = docker",
+            "exclude.TECH_ADJACENT = html"));
+
+    @Test
+    @DisplayName("Listed skills should be core only for their intents")
+    void testIsCore_ListedSkills_PerIntent() {
+        assertThat(POLICY.isCore("java", RoleIntent.TECH_CORE)).isTrue();
+        assertThat(POLICY.isCore("python", RoleIntent.TECH_CORE)).isTrue();
+        assertThat(POLICY.isCore("sql", RoleIntent.TECH_ADJACENT)).isTrue();
+        assertThat(POLICY.isCore("java", RoleIntent.TECH_ADJACENT)).isFalse();
+        assertThat(POLICY.isCore("figma", RoleIntent.NON_TECH)).isFalse();
+        assertThat(POLICY.isCore("Java", RoleIntent.TECH_CORE)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Never-core and excluded skills should not be core")
+    void testIsCore_NeverAndExclude_Removed() {
+        assertThat(POLICY.isCore("docker", RoleIntent.TECH_CORE)).isFalse();
+        assertThat(POLICY.isCore("html", RoleIntent.TECH_ADJACENT)).isFalse();
+        assertThat(POLICY.coreSkills(RoleIntent.TECH_CORE)).containsExactlyInAnyOrder("java", "sql", "python");
+    }
+
+    @Test
+    @DisplayName("Core masks should cover dictionary skills the policy lists")
+    void testCoreMask_Dictionary_MatchesPolicy() {
+        SkillDictionary dictionary = SkillDictionary.of(List.of("java", "docker", "figma", "sql", "excel"));
+
+        assertThat(dictionary.toNames(POLICY.coreMask(dictionary, RoleIntent.TECH_CORE)))
+                .containsExactlyInAnyOrder("java", "sql");
+        assertThat(dictionary.toNames(POLICY.coreMask(dictionary, RoleIntent.TECH_ADJACENT)))
+                .containsExactlyInAnyOrder("figma", "sql");
+        assertThat(POLICY.coreMask(dictionary, RoleIntent.NON_TECH).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Malformed lines and unknown intents should be skipped")
+    void testParse_BadLines_Skipped() {
+        CoreSkillPolicy policy = CoreSkillPolicy.parse(List.of("java", "DESIGN = figma", "NON_TECH = excel"));
+
+        assertThat(policy.isCore("figma", RoleIntent.TECH_ADJACENT)).isFalse();
+        assertThat(policy.isCore("excel", RoleIntent.NON_TECH)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Bundled policy should keep frameworks secondary and fundamentals core")
+    void testBundledPolicy_TechCore() {
+        CoreSkillPolicy policy = DictionaryRegistry.current().getCorePolicy();
+
+        assertThat(policy.isCore("java", RoleIntent.TECH_CORE)).isTrue();
+        assertThat(policy.isCore("spring", RoleIntent.TECH_CORE)).isFalse();
+        assertThat(policy.isCore("figma", RoleIntent.TECH_ADJACENT)).isTrue();
+        assertThat(policy.isCore("css", RoleIntent.TECH_ADJACENT)).isFalse();
+    }
+}
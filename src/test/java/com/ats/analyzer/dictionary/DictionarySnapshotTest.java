@@ -0,0 +1,80 @@
+package com.ats.analyzer.dictionary;
+
+import com.ats.analyzer.extractor.SkillTokenizer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for DictionarySnapshot loading and swapping.
+ */
+@DisplayName("Dictionary Snapshot Unit Tests")
+class DictionarySnapshotTest {
+
+    @Test
+    @DisplayName("Should load whitelist and synonyms from a directory, falling back to bundled stop words")
+    void testLoadDirectory_OverridesFiles_FallsBackForMissing(@TempDir Path directory) throws IOException {
+        Files.writeString(directory.resolve(DictionaryLoader.SKILLS_FILE), "rust\nzig\nexperience\n");
+        Files.writeString(directory.resolve(DictionaryLoader.SYNONYMS_FILE), "rust = rustlang\n");
+
+        DictionarySnapshot snapshot = DictionaryLoader.loadDirectory(directory, 42);
+        SkillBits skills = SkillTokenizer.extract("Rust, Zig and Java experience", snapshot);
+
+        assertThat(snapshot.getVersion()).isEqualTo(42);
+        assertThat(snapshot.getSource()).isEqualTo(directory.toString());
+        assertThat(snapshot.getSkills().toNames(skills)).containsExactly("rust", "zig");
+        assertThat(snapshot.getStopWords()).contains("experience");
+        assertThat(snapshot.getFuzzyExclusions()).contains("sprint", "scale");
+        assertThat(snapshot.getSynonyms().canonical("rustlang")).isEqualTo("rust");
+    }
+
+    @Test
+    @DisplayName("Should reject a missing dictionary directory")
+    void testLoadDirectory_MissingDirectory_Throws(@TempDir Path directory) {
+        assertThatThrownBy(() -> DictionaryLoader.loadDirectory(directory.resolve("missing"), 1))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("Swapping snapshots should not affect a snapshot already taken")
+    void testInstall_InFlightSnapshot_Unchanged(@TempDir Path directory) throws IOException {
+        Files.writeString(directory.resolve(DictionaryLoader.SKILLS_FILE), "rust\n");
+        DictionarySnapshot inFlight = DictionaryRegistry.current();
+        SkillBits before = SkillTokenizer.extract("Java and Rust", inFlight);
+
+        DictionarySnapshot previous = DictionaryRegistry.install(
+                DictionaryLoader.loadDirectory(directory, DictionaryRegistry.nextVersion()));
+        try {
+            assertThat(previous).isSameAs(inFlight);
+            assertThat(DictionaryRegistry.current().getVersion()).isGreaterThan(inFlight.getVersion());
+            assertThat(SkillTokenizer.extract("Java and Rust")).isNotEqualTo(before);
+            assertThat(SkillTokenizer.extract("Java and Rust", inFlight)).isEqualTo(before);
+        } finally {
+            DictionaryRegistry.install(previous);
+        }
+    }
+
+    @Test
+    @DisplayName("Extending a dictionary should keep ids and reuse one extension for repeated names")
+    void testWithNames_ReusesExtension() {
+        SkillDictionary base = SkillDictionary.of(List.of("java", "python"));
+
+        SkillDictionary extended = base.withNames(Set.of("cobol"));
+
+        assertThat(base.withNames(Set.of("java"))).isSameAs(base);
+        assertThat(extended.idOf("java")).isEqualTo(base.idOf("java"));
+        assertThat(extended.idOf("cobol")).isEqualTo(2);
+        assertThat(base.withNames(Set.of("cobol", "java"))).isSameAs(extended);
+        SkillDictionary grown = base.withNames(Set.of("fortran"));
+        assertThat(grown.idOf("cobol")).isEqualTo(2);
+        assertThat(base.withNames(Set.of("cobol"))).isSameAs(grown);
+    }
+}
@@ -0,0 +1,70 @@
+package com.ats.analyzer.dictionary;
+
+import com.ats.analyzer.extractor.SkillTokenizer;
+import com.ats.analyzer.matcher.MatchResult;
+import com.ats.analyzer.matcher.SkillMatcher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for SkillTaxonomy - precomputed ancestor/descendant closure.
+ */
+@DisplayName("Skill Taxonomy Unit Tests")
+class SkillTaxonomyTest {
+
+    private static final SynonymGraph NO_SYNONYMS = SynonymGraph.parse(List.of());
+
+    @Test
+    @DisplayName("Should close chains transitively in both directions")
+    void testClosure_Chain_AncestorsAndDescendants() {
+        SkillDictionary dictionary = SkillDictionary.of(List.of("java", "spring", "springboot", "python"));
+        SkillTaxonomy taxonomy = SkillTaxonomy.parse(List.of("springboot > spring > java"), NO_SYNONYMS);
+
+        assertThat(dictionary.toNames(taxonomy.ancestors(dictionary.idOf("springboot"), dictionary)))
+                .containsExactly("java", "spring");
+        assertThat(dictionary.toNames(taxonomy.descendants(dictionary.idOf("java"), dictionary)))
+                .containsExactly("spring", "springboot");
+        assertThat(taxonomy.ancestors(dictionary.idOf("python"), dictionary).isEmpty()).isTrue();
+        assertThat(taxonomy.edgeCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should drop an edge that closes a cycle")
+    void testClosure_Cycle_EdgeDropped() {
+        SkillDictionary dictionary = SkillDictionary.of(List.of("a", "b", "c"));
+        SkillTaxonomy taxonomy = SkillTaxonomy.parse(List.of("a > b > c", "c > a"), NO_SYNONYMS);
+
+        assertThat(dictionary.toNames(taxonomy.ancestors(dictionary.idOf("a"), dictionary)))
+                .containsExactly("b", "c");
+        assertThat(taxonomy.ancestors(dictionary.idOf("c"), dictionary).get(dictionary.idOf("c"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should resolve names through synonyms")
+    void testParse_Synonyms_ResolvedToCanonical() {
+        SynonymGraph synonyms = SynonymGraph.parse(List.of("javascript = js, node"));
+        SkillDictionary dictionary = SkillDictionary.of(List.of("express", "javascript"));
+        SkillTaxonomy taxonomy = SkillTaxonomy.parse(List.of("express > node"), synonyms);
+
+        assertThat(dictionary.toNames(taxonomy.ancestors(dictionary.idOf("express"), dictionary)))
+                .containsExactly("javascript");
+    }
+
+    @Test
+    @DisplayName("Bundled taxonomy should give partial matches for framework skills")
+    void testMatch_BundledTaxonomy_PartialMatches() {
+        DictionarySnapshot snapshot = DictionaryRegistry.current();
+        SkillBits resume = SkillTokenizer.extract("Spring Boot, Django and Pandas", snapshot);
+        SkillBits jd = SkillTokenizer.extract("Java, Python and Kubernetes", snapshot);
+
+        MatchResult result = SkillMatcher.match(resume, jd, snapshot.getSkills(), snapshot.getTaxonomy());
+
+        assertThat(result.getMatchedSkills()).isEmpty();
+        assertThat(result.getMissingSkills()).containsExactly("java", "kubernetes", "python");
+        assertThat(result.getPartialSkills()).containsExactly("java", "python");
+    }
+}
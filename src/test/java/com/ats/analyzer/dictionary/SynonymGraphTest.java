@@ -0,0 +1,71 @@
+package com.ats.analyzer.dictionary;
+
+import com.ats.analyzer.model.SkillRelation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for SynonymGraph - union-find closure over synonym groups.
+ */
+@DisplayName("Synonym Graph Unit Tests")
+class SynonymGraphTest {
+
+    @Test
+    @DisplayName("Bundled synonyms should resolve aliases to their canonical form")
+    void testBundledSynonyms_ResolveCanonical() {
+        assertThat(SkillRelation.getCanonical("GitHub")).isEqualTo("git");
+        assertThat(SkillRelation.getCanonical("machine learning")).isEqualTo("ml");
+        assertThat(SkillRelation.getCanonical("ci/cd")).isEqualTo("cicd");
+        assertThat(SkillRelation.getCanonical("docker")).isEqualTo("docker");
+        assertThat(SkillRelation.areRelated("postgres", "MySQL")).isTrue();
+        assertThat(SkillRelation.areRelated("analytics", "analytical")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Overlapping groups should merge under the earliest canonical")
+    void testParse_OverlappingGroups_MergeTransitively() {
+        SynonymGraph graph = SynonymGraph.parse(List.of(
+                "# comment",
+                "git = github",
+                "github = gh",
+                "gh = gitlab"));
+
+        assertThat(graph.canonical("gitlab")).isEqualTo("git");
+        assertThat(graph.canonical("gh")).isEqualTo("git");
+        assertThat(graph.related("github", "gitlab")).isTrue();
+        assertThat(graph.canonical("unknown")).isEqualTo("unknown");
+    }
+
+    @Test
+    @DisplayName("Exclusion rules should keep the two sides apart")
+    void testParse_Exclusion_BlocksMerge() {
+        SynonymGraph graph = SynonymGraph.parse(List.of(
+                "! analytics, web-analytics | analytical, critical-thinking",
+                "analytics = web-analytics, insight",
+                "analytical = critical-thinking, insight"));
+
+        assertThat(graph.canonical("web-analytics")).isEqualTo("analytics");
+        assertThat(graph.canonical("critical-thinking")).isEqualTo("analytical");
+        assertThat(graph.related("analytics", "analytical")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should close 10k overlapping groups into one component")
+    void testParse_LargeChain_ClosesTransitively() {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            lines.add("skill" + i + " = skill" + (i + 1) + ", alias" + i);
+        }
+
+        SynonymGraph graph = SynonymGraph.parse(lines);
+
+        assertThat(graph.size()).isEqualTo(20_001);
+        assertThat(graph.canonical("skill10000")).isEqualTo("skill0");
+        assertThat(graph.canonical("alias9999")).isEqualTo("skill0");
+    }
+}
@@ -0,0 +1,66 @@
+package com.ats.analyzer.domain;
+
+import com.ats.TestConstants;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for DomainClassifier vectors and DomainCompatibility
+ * similarity.
+ */
+@DisplayName("Domain Classifier Unit Tests")
+class DomainClassifierTest {
+
+    @Test
+    @DisplayName("Vector should weight each domain by whole-word keyword hits")
+    void testVectorize_KeywordHits_WeightedPerDomain() {
+        DomainVector vector = DomainClassifier.vectorize("Docker, Kubernetes and AWS. Maintain email campaigns.");
+
+        assertThat(vector.get(Domain.DEVOPS)).isEqualTo(3.0f);
+        assertThat(vector.get(Domain.AI_DATA)).isZero(); // "ai" inside maintain/email
+        assertThat(vector.primary()).isEqualTo(Domain.DEVOPS);
+    }
+
+    @Test
+    @DisplayName("Repeated keywords should count sublinearly")
+    void testVectorize_RepeatedKeyword_Sublinear() {
+        DomainVector once = DomainClassifier.vectorize("docker");
+        DomainVector thrice = DomainClassifier.vectorize("docker docker docker");
+
+        assertThat(thrice.get(Domain.DEVOPS)).isGreaterThan(once.get(Domain.DEVOPS)).isLessThan(3.0f);
+    }
+
+    @Test
+    @DisplayName("Similarity should be high within a domain and low across domains")
+    void testSimilarity_SameVsCrossDomain() {
+        DomainVector frontendResume = DomainClassifier.vectorize(TestConstants.SAMPLE_FRONTEND_RESUME);
+
+        double same = DomainCompatibility.similarity(frontendResume,
+                DomainClassifier.vectorize(TestConstants.SAMPLE_JD_FRONTEND));
+        double cross = DomainCompatibility.similarity(frontendResume,
+                DomainClassifier.vectorize(TestConstants.SAMPLE_JD_DEVOPS));
+
+        assertThat(same).isGreaterThan(0.9);
+        assertThat(cross).isLessThan(0.5);
+    }
+
+    @Test
+    @DisplayName("A document without domain keywords should be neutral")
+    void testSimilarity_EmptyVector_Neutral() {
+        DomainVector empty = DomainClassifier.vectorize("Cooking, gardening");
+
+        assertThat(empty.isEmpty()).isTrue();
+        assertThat(empty.primary()).isEqualTo(Domain.GENERAL);
+        assertThat(DomainCompatibility.similarity(empty, DomainClassifier.vectorize("docker"))).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Factor should run linearly from the floor to 1.0")
+    void testFactor_Similarity_LinearFromFloor() {
+        assertThat(DomainCompatibility.factor(0.0, 0.25)).isEqualTo(0.25);
+        assertThat(DomainCompatibility.factor(1.0, 0.25)).isEqualTo(1.0);
+        assertThat(DomainCompatibility.factor(0.5, 0.25)).isEqualTo(0.625);
+    }
+}
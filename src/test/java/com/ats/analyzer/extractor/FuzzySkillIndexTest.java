@@ -0,0 +1,77 @@
+package com.ats.analyzer.extractor;
+
+import com.ats.analyzer.dictionary.DictionaryRegistry;
+import com.ats.analyzer.dictionary.DictionarySnapshot;
+import com.ats.analyzer.dictionary.SkillBits;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for FuzzySkillIndex - SymSpell-style typo-tolerant lookup.
+ */
+@DisplayName("Fuzzy Skill Index Unit Tests")
+class FuzzySkillIndexTest {
+
+    private static final FuzzySkillIndex INDEX = FuzzySkillIndex.build(
+            List.of("kubernetes", "python", "javascript", "docker", "java", "ci-cd"),
+            new int[] { 0, 1, 2, 3, 4, 5 }, Set.of("kubernetis"));
+
+    @Test
+    @DisplayName("Should resolve deletions, insertions, substitutions and transpositions")
+    void testLookup_CommonTypos_Resolved() {
+        assertThat(INDEX.lookup("kubernets")).isEqualTo(0);
+        assertThat(INDEX.lookup("kubernetess")).isEqualTo(0);
+        assertThat(INDEX.lookup("kubermetes")).isEqualTo(0);
+        assertThat(INDEX.lookup("pyhton")).isEqualTo(1);
+        assertThat(INDEX.lookup("javscript")).isEqualTo(2);
+        assertThat(INDEX.lookup("javasrcipt")).isEqualTo(2);
+        assertThat(INDEX.lookup("dokcer")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should not report exact spellings, short words or distant words")
+    void testLookup_NonTypos_NotMatched() {
+        assertThat(INDEX.lookup("python")).isEqualTo(-1);
+        assertThat(INDEX.lookup("jaav")).isEqualTo(-1);
+        assertThat(INDEX.lookup("pythonic")).isEqualTo(-1);
+        assertThat(INDEX.lookup("kython")).isEqualTo(-1);
+        assertThat(INDEX.lookup("pytxxn")).isEqualTo(-1);
+        assertThat(INDEX.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should not correct inflections, substitutions in short skills or excluded words")
+    void testLookup_WordsNearSkills_NotMatched() {
+        assertThat(INDEX.lookup("pythons")).isEqualTo(-1);
+        assertThat(INDEX.lookup("dockers")).isEqualTo(-1);
+        assertThat(INDEX.lookup("javascripts")).isEqualTo(-1);
+        assertThat(INDEX.lookup("docked")).isEqualTo(-1);
+        assertThat(INDEX.lookup("pithon")).isEqualTo(-1);
+        assertThat(INDEX.lookup("kubernetis")).isEqualTo(-1);
+        assertThat(INDEX.lookup("kubernetess")).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("Fuzzy extraction should only add skills the exact scan missed")
+    void testExtractFuzzy_MarksMisspelledSkills() {
+        DictionarySnapshot snapshot = DictionaryRegistry.current();
+        String resume = "Skills: Kubernets, Pyhton, javscript, Docker and Python scripting. Ran sprint planning"
+                + " to scale the platform; reacts quickly, swifty delivery, flasks of coffee, mentoring juniors";
+        SkillBits exact = SkillTokenizer.extract(resume, snapshot);
+
+        FuzzyMatches fuzzy = SkillTokenizer.extractFuzzy(resume, snapshot, exact);
+
+        assertThat(snapshot.getSkills().toNames(exact)).contains("docker", "python")
+                .doesNotContain("kubernetes");
+        assertThat(fuzzy.getSpellings()).containsOnlyKeys("kubernetes", "javascript")
+                .containsEntry("kubernetes", "kubernets")
+                .containsEntry("javascript", "javscript");
+        assertThat(fuzzy.getSpellings().values()).doesNotContain("sprint", "scale", "reacts", "swifty", "flasks",
+                "mentoring");
+    }
+}
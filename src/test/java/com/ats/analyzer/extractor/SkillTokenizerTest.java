@@ -0,0 +1,80 @@
+package com.ats.analyzer.extractor;
+
+import com.ats.TestConstants;
+import com.ats.analyzer.parser.TextCleaner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for SkillTokenizer - streaming clean + extract.
+ */
+@DisplayName("Skill Tokenizer Unit Tests")
+class SkillTokenizerTest {
+
+    private static final String[] SAMPLES = {
+            TestConstants.SAMPLE_BACKEND_RESUME,
+            TestConstants.SAMPLE_FRONTEND_RESUME,
+            TestConstants.SAMPLE_FULLSTACK_RESUME,
+            TestConstants.SAMPLE_JD_BACKEND,
+            TestConstants.SAMPLE_JD_DATA,
+            TestConstants.SAMPLE_JD_DESIGN
+    };
+
+    @Test
+    @DisplayName("Raw text should yield the same skills as the clean-then-extract pipeline")
+    void testCollect_RawText_MatchesCleanedPipeline() {
+        for (String sample : SAMPLES) {
+            assertThat(SkillTokenizer.collect(sample))
+                    .isEqualTo(KeywordExtractor.extractSkills(TextCleaner.clean(sample)));
+        }
+    }
+
+    @Test
+    @DisplayName("Reader input should yield the same skills as in-memory input")
+    void testScan_Reader_MatchesCharSequence() throws Exception {
+        for (String sample : SAMPLES) {
+            Set<String> fromReader = new HashSet<>();
+            SkillTokenizer.scan(new StringReader(sample), fromReader::add);
+
+            assertThat(fromReader).isEqualTo(SkillTokenizer.collect(sample));
+        }
+    }
+
+    @Test
+    @DisplayName("Should drop stop words, single letters and non-whitelisted tokens")
+    void testCollect_FiltersNonSkills() {
+        Set<String> skills = SkillTokenizer.collect("Strong Java, C and Python experience; JAVA17 xyzzy");
+
+        assertThat(skills).containsExactlyInAnyOrder("java", "python");
+    }
+
+    @Test
+    @DisplayName("Should recognize hyphenated and multi-word whitelist entries")
+    void testCollect_MultiWordSkills_AreRecognized() {
+        Set<String> skills = SkillTokenizer.collect(
+                "Set up CI/CD, unit testing and prompt engineering for LLM features");
+
+        assertThat(skills).contains("ci-cd", "unit-testing", "testing", "prompt-engineering", "llm");
+    }
+
+    @Test
+    @DisplayName("Automaton should only match on word boundaries and report overlaps")
+    void testAutomaton_WordBoundariesAndOverlaps() {
+        SkillAutomaton automaton = SkillAutomaton.compile(
+                List.of("ai", "machine learning", "learning", "machine-learning"));
+        List<String> found = new ArrayList<>();
+
+        automaton.scan("Maintain MACHINE-learning pipelines; learningx", id -> found.add(automaton.label(id)));
+
+        assertThat(automaton.patternCount()).isEqualTo(3);
+        assertThat(found).containsExactlyInAnyOrder("machine learning", "learning");
+    }
+}
@@ -0,0 +1,173 @@
+package com.ats.analyzer.input;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for PdfTextExtractor memory modes.
+ */
+@DisplayName("PDF Text Extractor Unit Tests")
+class PdfTextExtractorTest {
+
+    private static byte[] pdf;
+    private static byte[] longPdf;
+
+    @BeforeAll
+    static void createPdfs() throws IOException {
+        pdf = createPdf(3);
+        longPdf = createPdf(45);
+    }
+
+    private static byte[] createPdf(int pages) throws IOException {
+        try (PDDocument document = new PDDocument();
+                ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (int page = 1; page <= pages; page++) {
+                PDPage pdPage = new PDPage();
+                document.addPage(pdPage);
+                try (PDPageContentStream content = new PDPageContentStream(document, pdPage)) {
+                    content.beginText();
+                    content.setFont(PDType1Font.HELVETICA, 12);
+                    content.newLineAtOffset(72, 700);
+                    content.showText("Page " + page + ": Java, Spring Boot and Kubernetes");
+                    content.newLineAtOffset(0, -14);
+                    content.showText("Publication " + page + ": Scalable systems");
+                    content.endText();
+                }
+            }
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+
+    @Test
+    @DisplayName("Every memory mode should extract the same text")
+    void testExtract_AllModes_SameText(@TempDir Path tempDir) throws IOException {
+        String expected = PdfTextExtractor.heap().extract(new ByteArrayInputStream(pdf));
+
+        // A budget smaller than the file forces MIXED to page to disk
+        PdfTextExtractor mixed = new PdfTextExtractor(PdfTextExtractor.Mode.MIXED, 1024, tempDir.toFile());
+        PdfTextExtractor tempFile = new PdfTextExtractor(PdfTextExtractor.Mode.TEMP_FILE, -1, tempDir.toFile());
+
+        assertThat(expected).contains("Page 1: Java, Spring Boot and Kubernetes", "Page 3:");
+        assertThat(mixed.extract(new ByteArrayInputStream(pdf))).isEqualTo(expected);
+        assertThat(tempFile.extract(new ByteArrayInputStream(pdf))).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Scratch files should be deleted once the document is closed")
+    void testExtract_TempFileMode_NoScratchFilesLeft(@TempDir Path tempDir) throws IOException {
+        new PdfTextExtractor(PdfTextExtractor.Mode.TEMP_FILE, -1, tempDir.toFile())
+                .extract(new ByteArrayInputStream(pdf));
+
+        try (var files = Files.list(tempDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("File extraction should match stream extraction")
+    void testExtract_File_SameAsStream(@TempDir Path tempDir) throws IOException {
+        File file = tempDir.resolve("resume.pdf").toFile();
+        Files.write(file.toPath(), pdf);
+        PdfTextExtractor extractor = new PdfTextExtractor(PdfTextExtractor.Mode.MIXED, 4096, null);
+
+        assertThat(extractor.extract(file)).isEqualTo(extractor.extract(new ByteArrayInputStream(pdf)));
+    }
+
+    @Test
+    @DisplayName("Mode names should parse leniently and reject unknown names")
+    void testParse_ModeNames() {
+        assertThat(PdfTextExtractor.Mode.parse("heap")).isEqualTo(PdfTextExtractor.Mode.HEAP);
+        assertThat(PdfTextExtractor.Mode.parse(" Mixed ")).isEqualTo(PdfTextExtractor.Mode.MIXED);
+        assertThat(PdfTextExtractor.Mode.parse("temp-file")).isEqualTo(PdfTextExtractor.Mode.TEMP_FILE);
+
+        assertThatThrownBy(() -> PdfTextExtractor.Mode.parse("disk"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("disk");
+    }
+
+    @Test
+    @DisplayName("Mixed mode should require a positive heap budget")
+    void testConstructor_MixedWithoutBudget_Throws() {
+        assertThatThrownBy(() -> new PdfTextExtractor(PdfTextExtractor.Mode.MIXED, 0, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Parallel page-range extraction should join chunks in page order")
+    void testExtract_ParallelChunks_SameAsSequential(@TempDir Path tempDir) throws IOException {
+        String expected = PdfTextExtractor.heap().extract(new ByteArrayInputStream(longPdf));
+
+        for (PdfTextExtractor.Mode mode : PdfTextExtractor.Mode.values()) {
+            try (PdfTextExtractor parallel = new PdfTextExtractor(mode, 4096, tempDir.toFile(), 3, 10, 4)) {
+                assertThat(parallel.extract(new ByteArrayInputStream(longPdf))).as(mode.name()).isEqualTo(expected);
+            }
+        }
+        assertThat(expected.indexOf("Page 9:")).isLessThan(expected.indexOf("Page 10:"));
+        assertThat(expected).contains("Page 45:");
+        try (var files = Files.list(tempDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("A re-readable PDF should be spooled only when it will be split")
+    void testExtract_StreamSource_SpoolsOnlyLongDocuments(@TempDir Path tempDir) throws IOException {
+        AtomicInteger opens = new AtomicInteger();
+
+        try (PdfTextExtractor parallel = new PdfTextExtractor(PdfTextExtractor.Mode.TEMP_FILE, -1,
+                tempDir.toFile(), 3, 10, 4)) {
+            String shortText = parallel.extract(() -> {
+                opens.incrementAndGet();
+                return new ByteArrayInputStream(pdf);
+            });
+            assertThat(opens.getAndSet(0)).isEqualTo(1);
+            assertThat(shortText).isEqualTo(PdfTextExtractor.heap().extract(new ByteArrayInputStream(pdf)));
+
+            String longText = parallel.extract(() -> {
+                opens.incrementAndGet();
+                return new ByteArrayInputStream(longPdf);
+            });
+            assertThat(opens.get()).isEqualTo(2);
+            assertThat(longText).isEqualTo(PdfTextExtractor.heap().extract(new ByteArrayInputStream(longPdf)));
+        }
+        try (var files = Files.list(tempDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Documents below the page threshold should be extracted whole")
+    void testExtract_ShortDocument_SameAsSequential() throws IOException {
+        try (PdfTextExtractor parallel = new PdfTextExtractor(PdfTextExtractor.Mode.HEAP, -1, null, 2, 10, 4)) {
+            assertThat(parallel.isParallel()).isTrue();
+            assertThat(parallel.extract(new ByteArrayInputStream(pdf)))
+                    .isEqualTo(PdfTextExtractor.heap().extract(new ByteArrayInputStream(pdf)));
+        }
+    }
+
+    @Test
+    @DisplayName("Parallel settings should require chunks smaller than the page threshold")
+    void testConstructor_InvalidParallelSettings_Throws() {
+        assertThatThrownBy(() -> new PdfTextExtractor(PdfTextExtractor.Mode.HEAP, -1, null, 2, 8, 8))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PdfTextExtractor(PdfTextExtractor.Mode.HEAP, -1, null, -1, 16, 8))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
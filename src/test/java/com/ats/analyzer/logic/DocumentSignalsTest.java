@@ -0,0 +1,67 @@
+package com.ats.analyzer.logic;
+
+import com.ats.TestConstants;
+import com.ats.analyzer.model.ResumeProfile;
+import com.ats.analyzer.model.RoleIntent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for DocumentSignals - one-pass keyword signal counting shared
+ * by the role intent, design role and resume profile detectors.
+ */
+@DisplayName("Document Signals Unit Tests")
+class DocumentSignalsTest {
+
+    @Test
+    @DisplayName("Keywords should only match whole words")
+    void testScan_WordBoundaries_NoSubstringMatches() {
+        // "ai" in maintain/email, "java" in javascript, "ml" in html, "ui" in build
+        DocumentSignals signals = DocumentSignals.scan("Maintain email; JavaScript and HTML; build guides");
+
+        assertThat(signals.count(SignalGroup.RESUME_TECH)).isEqualTo(1); // javascript
+        assertThat(signals.count(SignalGroup.TECH_CORE)).isZero();
+        assertThat(signals.count(SignalGroup.TECH_ADJACENT)).isZero();
+    }
+
+    @Test
+    @DisplayName("Alternative spellings should count as one signal")
+    void testScan_Variants_CountedOnce() {
+        DocumentSignals signals = DocumentSignals.scan("Project work. Projects: APIs and an API gateway.");
+
+        assertThat(signals.count(SignalGroup.RESUME_TECH)).isEqualTo(2); // project, api
+    }
+
+    @Test
+    @DisplayName("A keyword in several groups should count in each")
+    void testScan_SharedKeyword_CountsInEveryGroup() {
+        DocumentSignals signals = DocumentSignals.scan("Senior UI/UX designer, Figma");
+
+        assertThat(signals.any(SignalGroup.DESIGN_TITLE)).isTrue();
+        assertThat(signals.any(SignalGroup.DESIGN_TOOL)).isTrue();
+        // ui/ux, ui, ux, designer, figma
+        assertThat(signals.count(SignalGroup.TECH_ADJACENT)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Detectors should classify the sample documents from one scan")
+    void testDetectors_SampleDocuments() {
+        DocumentSignals design = DocumentSignals.scan(TestConstants.SAMPLE_JD_DESIGN);
+        DocumentSignals fullstack = DocumentSignals.scan(TestConstants.SAMPLE_JD_FULLSTACK);
+
+        assertThat(RoleIntentDetector.isDesignRole(design)).isTrue();
+        assertThat(RoleIntentDetector.detect(design)).isEqualTo(RoleIntent.TECH_ADJACENT);
+        assertThat(RoleIntentDetector.isDesignRole(fullstack)).isFalse();
+        assertThat(RoleIntentDetector.detect(fullstack)).isEqualTo(RoleIntent.TECH_CORE);
+        assertThat(ResumeProfileDetector.detect(TestConstants.SAMPLE_BACKEND_RESUME))
+                .isEqualTo(ResumeProfile.TECHNICAL);
+    }
+
+    @Test
+    @DisplayName("Null text should produce empty signals")
+    void testScan_Null_Empty() {
+        assertThat(DocumentSignals.scan(null).any(SignalGroup.RESUME_TECH)).isFalse();
+    }
+}
@@ -0,0 +1,80 @@
+package com.ats.analyzer.matcher;
+
+import com.ats.TestConstants;
+import com.ats.analyzer.context.AnalysisContext;
+import com.ats.analyzer.extractor.KeywordExtractor;
+import com.ats.analyzer.extractor.SkillTokenizer;
+import com.ats.analyzer.scorer.MatchScorer;
+import com.ats.analyzer.scorer.ScoreRequest;
+import com.ats.web.dto.AnalysisResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for SkillMatcher - bitset matching over dictionary ids.
+ */
+@DisplayName("Skill Matcher Unit Tests")
+class SkillMatcherTest {
+
+    @Test
+    @DisplayName("Bitset match should agree with the String-set match")
+    void testMatch_Bitsets_AgreeWithStringSets() {
+        String[][] pairs = {
+                { TestConstants.SAMPLE_BACKEND_RESUME, TestConstants.SAMPLE_JD_BACKEND },
+                { TestConstants.SAMPLE_FRONTEND_RESUME, TestConstants.SAMPLE_JD_FULLSTACK },
+                { TestConstants.SAMPLE_FULLSTACK_RESUME, TestConstants.SAMPLE_JD_DEVOPS },
+                { TestConstants.SAMPLE_BACKEND_RESUME, TestConstants.SAMPLE_JD_DESIGN }
+        };
+
+        for (String[] pair : pairs) {
+            MatchResult fromBits = SkillMatcher.match(
+                    SkillTokenizer.extract(pair[0]),
+                    SkillTokenizer.extract(pair[1]),
+                    KeywordExtractor.dictionary());
+            MatchResult fromStrings = SkillMatcher.matchSkills(
+                    SkillTokenizer.collect(pair[0]),
+                    SkillTokenizer.collect(pair[1]));
+
+            assertThat(fromBits.getMatchedSkills()).isEqualTo(fromStrings.getMatchedSkills());
+            assertThat(fromBits.getMissingSkills()).isEqualTo(fromStrings.getMissingSkills());
+            assertThat(fromBits.getExtraSkills()).isEqualTo(fromStrings.getExtraSkills());
+            assertThat(MatchScorer.calculateScore(ScoreRequest.of(AnalysisContext.of(pair[1], pair[0], fromBits),
+                    MatchScorer.DEFAULT_PARTIAL_CREDIT)))
+                    .isEqualTo(MatchScorer.calculateScore(
+                            fromStrings.getMatchedSkills(),
+                            fromStrings.getMissingSkills(),
+                            fromStrings.getExtraSkills(),
+                            pair[1], pair[0]));
+        }
+    }
+
+    @Test
+    @DisplayName("Should resolve synonyms and keep skills outside the whitelist")
+    void testMatchSkills_SynonymsAndUnknownSkills() {
+        MatchResult result = SkillMatcher.matchSkills(
+                Set.of("github", "machine learning", "skill1"),
+                Set.of("git", "ml", "docker"));
+
+        assertThat(result.getMatchedSkills()).containsExactlyInAnyOrder("git", "ml");
+        assertThat(result.getMissingSkills()).containsExactly("docker");
+        assertThat(result.getExtraSkills()).containsExactly("skill1");
+    }
+
+    @Test
+    @DisplayName("A result built from names should report the same names")
+    void testAnalysisResult_FromNames() {
+        AnalysisResult result = new AnalysisResult(55.0, Set.of("java", "sql"), Set.of("kafka"),
+                Set.of("cobol"), List.of("Learn kafka"));
+
+        assertThat(result.getMatchedSkills()).containsExactly("java", "sql");
+        assertThat(result.getMissingSkills()).containsExactly("kafka");
+        assertThat(result.getExtraSkills()).containsExactly("cobol");
+        assertThat(result.getPartialSkills()).isEmpty();
+        assertThat(result.getDictionaryVersion()).isZero();
+    }
+}
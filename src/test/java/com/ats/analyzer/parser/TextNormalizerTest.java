@@ -0,0 +1,116 @@
+package com.ats.analyzer.parser;
+
+import com.ats.TestConstants;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for TextNormalizer - single-pass replacement of the regex chain.
+ * COMPATIBLE mode is checked against a verbatim copy of the legacy cleaner.
+ */
+@DisplayName("Text Normalizer Unit Tests")
+class TextNormalizerTest {
+
+    // ========================================
+    // COMPATIBLE MODE
+    // ========================================
+
+    @Test
+    @DisplayName("Compatible mode should match legacy cleaner on sample documents")
+    void testCompatible_SampleDocuments_MatchLegacy() {
+        String[] samples = {
+                TestConstants.SAMPLE_BACKEND_RESUME,
+                TestConstants.SAMPLE_FRONTEND_RESUME,
+                TestConstants.SAMPLE_FULLSTACK_RESUME,
+                TestConstants.SAMPLE_JD_BACKEND,
+                TestConstants.SAMPLE_JD_DESIGN,
+                TestConstants.SAMPLE_JD_VAGUE,
+                "  C++, C#, Node.js & HTML5 (2019-2023)  ",
+                "\t\n\u000B\f\r",
+                "x"
+        };
+
+        for (String sample : samples) {
+            assertThat(TextCleaner.clean(sample)).isEqualTo(legacyClean(sample));
+        }
+    }
+
+    @Test
+    @DisplayName("Compatible mode should match legacy cleaner for every BMP character")
+    void testCompatible_EveryCharacter_MatchesLegacy() {
+        for (int c = 0; c <= 0xFFFF; c++) {
+            if (Character.isSurrogate((char) c)) {
+                continue;
+            }
+            String sample = "Ab" + (char) c + "Cd " + (char) c;
+            assertThat(TextCleaner.clean(sample))
+                    .as("char U+%04X", c)
+                    .isEqualTo(legacyClean(sample));
+        }
+    }
+
+    @Test
+    @DisplayName("Compatible mode should match legacy cleaner on random input")
+    void testCompatible_RandomInput_MatchesLegacy() {
+        Random random = new Random(42);
+        String alphabet = "abcXYZ09 \t\n.-+#/_İK€é";
+
+        for (int i = 0; i < 2000; i++) {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(40);
+            for (int j = 0; j < length; j++) {
+                sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String sample = sb.toString();
+            assertThat(TextCleaner.clean(sample)).as(sample).isEqualTo(legacyClean(sample));
+        }
+    }
+
+    @Test
+    @DisplayName("Should return empty string for null or blank input")
+    void testClean_NullOrBlank_ReturnsEmpty() {
+        assertThat(TextCleaner.clean(null)).isEmpty();
+        assertThat(TextCleaner.clean("   ")).isEmpty();
+        assertThat(TextNormalizer.normalize(null, TextNormalizer.Mode.COMPATIBLE)).isEmpty();
+    }
+
+    // ========================================
+    // PRESERVE_SYMBOLS MODE
+    // ========================================
+
+    @Test
+    @DisplayName("Preserve mode should keep c++, c# and node.js as single tokens")
+    void testPreserveSymbols_KeepsSymbolTokens() {
+        String normalized = TextNormalizer.normalize(
+                "Skills: C++, C#, Node.js and Vue.js.", TextNormalizer.Mode.PRESERVE_SYMBOLS);
+
+        assertThat(normalized).isEqualTo("skills c++ c# node.js and vue.js");
+    }
+
+    @Test
+    @DisplayName("Preserve mode should still drop free-standing symbols and trailing dots")
+    void testPreserveSymbols_DropsStandaloneSymbols() {
+        String normalized = TextNormalizer.normalize(
+                "Java + Python. # SQL .net end..", TextNormalizer.Mode.PRESERVE_SYMBOLS);
+
+        assertThat(normalized).isEqualTo("java python sql net end");
+    }
+
+    /**
+     * Verbatim copy of the pre-normalizer TextCleaner.clean implementation.
+     */
+    private static String legacyClean(String rawText) {
+        if (rawText == null || rawText.trim().isEmpty()) {
+            return "";
+        }
+        String cleaned = rawText.toLowerCase();
+        cleaned = cleaned.replaceAll("\\d+", " ");
+        cleaned = cleaned.replaceAll("[^a-z\\s]", " ");
+        cleaned = cleaned.replaceAll("\\s+", " ");
+        return cleaned.trim();
+    }
+}
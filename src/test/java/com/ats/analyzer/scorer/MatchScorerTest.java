@@ -1,6 +1,12 @@
 package com.ats.analyzer.scorer;
 
 import com.ats.TestConstants;
+import com.ats.analyzer.context.AnalysisContext;
+import com.ats.analyzer.dictionary.DictionaryRegistry;
+import com.ats.analyzer.dictionary.DictionarySnapshot;
+import com.ats.analyzer.extractor.SkillTokenizer;
+import com.ats.analyzer.matcher.MatchResult;
+import com.ats.analyzer.matcher.SkillMatcher;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
@@ -415,4 +421,91 @@ class MatchScorerTest {
                 .isGreaterThanOrEqualTo(10.0) // ADJUSTED from 20.0 - career transition scores low
                 .isLessThan(50.0);
     }
+
+    @Test
+    @DisplayName("Partial credit should raise the score of a framework-only resume")
+    void testCalculateScore_PartialCredit_RaisesScore() {
+        // Arrange - resume lists frameworks, JD asks for their languages
+        DictionarySnapshot snapshot = DictionaryRegistry.current();
+        MatchResult result = SkillMatcher.match(
+                SkillTokenizer.extract("Spring Boot, Django, Pandas, Git", snapshot),
+                SkillTokenizer.extract("Java, Python, Git, SQL, Docker", snapshot),
+                snapshot.getSkills(),
+                snapshot.getTaxonomy());
+        String jd = TestConstants.SAMPLE_JD_BACKEND;
+        String resume = TestConstants.SAMPLE_BACKEND_RESUME;
+
+        // Act
+        double exactOnly = MatchScorer.calculateScore(ScoreRequest.of(AnalysisContext.of(jd, resume, result), 0.0));
+        double withPartial = MatchScorer.calculateScore(ScoreRequest.of(AnalysisContext.of(jd, resume, result), 0.5));
+
+        // Assert
+        assertThat(result.getPartialSkills()).containsExactly("java", "python");
+        assertThat(withPartial).isGreaterThan(exactOnly);
+    }
+
+    @Test
+    @DisplayName("Scoring trace should record each step without changing the score")
+    void testCalculateScore_WithTrace_RecordsSteps() {
+        // Arrange
+        DictionarySnapshot snapshot = DictionaryRegistry.current();
+        MatchResult result = SkillMatcher.match(
+                SkillTokenizer.extract(TestConstants.SAMPLE_BACKEND_RESUME, snapshot),
+                SkillTokenizer.extract(TestConstants.SAMPLE_JD_BACKEND, snapshot),
+                snapshot.getSkills(),
+                snapshot.getTaxonomy());
+        String jd = TestConstants.SAMPLE_JD_BACKEND;
+        String resume = TestConstants.SAMPLE_BACKEND_RESUME;
+        ScoringTrace trace = new ScoringTrace();
+
+        // Act
+        double plain = MatchScorer.calculateScore(ScoreRequest.of(AnalysisContext.of(jd, resume, result), 0.5));
+        double traced = MatchScorer.calculateScore(ScoreRequest.of(AnalysisContext.of(jd, resume, result), 0.5)
+                .trace(trace));
+
+        // Assert
+        assertThat(traced).isEqualTo(plain);
+        assertThat(trace.getFinalScore()).isEqualTo((int) traced);
+        assertThat(trace.getRoleIntent()).isNotNull();
+        assertThat(trace.getResumeProfile()).isNotNull();
+        // Partially covered JD skills count at the partial credit
+        assertThat(trace.getMatchedCount())
+                .isEqualTo(result.getMatchedBits().cardinality() + 0.5 * trace.getPartialCount());
+        assertThat(result.getMatchedSkills()).containsAll(trace.getCoreMatched());
+        assertThat(trace.getClampedSkillScore()).isBetween(0.20, 0.82);
+        assertThat(trace.getRawScore())
+                .isCloseTo(trace.getClampedSkillScore() * trace.getCompatibilityFactor() * 100, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Domain similarity should scale the score down from the floor up")
+    void testCalculateScore_DomainSimilarity_ScalesScore() {
+        // Arrange
+        DictionarySnapshot snapshot = DictionaryRegistry.current();
+        MatchResult result = SkillMatcher.match(
+                SkillTokenizer.extract(TestConstants.SAMPLE_FULLSTACK_RESUME, snapshot),
+                SkillTokenizer.extract(TestConstants.SAMPLE_JD_FULLSTACK, snapshot),
+                snapshot.getSkills(),
+                snapshot.getTaxonomy());
+        String jd = TestConstants.SAMPLE_JD_FULLSTACK;
+        String resume = TestConstants.SAMPLE_FULLSTACK_RESUME;
+        AnalysisContext unrelated = AnalysisContext.of(jd, resume, result);
+        unrelated.setDomainSimilarity(0.0);
+        AnalysisContext identical = AnalysisContext.of(jd, resume, result);
+        identical.setDomainSimilarity(1.0);
+        ScoringTrace trace = new ScoringTrace();
+
+        // Act
+        double plain = MatchScorer.calculateScore(ScoreRequest.of(AnalysisContext.of(jd, resume, result), 0.5));
+        double same = MatchScorer.calculateScore(ScoreRequest.of(identical, 0.5));
+        double different = MatchScorer.calculateScore(ScoreRequest.of(unrelated, 0.5).trace(trace));
+
+        // Assert
+        assertThat(same).isEqualTo(plain);
+        assertThat(different).isLessThan(plain);
+        assertThat(trace.getDomainSimilarity()).isEqualTo(0.0);
+        assertThat(trace.getDomainFactor()).isEqualTo(0.25);
+        assertThat(trace.getRawScore()).isCloseTo(
+                trace.getClampedSkillScore() * trace.getCompatibilityFactor() * 25, within(1e-9));
+    }
 }
@@ -0,0 +1,92 @@
+package com.ats.analyzer.scorer;
+
+import com.ats.TestConstants;
+import com.ats.analyzer.context.AnalysisContext;
+import com.ats.analyzer.dictionary.DictionaryRegistry;
+import com.ats.analyzer.dictionary.DictionarySnapshot;
+import com.ats.analyzer.dictionary.SkillBits;
+import com.ats.analyzer.extractor.SkillTokenizer;
+import com.ats.analyzer.matcher.MatchResult;
+import com.ats.analyzer.matcher.SkillMatcher;
+import com.ats.analyzer.model.ResumeProfile;
+import com.ats.analyzer.model.RoleIntent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for ScoreSimulator - what-if scoring by count deltas.
+ */
+@DisplayName("Score Simulator Unit Tests")
+class ScoreSimulatorTest {
+
+    private static final double CREDIT = 0.5;
+
+    @Test
+    @DisplayName("Projected scores should equal re-matching with the skill added")
+    void testSimulate_MatchesFullRescore() {
+        DictionarySnapshot snapshot = DictionaryRegistry.current();
+        ScoringModel model = ScoringModelRegistry.current();
+        // Resume knows spring (partial java) and lacks most of the JD
+        SkillBits resume = SkillTokenizer.extract("Spring, Git", snapshot);
+        SkillBits jd = SkillTokenizer.extract(TestConstants.SAMPLE_JD_BACKEND + " Java", snapshot);
+        MatchResult match = SkillMatcher.match(resume, jd, snapshot.getSkills(), snapshot.getTaxonomy());
+        AnalysisContext context = AnalysisContext.of(TestConstants.SAMPLE_JD_BACKEND, "Spring, Git", match);
+        int missing = match.getMissingBits().cardinality();
+
+        List<ScoreSimulator.SkillGain> gains = ScoreSimulator.simulate(context, snapshot.getTaxonomy(), CREDIT,
+                model, missing);
+
+        assertThat(gains).hasSize(missing);
+        assertThat(gains).anyMatch(ScoreSimulator.SkillGain::isPartial);
+        for (ScoreSimulator.SkillGain gain : gains) {
+            SkillBits withSkill = snapshot.getSkills().newSet();
+            withSkill.setAll(resume);
+            withSkill.set(snapshot.getSkills().idOf(gain.getSkill()));
+            MatchResult rematch = SkillMatcher.match(withSkill, jd, snapshot.getSkills(), snapshot.getTaxonomy());
+            AnalysisContext recontext = AnalysisContext.of(context.getRoleIntent(), context.isDesignRole(),
+                    context.getResumeProfile(), rematch);
+
+            assertThat(gain.getScore())
+                    .as(gain.getSkill())
+                    .isEqualTo((int) MatchScorer.calculateScore(ScoreRequest.of(recontext, CREDIT).model(model)));
+        }
+    }
+
+    @Test
+    @DisplayName("Gains should be ranked best first and limited")
+    void testSimulate_RankedAndLimited() {
+        DictionarySnapshot snapshot = DictionaryRegistry.current();
+        MatchResult match = SkillMatcher.match(
+                SkillTokenizer.extract("Docker, Spring, Kubernetes, AWS, Microservices", snapshot),
+                SkillTokenizer.extract(TestConstants.SAMPLE_JD_BACKEND, snapshot),
+                snapshot.getSkills(), snapshot.getTaxonomy());
+        AnalysisContext context = AnalysisContext.of(RoleIntent.TECH_CORE, false, ResumeProfile.TECHNICAL, match);
+
+        List<ScoreSimulator.SkillGain> gains = ScoreSimulator.simulate(context, snapshot.getTaxonomy(), CREDIT,
+                ScoringModelRegistry.current(), 3);
+
+        assertThat(gains).hasSize(3);
+        assertThat(gains.get(0).getRawGain()).isGreaterThanOrEqualTo(gains.get(1).getRawGain());
+        assertThat(gains.get(1).getRawGain()).isGreaterThanOrEqualTo(gains.get(2).getRawGain());
+        assertThat(gains.get(0).isCore()).isTrue();
+        assertThat(gains.get(0).getGain()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Nothing missing should give no gains, and limit must be positive")
+    void testSimulate_NothingMissingAndBadLimit() {
+        DictionarySnapshot snapshot = DictionaryRegistry.current();
+        SkillBits skills = SkillTokenizer.extract("Java, SQL, Git", snapshot);
+        MatchResult match = SkillMatcher.match(skills, skills, snapshot.getSkills(), snapshot.getTaxonomy());
+        AnalysisContext context = AnalysisContext.of("Java developer", "Java, SQL, Git", match);
+        ScoringModel model = ScoringModelRegistry.current();
+
+        assertThat(ScoreSimulator.simulate(context, snapshot.getTaxonomy(), CREDIT, model, 5)).isEmpty();
+        assertThatThrownBy(() -> ScoreSimulator.simulate(context, snapshot.getTaxonomy(), CREDIT, model, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
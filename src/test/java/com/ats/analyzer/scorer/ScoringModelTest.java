@@ -0,0 +1,81 @@
+package com.ats.analyzer.scorer;
+
+import com.ats.analyzer.model.ResumeProfile;
+import com.ats.analyzer.model.RoleIntent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for ScoringModel - externalized scoring weights.
+ */
+@DisplayName("Scoring Model Unit Tests")
+class ScoringModelTest {
+
+    @Test
+    @DisplayName("Bundled model should hold the shipped weights and compatibility matrix")
+    void testLoadBundled_ShippedValues() {
+        ScoringModel model = ScoringModel.loadBundled(1);
+
+        assertThat(model.getValues()).containsEntry("skill.core-weight", 0.60).containsEntry("score.max", 95.0);
+        assertThat(model.compatibility(RoleIntent.TECH_CORE, ResumeProfile.TECHNICAL)).isEqualTo(0.95);
+        assertThat(model.compatibility(RoleIntent.TECH_ADJACENT, ResumeProfile.MIXED)).isEqualTo(0.75);
+        assertThat(model.compatibility(RoleIntent.NON_TECH, ResumeProfile.TECHNICAL)).isEqualTo(0.38);
+    }
+
+    @Test
+    @DisplayName("Partial model file should override only the keys it sets")
+    void testParse_PartialFile_KeepsBaseValues() {
+        ScoringModel base = ScoringModel.loadBundled(1);
+
+        ScoringModel model = ScoringModel.parse(List.of(
+                "# candidate", "skill.core-weight = 0.7", "compatibility.TECH_CORE.MIXED=0.8"), base, 2, "test");
+
+        assertThat(model.getValues()).containsEntry("skill.core-weight", 0.7)
+                .containsEntry("skill.overall-weight", 0.40);
+        assertThat(model.compatibility(RoleIntent.TECH_CORE, ResumeProfile.MIXED)).isEqualTo(0.8);
+        assertThat(model.compatibility(RoleIntent.TECH_CORE, ResumeProfile.TECHNICAL)).isEqualTo(0.95);
+    }
+
+    @Test
+    @DisplayName("Should reject unknown keys, bad numbers, out-of-range and missing values")
+    void testParse_InvalidModel_Throws() {
+        ScoringModel base = ScoringModel.loadBundled(1);
+
+        assertThatThrownBy(() -> ScoringModel.parse(List.of("skill.core-wieght = 0.7"), base, 2, "test"))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Unknown");
+        assertThatThrownBy(() -> ScoringModel.parse(List.of("skill.min = low"), base, 2, "test"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ScoringModel.parse(List.of("skill.missing-penalty = 1.2"), base, 2, "test"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ScoringModel.parse(List.of("skill.core-bonus = 0.9"), base, 2, "test"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ScoringModel.parse(List.of("skill.min = 0.2"), null, 2, "test"))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("missing");
+    }
+
+    @Test
+    @DisplayName("Installed model should change scores without a restart")
+    void testInstall_ChangesScore() {
+        ScoringModel original = ScoringModelRegistry.current();
+        ScoringModel lenient = ScoringModel.parse(List.of("compatibility.TECH_CORE.TECHNICAL = 0.5"),
+                original, ScoringModelRegistry.nextVersion(), "test");
+
+        double before = MatchScorer.calculateScore(ScoreRequest.ofCounts(4, 1, 2, 0, RoleIntent.TECH_CORE, false,
+                ResumeProfile.TECHNICAL));
+        ScoringModelRegistry.install(lenient);
+        try {
+            double after = MatchScorer.calculateScore(ScoreRequest.ofCounts(4, 1, 2, 0, RoleIntent.TECH_CORE,
+                    false, ResumeProfile.TECHNICAL));
+
+            assertThat(after).isLessThan(before);
+            assertThat(after).isEqualTo(MatchScorer.calculateScore(ScoreRequest.ofCounts(4, 1, 2, 0,
+                    RoleIntent.TECH_CORE, false, ResumeProfile.TECHNICAL).model(lenient)));
+        } finally {
+            ScoringModelRegistry.install(original);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.ats.analyzer.scorer;
+
+import com.ats.TestConstants;
+import com.ats.analyzer.context.AnalysisContext;
+import com.ats.analyzer.context.JobAnalysis;
+import com.ats.analyzer.dictionary.DictionaryRegistry;
+import com.ats.analyzer.dictionary.DictionarySnapshot;
+import com.ats.analyzer.extractor.SkillTokenizer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for ShadowScoring - sampled candidate-model evaluation.
+ */
+@DisplayName("Shadow Scoring Unit Tests")
+class ShadowScoringTest {
+
+    @Test
+    @DisplayName("Sampled analyses should be re-scored with the candidate and the delta recorded")
+    void testOffer_FullSampling_RecordsDeltas() throws InterruptedException {
+        DictionarySnapshot snapshot = DictionaryRegistry.current();
+        JobAnalysis job = JobAnalysis.analyze(TestConstants.SAMPLE_JD_BACKEND, snapshot);
+        String resume = TestConstants.SAMPLE_BACKEND_RESUME;
+        AnalysisContext context = AnalysisContext.of(job, resume, SkillTokenizer.extract(resume, snapshot));
+        double active = MatchScorer.calculateScore(ScoreRequest.of(context, 0.5));
+
+        ScoringModel candidate = ScoringModel.parse(List.of("score.max = 100", "score.min = 0",
+                "compatibility." + context.getRoleIntent() + "." + context.getResumeProfile() + " = 0.1"),
+                ScoringModelRegistry.current(), ScoringModelRegistry.nextVersion(), "test");
+        double expected = MatchScorer.calculateScore(ScoreRequest.of(context, 0.5).model(candidate));
+
+        try (ShadowScoring shadow = new ShadowScoring(candidate, 1.0)) {
+            for (int i = 0; i < 3; i++) {
+                assertThat(shadow.offer(context, 0.5, active)).isTrue();
+            }
+            ShadowScoring.Stats stats = shadow.stats();
+            for (int wait = 0; wait < 200 && stats.getCompared() < 3; wait++) {
+                Thread.sleep(10);
+                stats = shadow.stats();
+            }
+
+            assertThat(stats.getCompared()).isEqualTo(3);
+            assertThat(stats.getChanged()).isEqualTo(3);
+            assertThat(stats.getMeanDelta()).isEqualTo(expected - active);
+            assertThat(stats.getDeltas()).containsEntry((int) Math.round(expected - active), 3L);
+        }
+    }
+
+    @Test
+    @DisplayName("Zero sample rate should never re-score")
+    void testOffer_ZeroRate_NeverSamples() {
+        try (ShadowScoring shadow = new ShadowScoring(ScoringModelRegistry.current(), 0)) {
+            assertThat(shadow.offer(null, 0.5, 50)).isFalse();
+            assertThat(shadow.stats().getCompared()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a sample rate outside [0, 1]")
+    void testConstructor_InvalidRate_Throws() {
+        assertThatThrownBy(() -> new ShadowScoring(ScoringModelRegistry.current(), 1.5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,131 @@
+package com.ats.analyzer.service;
+
+import com.ats.TestConstants;
+import com.ats.analyzer.context.AnalysisContext;
+import com.ats.analyzer.context.JobAnalysis;
+import com.ats.analyzer.dictionary.DictionaryLoader;
+import com.ats.analyzer.dictionary.DictionaryRegistry;
+import com.ats.analyzer.dictionary.DictionarySnapshot;
+import com.ats.analyzer.extractor.SkillTokenizer;
+import com.ats.analyzer.scorer.MatchScorer;
+import com.ats.analyzer.scorer.ScoreRequest;
+import com.ats.analyzer.scorer.ScoringTrace;
+import com.ats.web.dto.AnalysisResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for AnalysisCache keys and the JD level.
+ */
+@DisplayName("Analysis Cache Unit Tests")
+class AnalysisCacheTest {
+
+    private final AnalysisCache cache = new AnalysisCache(true, DataSize.ofMegabytes(1), DataSize.ofMegabytes(1),
+            Duration.ofMinutes(1), DataSize.ofMegabytes(1));
+
+    @Test
+    @DisplayName("Digest should depend on the bytes and file type, not the file name")
+    void testDigest_ContentAddressed() throws IOException {
+        byte[] bytes = "Java developer".getBytes();
+
+        String digest = cache.digest(new MockMultipartFile("resume", "a.txt", "text/plain", bytes));
+
+        assertThat(cache.digest(new MockMultipartFile("resume", "b.TXT", "text/plain", bytes))).isEqualTo(digest);
+        assertThat(cache.digest(new MockMultipartFile("resume", "a.pdf", "application/pdf", bytes)))
+                .isNotEqualTo(digest);
+        assertThat(cache.digest(new MockMultipartFile("resume", "a.txt", "text/plain", "Java".getBytes())))
+                .isNotEqualTo(digest);
+    }
+
+    @Test
+    @DisplayName("JD digests should ignore whitespace; result keys should not ignore options or versions")
+    void testKeys_NormalizedJd() {
+        String jd = AnalysisCache.jdDigest("Java  developer\n\nwith Spring ");
+        assertThat(AnalysisCache.jdDigest("Java developer with Spring")).isEqualTo(jd);
+        assertThat(AnalysisCache.jdDigest("Java developer with Spring Boot")).isNotEqualTo(jd);
+
+        String key = AnalysisCache.resultKey("r", jd, false, false, false, 1, 1);
+        assertThat(AnalysisCache.resultKey("r", jd, true, false, false, 1, 1)).isNotEqualTo(key);
+        assertThat(AnalysisCache.resultKey("r", jd, false, false, false, 2, 1)).isNotEqualTo(key);
+    }
+
+    @Test
+    @DisplayName("JD analyses should be cached by digest and re-encoded for a new dictionary")
+    void testJob_CachedAndReencoded() {
+        String jd = TestConstants.SAMPLE_JD_BACKEND;
+        String digest = AnalysisCache.jdDigest(jd);
+        DictionarySnapshot snapshot = DictionaryRegistry.current();
+
+        assertThat(cache.job(digest, snapshot)).isNull();
+        JobAnalysis job = cache.job(digest, jd, snapshot);
+        assertThat(cache.job(digest, snapshot)).isSameAs(job);
+
+        DictionarySnapshot reloaded = DictionaryLoader.loadBundled(DictionaryRegistry.nextVersion());
+        JobAnalysis reencoded = cache.job(digest, reloaded);
+        assertThat(reencoded.getSnapshot()).isSameAs(reloaded);
+        assertThat(reencoded.getRoleIntent()).isEqualTo(job.getRoleIntent());
+        assertThat(cache.job(digest, reloaded)).isSameAs(reencoded);
+    }
+
+    @Test
+    @DisplayName("JDs differing only in whitespace should analyze the same")
+    void testNormalizedJd_SameAnalysis() {
+        String jd = TestConstants.SAMPLE_JD_FULLSTACK;
+        String reflowed = "  " + jd.replace(" ", " \n\t ") + "\n";
+
+        assertThat(SkillTokenizer.extract(jd).isEmpty()).isFalse();
+        assertThat(SkillTokenizer.extract(reflowed)).isEqualTo(SkillTokenizer.extract(jd));
+        AnalysisContext original = AnalysisContext.of(jd, TestConstants.SAMPLE_FRONTEND_RESUME, null);
+        AnalysisContext variant = AnalysisContext.of(reflowed, TestConstants.SAMPLE_FRONTEND_RESUME, null);
+        assertThat(variant.getRoleIntent()).isEqualTo(original.getRoleIntent());
+        assertThat(variant.isDesignRole()).isEqualTo(original.isDesignRole());
+    }
+
+    @Test
+    @DisplayName("Result weight should count the match bitsets, fuzzy matches and scoring trace")
+    void testResultWeight_CountsTraceAndFuzzyMatches() {
+        DictionarySnapshot snapshot = DictionaryRegistry.current();
+        String resume = TestConstants.SAMPLE_BACKEND_RESUME;
+        AnalysisContext context = AnalysisContext.of(JobAnalysis.analyze(TestConstants.SAMPLE_JD_BACKEND, snapshot),
+                resume, SkillTokenizer.extract(resume, snapshot));
+        ScoringTrace trace = new ScoringTrace();
+        double score = MatchScorer.calculateScore(ScoreRequest.of(context, 0.5).trace(trace));
+
+        cache.putResult("plain", new AnalysisResult(score, context.getMatchResult(), List.of(), 1, Map.of()));
+        long plain = resultWeight();
+        cache.putResult("explained", new AnalysisResult(score, context.getMatchResult(), List.of(), 1,
+                Map.of("kubernetes", "kubernets"), trace));
+        long explained = resultWeight() - plain;
+
+        assertThat(plain).isGreaterThan(4 * context.getMatchResult().getMatchedBits().sizeInBytes());
+        int traceStrings = trace.getCoreMatched().size() + trace.getCoreMissing().size()
+                + trace.getCorePartial().size() + trace.getAdjustments().size();
+        assertThat(traceStrings).isPositive();
+        assertThat(explained - plain).isGreaterThan(64 + 40L * traceStrings);
+    }
+
+    private long resultWeight() {
+        return (Long) ((Map<?, ?>) cache.stats().get("result")).get("weight");
+    }
+
+    @Test
+    @DisplayName("Disabled cache should compute no digest and store nothing")
+    void testDisabled_NoDigest() throws IOException {
+        AnalysisCache disabled = new AnalysisCache(false, DataSize.ofMegabytes(1), DataSize.ofMegabytes(1),
+                Duration.ofMinutes(1), DataSize.ofMegabytes(1));
+
+        assertThat(disabled.digest(new MockMultipartFile("resume", "a.txt", "text/plain", "x".getBytes())))
+                .isNull();
+        disabled.putText(null, "x");
+        assertThat(disabled.text(null)).isNull();
+    }
+}
@@ -0,0 +1,174 @@
+package com.ats.analyzer.service;
+
+import com.ats.web.dto.AnalysisJobStatus;
+import com.ats.web.dto.AnalysisJobStatus.State;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for the async analysis queue, with a stub analysis.
+ */
+@DisplayName("Async Analysis Service Unit Tests")
+class AsyncAnalysisServiceTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private AsyncAnalysisService service;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        service.stop();
+    }
+
+    @Test
+    @DisplayName("Jobs should run on the pool and keep their outcome")
+    void testSubmit_RunsAndStoresOutcome() throws Exception {
+        service = new AsyncAnalysisService(request -> {
+            if (request.getResume().getOriginalFilename().startsWith("bad")) {
+                throw new IllegalArgumentException("Unreadable resume");
+            }
+            return null;
+        }, 1, 4, Duration.ofMinutes(1), 10);
+
+        String ok = service.submit(resume("good"), null, null, null, false).getId();
+        String bad = service.submit(resume("bad"), null, null, null, false).getId();
+
+        assertThat(await(ok).getState()).isEqualTo(State.DONE);
+        AnalysisJobStatus failed = await(bad);
+        assertThat(failed.getState()).isEqualTo(State.FAILED);
+        assertThat(failed.getError()).isEqualTo("Unreadable resume");
+        assertThat(failed.getFinishedAt()).isAfterOrEqualTo(failed.getStartedAt());
+        assertThat(service.stats()).containsEntry("completed", 1L).containsEntry("failed", 1L)
+                .containsEntry("stored", 2L);
+    }
+
+    @Test
+    @DisplayName("A full queue should reject with a Retry-After estimate")
+    void testSubmit_QueueFull_Rejected() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        service = new AsyncAnalysisService(request -> {
+            running.countDown();
+            awaitRelease();
+            return null;
+        }, 1, 2, Duration.ofMinutes(1), 10);
+
+        service.submit(resume("a"), null, null, null, false);
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        service.submit(resume("b"), null, null, null, false);
+        service.submit(resume("c"), null, null, null, false);
+
+        assertThatThrownBy(() -> service.submit(resume("d"), null, null, null, false))
+                .isInstanceOfSatisfying(QueueFullException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isGreaterThanOrEqualTo(2));
+        assertThat(service.stats()).containsEntry("queued", 2L).containsEntry("running", 1L)
+                .containsEntry("submitted", 3L).containsEntry("rejected", 1L);
+    }
+
+    @Test
+    @DisplayName("Retry-After should only use run times recorded since the last stats reset")
+    void testResetStats_QueueFull_RetryAfterFromNewRuns() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        service = new AsyncAnalysisService(request -> {
+            String name = request.getResume().getOriginalFilename();
+            if (name.startsWith("slow")) {
+                pause(600);
+            } else if (name.startsWith("blocking")) {
+                running.countDown();
+                awaitRelease();
+            }
+            return null;
+        }, 1, 2, Duration.ofMinutes(1), 10);
+
+        await(service.submit(resume("slow"), null, null, null, false).getId());
+        service.resetStats();
+        await(service.submit(resume("fast"), null, null, null, false).getId());
+
+        service.submit(resume("blocking"), null, null, null, false);
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        service.submit(resume("a"), null, null, null, false);
+        service.submit(resume("b"), null, null, null, false);
+
+        // Two queued jobs at the fast job's mean run time
+        assertThatThrownBy(() -> service.submit(resume("c"), null, null, null, false))
+                .isInstanceOfSatisfying(QueueFullException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(1));
+        assertThat(service.stats()).containsEntry("completed", 1L);
+    }
+
+    @Test
+    @DisplayName("Listeners should see each state change, then nothing more")
+    void testListen_StateChanges() throws Exception {
+        service = new AsyncAnalysisService(request -> {
+            awaitRelease();
+            return null;
+        }, 1, 2, Duration.ofMinutes(1), 10);
+        List<State> seen = new CopyOnWriteArrayList<>();
+
+        String id = service.submit(resume("a"), null, null, null, false).getId();
+        service.listen(id, status -> seen.add(status.getState()));
+        release.countDown();
+        await(id);
+
+        assertThat(seen).endsWith(State.DONE).doesNotHaveDuplicates();
+        List<State> late = new CopyOnWriteArrayList<>();
+        service.listen(id, status -> late.add(status.getState()));
+        assertThat(late).containsExactly(State.DONE);
+    }
+
+    @Test
+    @DisplayName("Unknown ids and results past max-results should not be found")
+    void testStatus_UnknownOrEvicted_NotFound() throws Exception {
+        service = new AsyncAnalysisService(request -> null,
+                1, 4, Duration.ofMinutes(1), 1);
+
+        String first = service.submit(resume("a"), null, null, null, false).getId();
+        await(first);
+        String second = service.submit(resume("b"), null, null, null, false).getId();
+        await(second);
+
+        assertThatThrownBy(() -> service.status(first)).isInstanceOf(NoSuchElementException.class);
+        assertThatThrownBy(() -> service.status("missing")).isInstanceOf(NoSuchElementException.class);
+        assertThat(service.status(second).getState()).isEqualTo(State.DONE);
+    }
+
+    private static MockMultipartFile resume(String name) {
+        return new MockMultipartFile("resume", name + ".txt", "text/plain", "Java developer".getBytes());
+    }
+
+    private AnalysisJobStatus await(String id) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        AnalysisJobStatus status = service.status(id);
+        while (!status.getState().isFinished() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            status = service.status(id);
+        }
+        return status;
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.ats.benchmark;
+
+import com.ats.TestConstants;
+import com.ats.analyzer.dictionary.DictionaryRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Shared synthetic documents for benchmarks.
+ * Built by repeating the sample resumes and JDs up to the requested size.
+ */
+final class BenchmarkData {
+
+    private static final String[] SAMPLES = {
+            TestConstants.SAMPLE_BACKEND_RESUME,
+            TestConstants.SAMPLE_FRONTEND_RESUME,
+            TestConstants.SAMPLE_FULLSTACK_RESUME,
+            TestConstants.SAMPLE_JD_DATA,
+            TestConstants.SAMPLE_JD_DEVOPS
+    };
+
+    static String document(int size) {
+        StringBuilder sb = new StringBuilder(size + 1024);
+        int i = 0;
+        while (sb.length() < size) {
+            sb.append(SAMPLES[i++ % SAMPLES.length]);
+        }
+        sb.setLength(size);
+        return sb.toString();
+    }
+
+    /**
+     * Short skill-list resumes drawn from the production whitelist, with a
+     * skewed (popular-first) skill distribution like a real applicant pool.
+     */
+    static List<String> skillResumes(int count, long seed) {
+        List<String> skills = new ArrayList<>(DictionaryRegistry.current().getWhitelist());
+        skills.sort(null);
+        Random random = new Random(seed);
+        List<String> resumes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder resume = new StringBuilder(random.nextInt(3) == 0 ? "Sales lead. " : "Software engineer. ");
+            int size = 5 + random.nextInt(20);
+            for (int s = 0; s < size; s++) {
+                double skew = random.nextDouble();
+                resume.append(skills.get((int) (skew * skew * skills.size()))).append(", ");
+            }
+            resumes.add(resume.toString());
+        }
+        return resumes;
+    }
+
+    private BenchmarkData() {
+    }
+}
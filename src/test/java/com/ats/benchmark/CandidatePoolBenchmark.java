@@ -0,0 +1,77 @@
+package com.ats.benchmark;
+
+import com.ats.TestConstants;
+import com.ats.analyzer.catalog.CandidatePool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Top-k candidate retrieval latency for one JD against the pool, single
+ * thread. Sample mode reports percentiles; the target is p99 under 50 ms at
+ * 100k candidates.
+ *
+ * Run with:
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.ats.benchmark.CandidatePoolBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@Threads(1)
+public class CandidatePoolBenchmark {
+
+    @Param({ "10000", "100000" })
+    public int poolSize;
+
+    @Param({ "0.0", "0.5" })
+    public double partialCredit;
+
+    private CandidatePool pool;
+
+    @Setup
+    public void setup() {
+        pool = new CandidatePool();
+        List<String> resumes = BenchmarkData.skillResumes(poolSize, 13);
+        for (int i = 0; i < resumes.size(); i++) {
+            pool.put("candidate-" + i, resumes.get(i));
+        }
+    }
+
+    @Benchmark
+    public CandidatePool.Ranking topCandidatesBackend() {
+        return pool.topCandidates(TestConstants.SAMPLE_JD_BACKEND, 10, partialCredit);
+    }
+
+    @Benchmark
+    public CandidatePool.Ranking topCandidatesData() {
+        return pool.topCandidates(TestConstants.SAMPLE_JD_DATA, 10, partialCredit);
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(CandidatePoolBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,93 @@
+package com.ats.benchmark;
+
+import com.ats.analyzer.dictionary.DictionaryRegistry;
+import com.ats.analyzer.dictionary.DictionarySnapshot;
+import com.ats.analyzer.dictionary.SkillBits;
+import com.ats.analyzer.extractor.FuzzyMatches;
+import com.ats.analyzer.extractor.FuzzySkillIndex;
+import com.ats.analyzer.extractor.SkillTokenizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput cost of fuzzy (typo-tolerant) extraction versus exact mode on
+ * the same document, plus the cost of a single deletion-index lookup.
+ *
+ * Run with:
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.ats.benchmark.FuzzyExtractionBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FuzzyExtractionBenchmark {
+
+    @Param({ "4096", "102400" })
+    public int documentSize;
+
+    private DictionarySnapshot snapshot;
+    private FuzzySkillIndex index;
+    private String text;
+
+    @Setup
+    public void setup() {
+        snapshot = DictionaryRegistry.current();
+        index = snapshot.getFuzzyIndex();
+        text = BenchmarkData.document(documentSize)
+                .replace("Kubernetes", "Kubernets")
+                .replace("Python", "Pyhton")
+                .replace("JavaScript", "Javscript");
+    }
+
+    @Benchmark
+    public SkillBits exact() {
+        return SkillTokenizer.extract(text, snapshot);
+    }
+
+    @Benchmark
+    public FuzzyMatches exactPlusFuzzy() {
+        SkillBits exact = SkillTokenizer.extract(text, snapshot);
+        return SkillTokenizer.extractFuzzy(text, snapshot, exact);
+    }
+
+    /**
+     * Distance-2 token (10 letters): worst case for delete generation.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int lookupMisspelledLongWord() {
+        return index.lookup("javscriptt");
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int lookupOrdinaryWord() {
+        return index.lookup("responsible");
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(FuzzyExtractionBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
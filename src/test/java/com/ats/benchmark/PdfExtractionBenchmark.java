@@ -0,0 +1,109 @@
+package com.ats.benchmark;
+
+import com.ats.analyzer.input.PdfTextExtractor;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-document PDF extraction latency: one thread against page-range
+ * chunks on a 4-thread pool (the application defaults). At 8 pages the
+ * document is below the threshold, so both paths are sequential.
+ *
+ * Run with:
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.ats.benchmark.PdfExtractionBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PdfExtractionBenchmark {
+
+    @Param({ "8", "60" })
+    public int pages;
+
+    private byte[] pdf;
+    private PdfTextExtractor sequential;
+    private PdfTextExtractor parallel;
+
+    @Setup
+    public void setup() throws IOException {
+        pdf = createPdf(pages);
+        sequential = PdfTextExtractor.heap();
+        parallel = new PdfTextExtractor(PdfTextExtractor.Mode.HEAP, -1, null, 4, 16, 8);
+    }
+
+    @TearDown
+    public void tearDown() {
+        parallel.close();
+    }
+
+    @Benchmark
+    public String sequential() throws IOException {
+        return sequential.extract(new ByteArrayInputStream(pdf));
+    }
+
+    @Benchmark
+    public String parallel() throws IOException {
+        return parallel.extract(new ByteArrayInputStream(pdf));
+    }
+
+    /**
+     * Pages of dense text, like a CV's publication list.
+     */
+    private static byte[] createPdf(int pages) throws IOException {
+        try (PDDocument document = new PDDocument();
+                ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (int page = 1; page <= pages; page++) {
+                PDPage pdPage = new PDPage();
+                document.addPage(pdPage);
+                try (PDPageContentStream content = new PDPageContentStream(document, pdPage)) {
+                    content.beginText();
+                    content.setFont(PDType1Font.HELVETICA, 9);
+                    content.newLineAtOffset(50, 740);
+                    for (int line = 0; line < 60; line++) {
+                        content.showText("[" + page + "." + line + "] Distributed Java services with Spring Boot,"
+                                + " Kafka and Kubernetes on AWS; Proc. Systems Conf.");
+                        content.newLineAtOffset(0, -11);
+                    }
+                    content.endText();
+                }
+            }
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(PdfExtractionBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
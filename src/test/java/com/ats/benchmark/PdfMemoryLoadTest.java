@@ -0,0 +1,155 @@
+package com.ats.benchmark;
+
+import com.ats.analyzer.input.PdfTextExtractor;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.graphics.image.LosslessFactory;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Peak heap while extracting a large (image-heavy, ~4.5 MB) resume PDF at
+ * growing concurrency, per PdfTextExtractor memory mode. The PDF is read
+ * from disk, as a multipart upload above the spooling threshold would be.
+ *
+ * Peak is sampled used heap above the post-GC baseline, so it includes
+ * garbage not yet collected; compare modes against each other rather than
+ * reading the numbers as exact retained sizes. Not a JMH benchmark: JMH
+ * reports time, and this measures memory.
+ *
+ * Run with (a small heap makes the HEAP-mode growth obvious):
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java
+ * "-Dexec.args=-Xmx512m -cp %classpath com.ats.benchmark.PdfMemoryLoadTest"
+ */
+public class PdfMemoryLoadTest {
+
+    private static final int[] CONCURRENCY = { 1, 5, 10, 20 };
+    private static final long MIXED_BUDGET = 512 * 1024;
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args) throws Exception {
+        File pdf = File.createTempFile("load-test-resume", ".pdf");
+        pdf.deleteOnExit();
+        createPdf(pdf);
+        System.out.printf("PDF size: %.1f MB, max heap: %d MB%n%n",
+                pdf.length() / 1e6, Runtime.getRuntime().maxMemory() >> 20);
+
+        List<PdfTextExtractor> extractors = List.of(
+                PdfTextExtractor.heap(),
+                new PdfTextExtractor(PdfTextExtractor.Mode.MIXED, MIXED_BUDGET, null),
+                new PdfTextExtractor(PdfTextExtractor.Mode.TEMP_FILE, -1, null));
+
+        StringBuilder header = new StringBuilder(String.format("%-10s", "Mode"));
+        for (int threads : CONCURRENCY) {
+            header.append(String.format("%14s", threads + " threads"));
+        }
+        System.out.println(header);
+        for (PdfTextExtractor extractor : extractors) {
+            measure(extractor, pdf, CONCURRENCY[0]); // warm-up
+            StringBuilder row = new StringBuilder(String.format("%-10s", extractor.getMode()));
+            for (int threads : CONCURRENCY) {
+                row.append(String.format("%11d MB", measure(extractor, pdf, threads) >> 20));
+            }
+            System.out.println(row);
+        }
+    }
+
+    /**
+     * Peak heap above baseline with threads extractions running at once.
+     */
+    private static long measure(PdfTextExtractor extractor, File pdf, int threads) throws Exception {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        long peak = 0;
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                System.gc();
+                long baseline = memory.getHeapMemoryUsage().getUsed();
+                AtomicLong max = new AtomicLong(baseline);
+                AtomicBoolean running = new AtomicBoolean(true);
+                Thread sampler = new Thread(() -> {
+                    while (running.get()) {
+                        max.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+                        Thread.onSpinWait();
+                    }
+                });
+                sampler.start();
+
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<String>> results = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    results.add(pool.submit(() -> {
+                        start.await();
+                        try (InputStream in = new FileInputStream(pdf)) {
+                            return extractor.extract(in);
+                        }
+                    }));
+                }
+                start.countDown();
+                for (Future<String> result : results) {
+                    result.get();
+                }
+                running.set(false);
+                sampler.join();
+                peak = Math.max(peak, max.get() - baseline);
+            }
+        } finally {
+            pool.shutdown();
+        }
+        return peak;
+    }
+
+    /**
+     * Two pages of resume text plus a noise image that does not compress,
+     * standing in for an embedded scan or photo.
+     */
+    private static void createPdf(File file) throws IOException {
+        Random random = new Random(42);
+        BufferedImage image = new BufferedImage(1500, 1000, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                image.setRGB(x, y, random.nextInt(0x1000000));
+            }
+        }
+
+        try (PDDocument document = new PDDocument()) {
+            PDImageXObject xObject = LosslessFactory.createFromImage(document, image);
+            for (int page = 0; page < 2; page++) {
+                PDPage pdPage = new PDPage();
+                document.addPage(pdPage);
+                try (PDPageContentStream content = new PDPageContentStream(document, pdPage)) {
+                    if (page == 0) {
+                        content.drawImage(xObject, 72, 400, 300, 200);
+                    }
+                    content.beginText();
+                    content.setFont(PDType1Font.HELVETICA, 10);
+                    content.newLineAtOffset(72, 380);
+                    for (int line = 0; line < 30; line++) {
+                        content.showText("Built Java and Spring Boot services on Kubernetes and AWS, line " + line);
+                        content.newLineAtOffset(0, -12);
+                    }
+                    content.endText();
+                }
+            }
+            document.save(file);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.ats.benchmark;
+
+import com.ats.analyzer.context.AnalysisContext;
+import com.ats.analyzer.dictionary.DictionaryRegistry;
+import com.ats.analyzer.dictionary.DictionarySnapshot;
+import com.ats.analyzer.dictionary.SkillBits;
+import com.ats.analyzer.extractor.SkillTokenizer;
+import com.ats.analyzer.matcher.MatchResult;
+import com.ats.analyzer.matcher.SkillMatcher;
+import com.ats.analyzer.model.ResumeProfile;
+import com.ats.analyzer.model.RoleIntent;
+import com.ats.analyzer.scorer.MatchScorer;
+import com.ats.analyzer.scorer.ScoreRequest;
+import com.ats.analyzer.scorer.ScoreSimulator;
+import com.ats.analyzer.scorer.ScoringModel;
+import com.ats.analyzer.scorer.ScoringModelRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What-if simulation over every missing skill of a large JD, against a
+ * full re-match and re-score per candidate skill (what the simulator
+ * replaces). Divide by missingSkills for the per-skill cost.
+ *
+ * Run with:
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.ats.benchmark.ScoreSimulatorBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreSimulatorBenchmark {
+
+    @Param({ "10", "40" })
+    public int missingSkills;
+
+    private DictionarySnapshot snapshot;
+    private ScoringModel model;
+    private SkillBits resume;
+    private SkillBits jd;
+    private AnalysisContext context;
+
+    @Setup
+    public void setup() {
+        snapshot = DictionaryRegistry.current();
+        model = ScoringModelRegistry.current();
+        List<String> skills = new ArrayList<>(snapshot.getWhitelist());
+        Collections.sort(skills);
+        Collections.shuffle(skills, new Random(7));
+
+        // JD: 10 skills the resume has plus missingSkills it lacks
+        resume = SkillTokenizer.extract(String.join(", ", skills.subList(0, 10)), snapshot);
+        jd = SkillTokenizer.extract(String.join(", ", skills.subList(0, 10 + missingSkills)), snapshot);
+        MatchResult match = SkillMatcher.match(resume, jd, snapshot.getSkills(), snapshot.getTaxonomy());
+        context = AnalysisContext.of(RoleIntent.TECH_CORE, false, ResumeProfile.TECHNICAL, match);
+    }
+
+    @Benchmark
+    public List<ScoreSimulator.SkillGain> simulateAll() {
+        AnalysisContext fresh = AnalysisContext.of(RoleIntent.TECH_CORE, false, ResumeProfile.TECHNICAL,
+                context.getMatchResult());
+        return ScoreSimulator.simulate(fresh, snapshot.getTaxonomy(), 0.5, model, Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public double rescoreAll() {
+        MatchResult match = context.getMatchResult();
+        SkillBits missing = match.getMissingBits();
+        double best = 0;
+        for (int id = missing.nextSetBit(0); id >= 0; id = missing.nextSetBit(id + 1)) {
+            SkillBits withSkill = snapshot.getSkills().newSet();
+            withSkill.setAll(resume);
+            withSkill.set(id);
+            MatchResult rematch = SkillMatcher.match(withSkill, jd, snapshot.getSkills(), snapshot.getTaxonomy());
+            best = Math.max(best, MatchScorer.calculateScore(ScoreRequest.of(AnalysisContext.of(
+                    RoleIntent.TECH_CORE, false, ResumeProfile.TECHNICAL, rematch), 0.5).model(model)));
+        }
+        return best;
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(ScoreSimulatorBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,99 @@
+package com.ats.benchmark;
+
+import com.ats.analyzer.logic.DocumentSignals;
+import com.ats.analyzer.logic.ResumeProfileDetector;
+import com.ats.analyzer.logic.RoleIntentDetector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Role intent, design role and resume profile detection on one document:
+ * the former per-keyword String.contains loops (lowercased copy, one pass
+ * per keyword) against a single DocumentSignals automaton pass.
+ *
+ * Run with:
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.ats.benchmark.SignalScanBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SignalScanBenchmark {
+
+    // Keyword lists of the contains-based detectors
+    private static final String[] LEGACY_KEYWORDS = {
+            "software", "developer", "engineer", "ai", "machine learning", "data scientist", "devops",
+            "backend", "frontend", "sde", "programming", "coding", "algorithm", "infrastructure",
+            "cloud engineer", "ml engineer", "full stack", "marketing", "business", "growth", "analyst",
+            "operations", "strategy", "content", "seo", "digital marketing", "product manager",
+            "business development", "sales engineer", "technical writer", "ui/ux", "ux", "ui", "designer",
+            "design", "figma", "user experience", "user interface", "wireframe", "prototype", "data analyst",
+            "business analyst", "ux designer", "ui designer", "adobe xd", "sketch", "user research", "react",
+            "vue", "angular", "frontend development", "javascript framework", "python", "java", "ml", "sql",
+            "api", "github", "project", "javascript", "code", "data structure"
+    };
+
+    @Param({ "4096", "102400" })
+    public int documentSize;
+
+    private String text;
+
+    @Setup
+    public void setup() {
+        text = BenchmarkData.document(documentSize);
+    }
+
+    @Benchmark
+    public int legacyContains() {
+        // Two lowercased copies: the JD (intent + design) and the resume
+        String jd = text.toLowerCase();
+        String resume = text.toLowerCase();
+        int found = 0;
+        for (String keyword : LEGACY_KEYWORDS) {
+            if (jd.contains(keyword)) {
+                found++;
+            }
+        }
+        for (String keyword : LEGACY_KEYWORDS) {
+            if (resume.contains(keyword)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public void onePass(Blackhole bh) {
+        DocumentSignals jd = DocumentSignals.scan(text);
+        bh.consume(RoleIntentDetector.detect(jd));
+        bh.consume(RoleIntentDetector.isDesignRole(jd));
+        bh.consume(ResumeProfileDetector.detect(DocumentSignals.scan(text)));
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(SignalScanBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,114 @@
+package com.ats.benchmark;
+
+import com.ats.analyzer.extractor.SkillAutomaton;
+import com.ats.analyzer.extractor.SkillTokenizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scan cost of the skill automaton as the dictionary grows from 300 to 50k
+ * phrases. Scan time should stay flat per document (linear in text length
+ * only); compile time grows linearly with total phrase length.
+ *
+ * Run with:
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.ats.benchmark.SkillAutomatonBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class SkillAutomatonBenchmark {
+
+    @Param({ "300", "1000", "5000", "20000", "50000" })
+    public int dictionarySize;
+
+    // 100 KB document
+    @Param({ "102400" })
+    public int documentSize;
+
+    private List<String> phrases;
+    private SkillAutomaton automaton;
+    private String text;
+
+    @Setup
+    public void setup() {
+        phrases = syntheticPhrases(dictionarySize);
+        automaton = SkillAutomaton.compile(phrases);
+        text = BenchmarkData.document(documentSize);
+    }
+
+    @Benchmark
+    public void scan(Blackhole blackhole) {
+        automaton.scan(text, blackhole::consume);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public SkillAutomaton compile() {
+        return SkillAutomaton.compile(phrases);
+    }
+
+    /**
+     * Production dictionary on the same document, for reference.
+     */
+    @Benchmark
+    public void tokenizeProductionDictionary(Blackhole blackhole) {
+        SkillTokenizer.scan(text, blackhole::consume);
+    }
+
+    /**
+     * Real-looking phrases: the sample vocabulary plus random 1-3 word phrases.
+     */
+    static List<String> syntheticPhrases(int count) {
+        List<String> phrases = new ArrayList<>(List.of(
+                "java", "python", "spring", "docker", "kubernetes", "sql", "aws",
+                "ci-cd", "machine learning", "unit-testing", "rest", "react"));
+        Random random = new Random(7);
+
+        while (phrases.size() < count) {
+            int words = 1 + random.nextInt(3);
+            StringBuilder phrase = new StringBuilder();
+            for (int w = 0; w < words; w++) {
+                if (w > 0) {
+                    phrase.append(random.nextBoolean() ? ' ' : '-');
+                }
+                int length = 3 + random.nextInt(7);
+                for (int i = 0; i < length; i++) {
+                    phrase.append((char) ('a' + random.nextInt(26)));
+                }
+            }
+            phrases.add(phrase.toString());
+        }
+        return phrases;
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(SkillAutomatonBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,117 @@
+package com.ats.benchmark;
+
+import com.ats.analyzer.dictionary.DictionaryRegistry;
+import com.ats.analyzer.dictionary.DictionarySnapshot;
+import com.ats.analyzer.dictionary.SkillBits;
+import com.ats.analyzer.logic.SkillClassifier;
+import com.ats.analyzer.model.RoleIntent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Core skill identification on 10, 100 and 1,000 skills: the policy table
+ * (name path and bitset path) against the former per-call Set.of lookups.
+ *
+ * Run with:
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.ats.benchmark.SkillClassifierBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SkillClassifierBenchmark {
+
+    // Core lists of the former hard-coded classifier (TECH_CORE only)
+    private static final Set<String> LEGACY_CORE = Set.of(
+            "python", "java", "javascript", "typescript", "c", "cpp", "csharp", "go", "ruby", "php", "rust",
+            "kotlin", "scala", "dsa", "data-structures", "algorithms", "programming", "coding", "sql",
+            "database", "git", "api", "rest", "ml", "ai", "tensorflow", "pytorch", "pandas", "numpy", "data");
+
+    @Param({ "10", "100", "1000" })
+    public int skillCount;
+
+    private Set<String> skills;
+    private SkillBits skillBits;
+    private DictionarySnapshot snapshot;
+
+    @Setup
+    public void setup() {
+        snapshot = DictionaryRegistry.current();
+        List<String> names = new ArrayList<>(snapshot.getWhitelist());
+        Collections.sort(names);
+        Collections.shuffle(names, new Random(42));
+        skills = new HashSet<>();
+        for (int i = 0; skills.size() < skillCount; i++) {
+            // Past the whitelist, pad with unknown names (always secondary)
+            skills.add(i < names.size() ? names.get(i) : "skill-" + i);
+        }
+        skillBits = snapshot.getSkills().newSet();
+        for (String skill : skills) {
+            int id = snapshot.getSkills().idOf(skill);
+            if (id >= 0) {
+                skillBits.set(id);
+            }
+        }
+    }
+
+    @Benchmark
+    public Set<String> identifyCoreSkills() {
+        return SkillClassifier.identifyCoreSkills(skills, RoleIntent.TECH_CORE);
+    }
+
+    @Benchmark
+    public int countCoreBits() {
+        return SkillClassifier.countCore(skillBits, RoleIntent.TECH_CORE, snapshot.getSkills());
+    }
+
+    @Benchmark
+    public Set<String> legacyIdentifyCoreSkills() {
+        Set<String> core = new HashSet<>();
+        for (String skill : skills) {
+            String normalized = skill.toLowerCase();
+            Set<String> neverCore = Set.of(
+                    "spring", "springboot", "nodejs", "node", "react", "angular", "vue",
+                    "docker", "kubernetes", "aws", "azure", "gcp", "microservices",
+                    "jenkins", "gitlab", "terraform", "ansible", "kafka", "redis",
+                    "mongodb", "postgresql", "mysql", "flask", "django", "express",
+                    "fastapi", "dotnet", "elasticsearch", "rabbitmq", "nginx", "apache",
+                    "cicd", "ci-cd", "devops", "jira", "confluence", "grafana", "prometheus");
+            if (!neverCore.contains(normalized) && LEGACY_CORE.contains(normalized)) {
+                core.add(skill);
+            }
+        }
+        return core;
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(SkillClassifierBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,87 @@
+package com.ats.benchmark;
+
+import com.ats.analyzer.parser.TextCleaner;
+import com.ats.analyzer.parser.TextNormalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the single-pass TextNormalizer against the legacy regex chain.
+ *
+ * Run with:
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.ats.benchmark.TextNormalizerBenchmark
+ * (JMH command-line options can be passed through -Dexec.args)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextNormalizerBenchmark {
+
+    // Document size in characters (1 KB, 100 KB, 5 MB)
+    @Param({ "1024", "102400", "5242880" })
+    public int size;
+
+    private String text;
+
+    @Setup
+    public void setup() {
+        text = BenchmarkData.document(size);
+    }
+
+    @Benchmark
+    public String legacyRegexChain() {
+        return legacyClean(text);
+    }
+
+    @Benchmark
+    public String singlePassCompatible() {
+        return TextCleaner.clean(text);
+    }
+
+    @Benchmark
+    public String singlePassPreserveSymbols() {
+        return TextNormalizer.normalize(text, TextNormalizer.Mode.PRESERVE_SYMBOLS);
+    }
+
+    /**
+     * Verbatim copy of the pre-normalizer TextCleaner.clean implementation.
+     */
+    static String legacyClean(String rawText) {
+        if (rawText == null || rawText.trim().isEmpty()) {
+            return "";
+        }
+        String cleaned = rawText.toLowerCase();
+        cleaned = cleaned.replaceAll("\\d+", " ");
+        cleaned = cleaned.replaceAll("[^a-z\\s]", " ");
+        cleaned = cleaned.replaceAll("\\s+", " ");
+        return cleaned.trim();
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(TextNormalizerBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
@@ -0,0 +1,213 @@
+package com.ats.benchmark;
+
+import com.ats.SmartResumeAnalyzerWebApplication;
+import com.ats.TestConstants;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Throughput and latency of POST /api/analyze with requests served on
+ * platform threads (Tomcat's fixed pool) or on virtual threads, at 50, 200
+ * and 1000 concurrent clients.
+ *
+ * Starts the application on a random port in the chosen mode, with the
+ * analysis cache off so every request parses its PDF, then runs closed-loop
+ * clients for a fixed time per level. Clients upload slowly (the body in
+ * 512-byte pieces with a pause after each), standing in for the blocking
+ * multipart reads of real traffic: on platform threads each slow upload
+ * holds a pool thread, on virtual threads it only holds a carrier while
+ * data is there. Clients and server share the JVM, so compare modes on the
+ * same machine rather than reading the numbers as absolute capacity.
+ *
+ * Run each mode in its own JVM (virtual needs a Java 21 runtime), with an
+ * optional number of seconds per level:
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java
+ * "-Dexec.args=-cp %classpath com.ats.benchmark.VirtualThreadLoadTest platform 20"
+ * and the same with "virtual" instead of "platform".
+ */
+public class VirtualThreadLoadTest {
+
+    private static final int[] CLIENTS = { 50, 200, 1000 };
+    private static final int UPLOAD_CHUNK = 512;
+    private static final long UPLOAD_PAUSE_MILLIS = 5;
+    private static final String BOUNDARY = "load-test-boundary";
+
+    public static void main(String[] args) throws Exception {
+        boolean virtual = args.length > 0 && args[0].equalsIgnoreCase("virtual");
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        if (virtual && Runtime.version().feature() < 21) {
+            System.err.println("Virtual threads need a Java 21 runtime; this is Java " + Runtime.version());
+            System.exit(1);
+        }
+        // Keep-alive connections for every client
+        System.setProperty("http.maxConnections", String.valueOf(CLIENTS[CLIENTS.length - 1]));
+
+        ConfigurableApplicationContext app = new SpringApplicationBuilder(SmartResumeAnalyzerWebApplication.class)
+                .properties("server.port=0",
+                        "spring.threads.virtual.enabled=" + virtual,
+                        "analyzer.cache.enabled=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.apache.pdfbox=ERROR")
+                .run();
+        try {
+            URL url = new URL("http://localhost:" + app.getEnvironment().getProperty("local.server.port")
+                    + "/api/analyze");
+            byte[] body = multipartBody(createPdf(2), TestConstants.SAMPLE_JD_BACKEND);
+            System.out.printf("Mode: %s threads, %d s per level, %d CPUs, request body %d bytes%n%n",
+                    virtual ? "virtual" : "platform", seconds, Runtime.getRuntime().availableProcessors(),
+                    body.length);
+
+            run(url, body, CLIENTS[0], Math.max(2, seconds / 2)); // warm-up
+            System.out.printf("%8s %10s %10s %10s %10s %8s%n", "Clients", "Requests", "Req/s", "p50 ms",
+                    "p99 ms", "Errors");
+            for (int clients : CLIENTS) {
+                Level level = run(url, body, clients, seconds);
+                System.out.printf("%8d %10d %10.1f %10.1f %10.1f %8d%n", clients, level.latencies.length,
+                        level.latencies.length / (double) seconds, level.percentile(0.50),
+                        level.percentile(0.99), level.errors);
+            }
+        } finally {
+            app.close();
+        }
+    }
+
+    /**
+     * Clients send requests back to back until the time is up.
+     */
+    private static Level run(URL url, byte[] body, int clients, int seconds) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        List<List<Long>> latencies = new ArrayList<>();
+        AtomicLong errors = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(clients);
+        for (int i = 0; i < clients; i++) {
+            List<Long> own = new ArrayList<>();
+            latencies.add(own);
+            Thread client = new Thread(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        if (post(url, body)) {
+                            own.add(System.nanoTime() - start);
+                        } else {
+                            errors.incrementAndGet();
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }, "load-client-" + i);
+            client.setDaemon(true);
+            client.start();
+        }
+        done.await();
+        return new Level(latencies.stream().flatMap(List::stream).mapToLong(Long::longValue).sorted().toArray(),
+                errors.get());
+    }
+
+    /**
+     * One upload, sent slowly; true on a 200 response.
+     */
+    private static boolean post(URL url, byte[] body) {
+        try {
+            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            connection.setRequestMethod("POST");
+            connection.setDoOutput(true);
+            connection.setConnectTimeout(60_000);
+            connection.setReadTimeout(120_000);
+            connection.setFixedLengthStreamingMode(body.length);
+            connection.setRequestProperty("Content-Type", "multipart/form-data; boundary=" + BOUNDARY);
+            try (OutputStream out = connection.getOutputStream()) {
+                for (int offset = 0; offset < body.length; offset += UPLOAD_CHUNK) {
+                    out.write(body, offset, Math.min(UPLOAD_CHUNK, body.length - offset));
+                    out.flush();
+                    Thread.sleep(UPLOAD_PAUSE_MILLIS);
+                }
+            }
+            int status = connection.getResponseCode();
+            try (InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+                if (in != null) {
+                    in.readAllBytes();
+                }
+            }
+            return status == 200;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static byte[] multipartBody(byte[] pdf, String jobDescription) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.write(("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"resume\"; filename=\"resume.pdf\"\r\n"
+                + "Content-Type: application/pdf\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.write(pdf);
+        body.write(("\r\n--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"jobDescription\"\r\n\r\n"
+                + jobDescription + "\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return body.toByteArray();
+    }
+
+    /**
+     * Pages of resume text.
+     */
+    private static byte[] createPdf(int pages) throws IOException {
+        try (PDDocument document = new PDDocument();
+                ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (int page = 1; page <= pages; page++) {
+                PDPage pdPage = new PDPage();
+                document.addPage(pdPage);
+                try (PDPageContentStream content = new PDPageContentStream(document, pdPage)) {
+                    content.beginText();
+                    content.setFont(PDType1Font.HELVETICA, 10);
+                    content.newLineAtOffset(50, 740);
+                    for (int line = 0; line < 50; line++) {
+                        content.showText("Built Java and Spring Boot services with PostgreSQL, Docker and AWS,"
+                                + " line " + page + "." + line);
+                        content.newLineAtOffset(0, -12);
+                    }
+                    content.endText();
+                }
+            }
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+
+    private static final class Level {
+        private final long[] latencies;
+        private final long errors;
+
+        Level(long[] latencies, long errors) {
+            this.latencies = latencies;
+            this.errors = errors;
+        }
+
+        double percentile(double p) {
+            if (latencies.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.ceil(p * latencies.length) - 1;
+            return latencies[Math.max(0, index)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.ats.web.controller;
+
+import com.ats.TestConstants;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Integration tests for the admin (dictionary and scoring model) endpoints.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Admin Controller Integration Tests")
+@SuppressWarnings("null")
+class AdminControllerTest {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Test
+        @DisplayName("GET /api/admin/dictionary - Should describe the active dictionary")
+        void testDictionary_ReturnsActiveSnapshot() throws Exception {
+                mockMvc.perform(get("/api/admin/dictionary"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.version", greaterThan(0)))
+                                .andExpect(jsonPath("$.source").value("classpath"))
+                                .andExpect(jsonPath("$.skills", greaterThan(100)))
+                                .andExpect(jsonPath("$.loadedAt").exists());
+        }
+
+        @Test
+        @DisplayName("POST /api/admin/dictionary/reload - Should publish a new dictionary version")
+        void testReload_PublishesNewVersion() throws Exception {
+                String before = mockMvc.perform(get("/api/admin/dictionary"))
+                                .andReturn().getResponse().getContentAsString();
+                int version = JsonPath.read(before, "$.version");
+
+                mockMvc.perform(post("/api/admin/dictionary/reload"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.version", greaterThan(version)));
+
+                mockMvc.perform(get("/api/admin/dictionary"))
+                                .andExpect(jsonPath("$.version", greaterThan(version)));
+        }
+
+        @Test
+        @DisplayName("GET /api/admin/scoring-model - Should describe the active scoring model")
+        void testScoringModel_ReturnsActiveModel() throws Exception {
+                mockMvc.perform(get("/api/admin/scoring-model"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.version", greaterThan(0)))
+                                .andExpect(jsonPath("$.values['skill.core-weight']").value(0.6))
+                                .andExpect(jsonPath("$.values['compatibility.TECH_CORE.TECHNICAL']").value(0.95));
+        }
+
+        @Test
+        @DisplayName("POST /api/admin/scoring-model/reload - Should publish the next model version")
+        void testScoringModelReload_TakesOneVersion() throws Exception {
+                String before = mockMvc.perform(get("/api/admin/scoring-model"))
+                                .andReturn().getResponse().getContentAsString();
+                int version = JsonPath.read(before, "$.version");
+
+                mockMvc.perform(post("/api/admin/scoring-model/reload"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.version").value(version + 1))
+                                .andExpect(jsonPath("$.source").value("classpath"))
+                                .andExpect(jsonPath("$.values['skill.core-weight']").value(0.6));
+                mockMvc.perform(post("/api/admin/scoring-model/reload"))
+                                .andExpect(jsonPath("$.version").value(version + 2));
+        }
+
+        @Test
+        @DisplayName("Shadow scoring - Should start, sample analyses and stop")
+        void testShadow_Lifecycle() throws Exception {
+                mockMvc.perform(get("/api/admin/scoring-model/shadow"))
+                                .andExpect(status().isNotFound());
+
+                mockMvc.perform(put("/api/admin/scoring-model/shadow")
+                                .contentType(MediaType.TEXT_PLAIN)
+                                .content("skill.core-weight = 0.7\nskill.overall-weight = 0.3\n")
+                                .param("sampleRate", "1.0"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.values['skill.core-weight']").value(0.7))
+                                .andExpect(jsonPath("$.sampleRate").value(1.0));
+
+                mockMvc.perform(multipart("/api/analyze")
+                                .file(new MockMultipartFile("resume", "resume.txt", "text/plain",
+                                                TestConstants.SAMPLE_BACKEND_RESUME.getBytes()))
+                                .param("jobDescription", TestConstants.SAMPLE_JD_BACKEND))
+                                .andExpect(status().isOk());
+
+                mockMvc.perform(get("/api/admin/scoring-model/shadow"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.sampleRate").value(1.0))
+                                .andExpect(jsonPath("$.compared").isNumber());
+
+                mockMvc.perform(delete("/api/admin/scoring-model/shadow"))
+                                .andExpect(status().isOk());
+                mockMvc.perform(get("/api/admin/scoring-model/shadow"))
+                                .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("PUT /api/admin/scoring-model/shadow - Should reject an invalid model with 400")
+        void testShadow_InvalidModel_BadRequest() throws Exception {
+                mockMvc.perform(put("/api/admin/scoring-model/shadow")
+                                .contentType(MediaType.TEXT_PLAIN)
+                                .content("skill.unknown = 1"))
+                                .andExpect(status().isBadRequest());
+        }
+}
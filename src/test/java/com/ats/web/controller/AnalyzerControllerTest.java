@@ -1,16 +1,33 @@
 package com.ats.web.controller;
 
 import com.ats.TestConstants;
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.json.JsonCompareMode;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static org.assertj.core.api.Assertions.as;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.STRING;
 import static org.hamcrest.Matchers.*;
 
 /**
@@ -53,7 +70,8 @@ class AnalyzerControllerTest {
                                 .andExpect(jsonPath("$.missingSkills").isArray())
                                 .andExpect(jsonPath("$.extraSkills").isArray())
                                 .andExpect(jsonPath("$.suggestions").isArray())
-                                .andExpect(jsonPath("$.suggestions", not(empty())));
+                                .andExpect(jsonPath("$.suggestions", not(empty())))
+                                .andExpect(jsonPath("$.dictionaryVersion", greaterThan(0)));
         }
 
         @Test
@@ -339,4 +357,432 @@ class AnalyzerControllerTest {
                                 .andExpect(jsonPath("$.score", greaterThan(10.0)))
                                 .andExpect(jsonPath("$.score", lessThan(95.0)));
         }
+
+        @Test
+        @DisplayName("POST /api/analyze - Fuzzy mode should recognize misspelled resume skills")
+        void testAnalyze_FuzzyMode_MarksMisspelledSkills() throws Exception {
+                // Arrange
+                MockMultipartFile resumeFile = new MockMultipartFile(
+                                "resume",
+                                "typo-resume.txt",
+                                "text/plain",
+                                TestConstants.SAMPLE_BACKEND_RESUME.replace("Docker", "Dokcer").getBytes());
+
+                // Act & Assert
+                mockMvc.perform(multipart("/api/analyze")
+                                .file(resumeFile)
+                                .param("jobDescription", TestConstants.SAMPLE_JD_BACKEND)
+                                .param("fuzzy", "true"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.fuzzyMatches.docker").value("dokcer"))
+                                .andExpect(jsonPath("$.matchedSkills", hasItem("docker")));
+
+                mockMvc.perform(multipart("/api/analyze")
+                                .file(resumeFile)
+                                .param("jobDescription", TestConstants.SAMPLE_JD_BACKEND))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.fuzzyMatches").isEmpty())
+                                .andExpect(jsonPath("$.matchedSkills", not(hasItem("docker"))));
+        }
+
+        @Test
+        @DisplayName("POST /api/analyze - explain=true should return the scoring trace")
+        void testAnalyze_Explain_ReturnsScoringTrace() throws Exception {
+                // Arrange
+                MockMultipartFile resumeFile = new MockMultipartFile(
+                                "resume",
+                                "resume.txt",
+                                "text/plain",
+                                TestConstants.SAMPLE_BACKEND_RESUME.getBytes());
+
+                // Act & Assert
+                mockMvc.perform(multipart("/api/analyze")
+                                .file(resumeFile)
+                                .param("jobDescription", TestConstants.SAMPLE_JD_BACKEND)
+                                .param("explain", "true"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.scoringTrace.roleIntent").exists())
+                                .andExpect(jsonPath("$.scoringTrace.resumeProfile").exists())
+                                .andExpect(jsonPath("$.scoringTrace.coreMatched").isArray())
+                                .andExpect(jsonPath("$.scoringTrace.coreMissing").isArray())
+                                .andExpect(jsonPath("$.scoringTrace.clampedSkillScore").isNumber())
+                                .andExpect(jsonPath("$.scoringTrace.compatibilityFactor").isNumber());
+
+                mockMvc.perform(multipart("/api/analyze")
+                                .file(resumeFile)
+                                .param("jobDescription", TestConstants.SAMPLE_JD_BACKEND))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.scoringTrace").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("POST /api/analyze - domain=true should apply and trace the domain factor")
+        void testAnalyze_DomainStage_TracedAndTimed() throws Exception {
+                // Arrange
+                MockMultipartFile resumeFile = new MockMultipartFile(
+                                "resume",
+                                "resume.txt",
+                                "text/plain",
+                                TestConstants.SAMPLE_FRONTEND_RESUME.getBytes());
+
+                // Act & Assert
+                mockMvc.perform(multipart("/api/analyze")
+                                .file(resumeFile)
+                                .param("jobDescription", TestConstants.SAMPLE_JD_DEVOPS)
+                                .param("domain", "true")
+                                .param("explain", "true"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.scoringTrace.domainSimilarity", lessThan(0.5)))
+                                .andExpect(jsonPath("$.scoringTrace.domainFactor", lessThan(1.0)));
+
+                mockMvc.perform(get("/api/metrics"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.stages.parse.count", greaterThan(0)))
+                                .andExpect(jsonPath("$.stages.domain.count", greaterThan(0)))
+                                .andExpect(jsonPath("$.stages.domain.meanMicros").isNumber());
+        }
+
+        @Test
+        @DisplayName("POST /api/what-if - Should rank missing skills by score gain")
+        void testWhatIf_ReturnsRankedGains() throws Exception {
+                // Arrange
+                MockMultipartFile resumeFile = new MockMultipartFile(
+                                "resume",
+                                "resume.txt",
+                                "text/plain",
+                                TestConstants.SAMPLE_FRONTEND_RESUME.getBytes());
+
+                // Act & Assert
+                mockMvc.perform(multipart("/api/what-if")
+                                .file(resumeFile)
+                                .param("jobDescription", TestConstants.SAMPLE_JD_FULLSTACK)
+                                .param("limit", "2"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.score").isNumber())
+                                .andExpect(jsonPath("$.missingCount", greaterThan(2)))
+                                .andExpect(jsonPath("$.gains", hasSize(2)))
+                                .andExpect(jsonPath("$.gains[0].skill").isString())
+                                .andExpect(jsonPath("$.gains[0].score").isNumber())
+                                .andExpect(jsonPath("$.gains[0].gain").isNumber());
+
+                mockMvc.perform(multipart("/api/what-if")
+                                .file(resumeFile)
+                                .param("jobDescription", TestConstants.SAMPLE_JD_FULLSTACK)
+                                .param("limit", "0"))
+                                .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("POST /api/analyze - Repeated submissions should be served from the cache")
+        void testAnalyze_RepeatedSubmission_ServedFromCache() throws Exception {
+                // Arrange: content no other test uploads
+                MockMultipartFile resumeFile = new MockMultipartFile(
+                                "resume",
+                                "cached-resume.txt",
+                                "text/plain",
+                                (TestConstants.SAMPLE_BACKEND_RESUME + "\nRef " + System.nanoTime()).getBytes());
+                long resultHits = cacheCounter("result", "hits");
+                long textHits = cacheCounter("text", "hits");
+
+                // Act & Assert: same resume and JD (reflowed) hits the result cache
+                String first = mockMvc.perform(multipart("/api/analyze")
+                                .file(resumeFile)
+                                .param("jobDescription", TestConstants.SAMPLE_JD_BACKEND))
+                                .andExpect(status().isOk())
+                                .andReturn().getResponse().getContentAsString();
+                mockMvc.perform(multipart("/api/analyze")
+                                .file(resumeFile)
+                                .param("jobDescription", "  " + TestConstants.SAMPLE_JD_BACKEND + "\n\n"))
+                                .andExpect(status().isOk())
+                                .andExpect(content().json(first, JsonCompareMode.STRICT));
+                assertThat(cacheCounter("result", "hits")).isEqualTo(resultHits + 1);
+
+                // A different JD reuses the extracted resume text
+                mockMvc.perform(multipart("/api/analyze")
+                                .file(resumeFile)
+                                .param("jobDescription", TestConstants.SAMPLE_JD_FULLSTACK))
+                                .andExpect(status().isOk());
+                assertThat(cacheCounter("text", "hits")).isEqualTo(textHits + 1);
+
+                mockMvc.perform(delete("/api/admin/cache"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.result.entries").value(0))
+                                .andExpect(jsonPath("$.text.entries").value(0));
+        }
+
+        @Test
+        @DisplayName("POST /api/jd - Handles should replace the JD text in later analyses")
+        void testJdHandle_AnalyzeWithHandle_SameAsText() throws Exception {
+                // Arrange
+                MockMultipartFile resumeFile = new MockMultipartFile(
+                                "resume",
+                                "resume.txt",
+                                "text/plain",
+                                TestConstants.SAMPLE_FULLSTACK_RESUME.getBytes());
+                String handle = JsonPath.read(mockMvc.perform(post("/api/jd")
+                                .param("jobDescription", TestConstants.SAMPLE_JD_FULLSTACK))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.roleIntent").isString())
+                                .andExpect(jsonPath("$.skills", not(empty())))
+                                .andReturn().getResponse().getContentAsString(), "$.handle");
+
+                // Act & Assert
+                String byText = mockMvc.perform(multipart("/api/analyze")
+                                .file(resumeFile)
+                                .param("jobDescription", TestConstants.SAMPLE_JD_FULLSTACK))
+                                .andExpect(status().isOk())
+                                .andReturn().getResponse().getContentAsString();
+                mockMvc.perform(multipart("/api/analyze")
+                                .file(resumeFile)
+                                .param("jd", handle))
+                                .andExpect(status().isOk())
+                                .andExpect(content().json(byText, JsonCompareMode.STRICT));
+                mockMvc.perform(multipart("/api/what-if")
+                                .file(resumeFile)
+                                .param("jd", handle))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.gains").isArray());
+                mockMvc.perform(get("/api/jd/" + handle))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.handle").value(handle));
+        }
+
+        @Test
+        @DisplayName("POST /api/analyze - Should reject unknown handles and ambiguous JDs")
+        void testJdHandle_UnknownOrAmbiguous_Rejected() throws Exception {
+                // Arrange
+                MockMultipartFile resumeFile = new MockMultipartFile(
+                                "resume",
+                                "resume.txt",
+                                "text/plain",
+                                TestConstants.SAMPLE_BACKEND_RESUME.getBytes());
+
+                // Act & Assert
+                mockMvc.perform(multipart("/api/analyze")
+                                .file(resumeFile)
+                                .param("jd", "0".repeat(64)))
+                                .andExpect(status().isNotFound())
+                                .andExpect(jsonPath("$.message", containsString("POST /api/jd")));
+                mockMvc.perform(multipart("/api/analyze")
+                                .file(resumeFile)
+                                .param("jd", "0".repeat(64))
+                                .param("jobDescription", TestConstants.SAMPLE_JD_BACKEND))
+                                .andExpect(status().isBadRequest());
+                mockMvc.perform(get("/api/jd/" + "0".repeat(64)))
+                                .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("POST /api/analyze/bulk - Should stream one NDJSON line per resume in a ZIP")
+        void testAnalyzeBulk_Zip_StreamsNdjson() throws Exception {
+                // Arrange
+                ByteArrayOutputStream zipBytes = new ByteArrayOutputStream();
+                try (ZipOutputStream zip = new ZipOutputStream(zipBytes)) {
+                        addEntry(zip, "backend.txt", TestConstants.SAMPLE_BACKEND_RESUME);
+                        addEntry(zip, "cvs/frontend.txt", TestConstants.SAMPLE_FRONTEND_RESUME);
+                        addEntry(zip, "cvs/fullstack.txt", TestConstants.SAMPLE_FULLSTACK_RESUME);
+                        addEntry(zip, "photo.jpg", "not a resume");
+                        addEntry(zip, "__MACOSX/._backend.txt", "metadata");
+                }
+                MockMultipartFile archive = new MockMultipartFile(
+                                "resumes",
+                                "resumes.zip",
+                                "application/zip",
+                                zipBytes.toByteArray());
+
+                // Act
+                MvcResult async = mockMvc.perform(multipart("/api/analyze/bulk")
+                                .file(archive)
+                                .param("jobDescription", TestConstants.SAMPLE_JD_BACKEND))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+                String body = mockMvc.perform(asyncDispatch(async))
+                                .andExpect(status().isOk())
+                                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                                .andReturn().getResponse().getContentAsString();
+
+                // Assert
+                List<String> lines = body.lines().toList();
+                assertThat(lines).hasSize(5);
+                assertThat(lines.subList(0, 4)).filteredOn(line -> line.contains("\"result\""))
+                                .hasSize(3)
+                                .allMatch(line -> line.contains("\"score\""));
+                assertThat(lines.subList(0, 4)).filteredOn(line -> line.contains("\"error\""))
+                                .singleElement(as(STRING)).contains("photo.jpg");
+                Map<String, Object> summary = JsonPath.read(lines.get(4), "$");
+                assertThat(summary).containsEntry("done", true).containsEntry("total", 4)
+                                .containsEntry("failed", 1).containsEntry("truncated", false);
+        }
+
+        @Test
+        @DisplayName("POST /api/analyze/bulk - Should accept many parts with a JD handle")
+        void testAnalyzeBulk_MultipleParts_WithHandle() throws Exception {
+                // Arrange
+                String handle = JsonPath.read(mockMvc.perform(post("/api/jd")
+                                .param("jobDescription", TestConstants.SAMPLE_JD_FRONTEND))
+                                .andReturn().getResponse().getContentAsString(), "$.handle");
+
+                // Act
+                MvcResult async = mockMvc.perform(multipart("/api/analyze/bulk")
+                                .file(new MockMultipartFile("resumes", "a.txt", "text/plain",
+                                                TestConstants.SAMPLE_FRONTEND_RESUME.getBytes()))
+                                .file(new MockMultipartFile("resumes", "b.txt", "text/plain",
+                                                TestConstants.SAMPLE_BACKEND_RESUME.getBytes()))
+                                .param("jd", handle))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+                String body = mockMvc.perform(asyncDispatch(async))
+                                .andExpect(status().isOk())
+                                .andReturn().getResponse().getContentAsString();
+
+                // Assert
+                assertThat(body.lines()).hasSize(3);
+                assertThat(body).contains("\"name\":\"a.txt\"", "\"name\":\"b.txt\"", "\"jd\":\"" + handle);
+        }
+
+        @Test
+        @DisplayName("POST /api/analyze/bulk - Should reject a missing JD before streaming")
+        void testAnalyzeBulk_WithoutJd_Returns400() throws Exception {
+                mockMvc.perform(multipart("/api/analyze/bulk")
+                                .file(new MockMultipartFile("resumes", "a.txt", "text/plain",
+                                                TestConstants.SAMPLE_FRONTEND_RESUME.getBytes())))
+                                .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("POST /api/analyze - Should reject resumes over the resume size limit")
+        void testAnalyze_WithResumeOverLimit_Returns413() throws Exception {
+                // Arrange
+                MockMultipartFile resumeFile = new MockMultipartFile(
+                                "resume",
+                                "resume.txt",
+                                "text/plain",
+                                new byte[6 * 1024 * 1024]);
+
+                // Act & Assert
+                mockMvc.perform(multipart("/api/analyze")
+                                .file(resumeFile)
+                                .param("jobDescription", TestConstants.SAMPLE_JD_BACKEND))
+                                .andExpect(status().isPayloadTooLarge())
+                                .andExpect(jsonPath("$.message", containsString("5MB")));
+        }
+
+        @Test
+        @DisplayName("POST /api/analyze/async - Should queue the analysis and serve the result by id")
+        void testAnalyzeAsync_SubmitThenPoll_ReturnsResult() throws Exception {
+                // Arrange
+                MockMultipartFile resumeFile = new MockMultipartFile(
+                                "resume",
+                                "backend-resume.txt",
+                                "text/plain",
+                                TestConstants.SAMPLE_BACKEND_RESUME.getBytes());
+
+                // Act
+                MvcResult submitted = mockMvc.perform(multipart("/api/analyze/async")
+                                .file(resumeFile)
+                                .param("jobDescription", TestConstants.SAMPLE_JD_BACKEND))
+                                .andExpect(status().isAccepted())
+                                .andExpect(jsonPath("$.state", anyOf(is("QUEUED"), is("RUNNING"), is("DONE"))))
+                                .andReturn();
+                String id = JsonPath.read(submitted.getResponse().getContentAsString(), "$.id");
+                String status = awaitJob(id);
+
+                // Assert
+                assertThat(submitted.getResponse().getHeader("Location")).isEqualTo("/api/analyze/jobs/" + id);
+                assertThat((String) JsonPath.read(status, "$.state")).isEqualTo("DONE");
+                assertThat((Double) JsonPath.read(status, "$.result.score")).isBetween(10.0, 95.0);
+                mockMvc.perform(get("/api/metrics"))
+                                .andExpect(jsonPath("$.async.completed", greaterThanOrEqualTo(1)));
+        }
+
+        @Test
+        @DisplayName("GET /api/analyze/jobs/{id}/events - Should stream status events until the job is done")
+        void testAnalyzeAsync_Events_EndWithResult() throws Exception {
+                // Arrange
+                String id = JsonPath.read(mockMvc.perform(multipart("/api/analyze/async")
+                                .file(new MockMultipartFile("resume", "a.txt", "text/plain",
+                                                TestConstants.SAMPLE_FRONTEND_RESUME.getBytes()))
+                                .param("jobDescription", TestConstants.SAMPLE_JD_FRONTEND))
+                                .andReturn().getResponse().getContentAsString(), "$.id");
+
+                // Act
+                MvcResult async = mockMvc.perform(get("/api/analyze/jobs/" + id + "/events"))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+                String body = mockMvc.perform(asyncDispatch(async))
+                                .andExpect(status().isOk())
+                                .andReturn().getResponse().getContentAsString();
+
+                // Assert
+                assertThat(body).contains("event:status").contains("\"id\":\"" + id + "\"");
+                assertThat(body.lines().filter(line -> line.startsWith("data:")).reduce((a, b) -> b))
+                                .hasValueSatisfying(last -> assertThat(last).contains("\"state\":\"DONE\"",
+                                                "\"score\""));
+        }
+
+        @Test
+        @DisplayName("POST /api/analyze/async - Should check inputs before queueing; unknown jobs get 404")
+        void testAnalyzeAsync_InvalidOrUnknown_Rejected() throws Exception {
+                mockMvc.perform(multipart("/api/analyze/async")
+                                .file(new MockMultipartFile("resume", "a.txt", "text/plain",
+                                                TestConstants.SAMPLE_FRONTEND_RESUME.getBytes())))
+                                .andExpect(status().isBadRequest());
+                mockMvc.perform(get("/api/analyze/jobs/no-such-job"))
+                                .andExpect(status().isNotFound());
+                mockMvc.perform(get("/api/analyze/jobs/no-such-job/events"))
+                                .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("GET /api/metrics - Should report each execution lane's load")
+        void testMetrics_ReportsLanes() throws Exception {
+                // Arrange
+                MockMultipartFile resumeFile = new MockMultipartFile(
+                                "resume",
+                                "lanes-resume.txt",
+                                "text/plain",
+                                (TestConstants.SAMPLE_BACKEND_RESUME + " lanes").getBytes());
+                mockMvc.perform(multipart("/api/analyze")
+                                .file(resumeFile)
+                                .param("jobDescription", TestConstants.SAMPLE_JD_BACKEND))
+                                .andExpect(status().isOk());
+                mockMvc.perform(get("/api/health"))
+                                .andExpect(status().isOk());
+
+                // Act & Assert
+                mockMvc.perform(get("/api/metrics"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.lanes.extract.admitted", greaterThan(0)))
+                                .andExpect(jsonPath("$.lanes.score.admitted", greaterThan(0)))
+                                .andExpect(jsonPath("$.lanes.score.active", is(0)))
+                                .andExpect(jsonPath("$.lanes.control.admitted", greaterThan(0)))
+                                .andExpect(jsonPath("$.lanes.control.active", is(1)))
+                                .andExpect(jsonPath("$.lanes.control.limit").isNumber());
+        }
+
+        private static void addEntry(ZipOutputStream zip, String name, String content) throws Exception {
+                zip.putNextEntry(new ZipEntry(name));
+                zip.write(content.getBytes());
+                zip.closeEntry();
+        }
+
+        private String awaitJob(String id) throws Exception {
+                long deadline = System.currentTimeMillis() + 10_000;
+                while (true) {
+                        String status = mockMvc.perform(get("/api/analyze/jobs/" + id))
+                                        .andExpect(status().isOk())
+                                        .andReturn().getResponse().getContentAsString();
+                        String state = JsonPath.read(status, "$.state");
+                        if (state.equals("DONE") || state.equals("FAILED") || System.currentTimeMillis() > deadline) {
+                                return status;
+                        }
+                        Thread.sleep(20);
+                }
+        }
+
+        private long cacheCounter(String level, String counter) throws Exception {
+                String metrics = mockMvc.perform(get("/api/metrics"))
+                                .andReturn().getResponse().getContentAsString();
+                return ((Number) JsonPath.read(metrics, "$.cache." + level + "." + counter)).longValue();
+        }
 }
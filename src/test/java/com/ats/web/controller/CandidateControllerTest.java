@@ -0,0 +1,87 @@
+package com.ats.web.controller;
+
+import com.ats.TestConstants;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Integration tests for the candidate pool endpoints.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Candidate Controller Integration Tests")
+@SuppressWarnings("null")
+class CandidateControllerTest {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Test
+        @DisplayName("POST /api/candidates/match - Should rank pooled candidates for a JD")
+        void testMatch_RanksCandidates() throws Exception {
+                // Arrange
+                addCandidate("pool-backend", TestConstants.SAMPLE_BACKEND_RESUME);
+                addCandidate("pool-frontend", TestConstants.SAMPLE_FRONTEND_RESUME);
+
+                // Act & Assert
+                mockMvc.perform(post("/api/candidates/match")
+                                .param("jobDescription", TestConstants.SAMPLE_JD_BACKEND)
+                                .param("k", "1"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.poolSize", greaterThanOrEqualTo(2)))
+                                .andExpect(jsonPath("$.matches", hasSize(1)))
+                                .andExpect(jsonPath("$.matches[0].id").value("pool-backend"))
+                                .andExpect(jsonPath("$.matches[0].matchedSkills", hasItem("java")));
+
+                mockMvc.perform(delete("/api/candidates/pool-frontend"))
+                                .andExpect(status().isNoContent());
+        }
+
+        @Test
+        @DisplayName("POST /api/candidates - Should return the analyzed candidate")
+        void testAddCandidate_ReturnsAnalysis() throws Exception {
+                addCandidate("pool-added", TestConstants.SAMPLE_BACKEND_RESUME);
+
+                mockMvc.perform(get("/api/candidates/pool-added"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.profile").value("TECHNICAL"))
+                                .andExpect(jsonPath("$.skills", hasItem("java")));
+
+                mockMvc.perform(delete("/api/candidates/pool-added"))
+                                .andExpect(status().isNoContent());
+                mockMvc.perform(get("/api/candidates/pool-added"))
+                                .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("POST /api/candidates/match - Should reject a blank job description")
+        void testMatch_BlankJobDescription_ReturnsBadRequest() throws Exception {
+                mockMvc.perform(post("/api/candidates/match")
+                                .param("jobDescription", "   "))
+                                .andExpect(status().isBadRequest());
+        }
+
+        private void addCandidate(String id, String resume) throws Exception {
+                MockMultipartFile resumeFile = new MockMultipartFile(
+                                "resume",
+                                id + ".txt",
+                                "text/plain",
+                                resume.getBytes());
+                mockMvc.perform(multipart("/api/candidates")
+                                .file(resumeFile)
+                                .param("id", id))
+                                .andExpect(status().isOk());
+        }
+}
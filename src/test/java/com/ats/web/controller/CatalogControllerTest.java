@@ -0,0 +1,101 @@
+package com.ats.web.controller;
+
+import com.ats.TestConstants;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Integration tests for the job catalog endpoints.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Catalog Controller Integration Tests")
+@SuppressWarnings("null")
+class CatalogControllerTest {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private ObjectMapper objectMapper;
+
+        @Test
+        @DisplayName("POST /api/catalog/match - Should rank catalog jobs for a resume")
+        void testMatch_RanksCatalogJobs() throws Exception {
+                // Arrange
+                addJob("catalog-backend", "Backend Engineer", TestConstants.SAMPLE_JD_BACKEND);
+                addJob("catalog-design", "Product Designer", TestConstants.SAMPLE_JD_DESIGN);
+                MockMultipartFile resumeFile = new MockMultipartFile(
+                                "resume",
+                                "backend-resume.txt",
+                                "text/plain",
+                                TestConstants.SAMPLE_BACKEND_RESUME.getBytes());
+
+                // Act & Assert
+                mockMvc.perform(multipart("/api/catalog/match")
+                                .file(resumeFile)
+                                .param("k", "1"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.catalogSize", greaterThanOrEqualTo(2)))
+                                .andExpect(jsonPath("$.matches", hasSize(1)))
+                                .andExpect(jsonPath("$.matches[0].id").value("catalog-backend"))
+                                .andExpect(jsonPath("$.matches[0].matchedSkills", hasItem("java")));
+        }
+
+        @Test
+        @DisplayName("POST /api/catalog/jobs - Should return the analyzed job")
+        void testAddJob_ReturnsAnalysis() throws Exception {
+                addJob("catalog-added", "Backend Engineer", TestConstants.SAMPLE_JD_BACKEND)
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.roleIntent").exists())
+                                .andExpect(jsonPath("$.designRole").value(false))
+                                .andExpect(jsonPath("$.skills", hasItem("java")));
+
+                mockMvc.perform(get("/api/catalog/jobs/catalog-added"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.title").value("Backend Engineer"));
+
+                mockMvc.perform(delete("/api/catalog/jobs/catalog-added"))
+                                .andExpect(status().isNoContent());
+
+                mockMvc.perform(get("/api/catalog/jobs/catalog-added"))
+                                .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("POST /api/catalog/jobs - Should reject a missing description")
+        void testAddJob_MissingDescription_ReturnsBadRequest() throws Exception {
+                mockMvc.perform(post("/api/catalog/jobs")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"title\": \"Empty\"}"))
+                                .andExpect(status().isBadRequest());
+        }
+
+        private ResultActions addJob(String id, String title, String description) throws Exception {
+                Map<String, String> posting = new LinkedHashMap<>();
+                posting.put("id", id);
+                posting.put("title", title);
+                posting.put("description", description);
+                return mockMvc.perform(post("/api/catalog/jobs")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(posting)));
+        }
+}